@@ -59,6 +59,10 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     private static final Comparator<EntityId> COMPARATOR =
             Comparator.nullsFirst(Comparator.comparingLong(EntityId::getId));
     private static final Range<Long> DEFAULT_RANGE = Range.atLeast(0L);
+
+    // Canonical instances of the most frequently used ids, indexed by num for shard 0 and realm 0
+    private static final int SMALL_CACHE_SIZE = 1 << 16;
+    private static final EntityId[] SMALL_CACHE = new EntityId[SMALL_CACHE_SIZE];
     private static final Splitter SPLITTER = Splitter.on('.').omitEmptyStrings().trimResults();
 
     @Serial
@@ -74,7 +78,7 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     private final long num;
 
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
-    private final String cachedString = String.format("%d.%d.%d", shard, realm, num);
+    private final String cachedString = shard + "." + realm + "." + num;
 
     private EntityId(long shard, long realm, long num) {
         id = encode(shard, realm, num);
@@ -155,10 +159,34 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
         if (num == 0 && realm == 0 && shard == 0) {
             return EMPTY;
         }
+
+        if (shard == 0 && realm == 0 && num > 0 && num < SMALL_CACHE_SIZE) {
+            return of(num);
+        }
+
         return new EntityId(shard, realm, num);
     }
 
+    /**
+     * Gets the EntityId for the encoded id. Instances of small shard 0 and realm 0 ids, such as the node and fee
+     * accounts, are canonical and kept in an array indexed by the id, while larger ids are allocated.
+     *
+     * @param id the encoded entity id
+     * @return the EntityId
+     */
     public static EntityId of(long id) {
+        if (id == 0) {
+            return EMPTY;
+        } else if (id > 0 && id < SMALL_CACHE_SIZE) {
+            // A benign race since EntityId is immutable and any instance for the id is equal to any other
+            var entityId = SMALL_CACHE[(int) id];
+            if (entityId == null) {
+                entityId = new EntityId(id);
+                SMALL_CACHE[(int) id] = entityId;
+            }
+            return entityId;
+        }
+
         return new EntityId(id);
     }
 
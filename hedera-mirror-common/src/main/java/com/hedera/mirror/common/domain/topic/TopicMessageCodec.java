@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.topic;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.nio.ByteBuffer;
+import lombok.experimental.UtilityClass;
+
+/**
+ * A compact, versioned binary encoding of {@link TopicMessage} used to exchange messages between the importer and the
+ * gRPC API. All scalar fields are written at fixed offsets followed by the length prefixed byte arrays.
+ *
+ * <pre>
+ * version(1) flags(1) consensusTimestamp(8) sequenceNumber(8) topicId(8) payerAccountId(8) validStartTimestamp(8)
+ * chunkNum(4) chunkTotal(4) runningHashVersion(4) message(4 + n) runningHash(4 + n) initialTransactionId(4 + n)
+ * </pre>
+ *
+ * Null byte arrays are written with a length of -1 and null scalars are tracked in the flags.
+ */
+@UtilityClass
+public class TopicMessageCodec {
+
+    public static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 54;
+
+    private static final int FLAG_CHUNK_NUM = 1;
+    private static final int FLAG_CHUNK_TOTAL = 1 << 1;
+    private static final int FLAG_PAYER_ACCOUNT_ID = 1 << 2;
+    private static final int FLAG_TOPIC_ID = 1 << 3;
+    private static final int FLAG_VALID_START_TIMESTAMP = 1 << 4;
+    private static final int NULL_LENGTH = -1;
+
+    public static byte[] encode(TopicMessage topicMessage) {
+        var buffer = ByteBuffer.allocate(size(topicMessage));
+        encode(topicMessage, buffer);
+        return buffer.array();
+    }
+
+    public static void encode(TopicMessage topicMessage, ByteBuffer buffer) {
+        var chunkNum = topicMessage.getChunkNum();
+        var chunkTotal = topicMessage.getChunkTotal();
+        var payerAccountId = topicMessage.getPayerAccountId();
+        var topicId = topicMessage.getTopicId();
+        var validStartTimestamp = topicMessage.getValidStartTimestamp();
+
+        int flags = 0;
+        flags |= chunkNum != null ? FLAG_CHUNK_NUM : 0;
+        flags |= chunkTotal != null ? FLAG_CHUNK_TOTAL : 0;
+        flags |= payerAccountId != null ? FLAG_PAYER_ACCOUNT_ID : 0;
+        flags |= topicId != null ? FLAG_TOPIC_ID : 0;
+        flags |= validStartTimestamp != null ? FLAG_VALID_START_TIMESTAMP : 0;
+
+        buffer.put(VERSION);
+        buffer.put((byte) flags);
+        buffer.putLong(topicMessage.getConsensusTimestamp());
+        buffer.putLong(topicMessage.getSequenceNumber());
+        buffer.putLong(topicId != null ? topicId.getId() : 0L);
+        buffer.putLong(payerAccountId != null ? payerAccountId.getId() : 0L);
+        buffer.putLong(validStartTimestamp != null ? validStartTimestamp : 0L);
+        buffer.putInt(chunkNum != null ? chunkNum : 0);
+        buffer.putInt(chunkTotal != null ? chunkTotal : 0);
+        buffer.putInt(topicMessage.getRunningHashVersion());
+        putBytes(buffer, topicMessage.getMessage());
+        putBytes(buffer, topicMessage.getRunningHash());
+        putBytes(buffer, topicMessage.getInitialTransactionId());
+    }
+
+    /**
+     * Whether the bytes are in this encoding rather than the msgpack encoding used before it. A msgpack encoded topic
+     * message always starts with a map header, which never equals a version.
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == VERSION;
+    }
+
+    public static TopicMessage decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a topic message starting at the buffer's current position and advances the position past it.
+     */
+    public static TopicMessage decode(ByteBuffer buffer) {
+        checkVersion(buffer, buffer.position());
+        buffer.get();
+        int flags = buffer.get();
+        var topicMessage = new TopicMessage();
+        topicMessage.setConsensusTimestamp(buffer.getLong());
+        topicMessage.setSequenceNumber(buffer.getLong());
+
+        long topicId = buffer.getLong();
+        long payerAccountId = buffer.getLong();
+        long validStartTimestamp = buffer.getLong();
+        int chunkNum = buffer.getInt();
+        int chunkTotal = buffer.getInt();
+
+        topicMessage.setTopicId(isSet(flags, FLAG_TOPIC_ID) ? EntityId.of(topicId) : null);
+        topicMessage.setPayerAccountId(isSet(flags, FLAG_PAYER_ACCOUNT_ID) ? EntityId.of(payerAccountId) : null);
+        topicMessage.setValidStartTimestamp(isSet(flags, FLAG_VALID_START_TIMESTAMP) ? validStartTimestamp : null);
+        topicMessage.setChunkNum(isSet(flags, FLAG_CHUNK_NUM) ? chunkNum : null);
+        topicMessage.setChunkTotal(isSet(flags, FLAG_CHUNK_TOTAL) ? chunkTotal : null);
+        topicMessage.setRunningHashVersion(buffer.getInt());
+        topicMessage.setMessage(getBytes(buffer));
+        topicMessage.setRunningHash(getBytes(buffer));
+        topicMessage.setInitialTransactionId(getBytes(buffer));
+        return topicMessage;
+    }
+
+    public static int size(TopicMessage topicMessage) {
+        return HEADER_SIZE
+                + size(topicMessage.getMessage())
+                + size(topicMessage.getRunningHash())
+                + size(topicMessage.getInitialTransactionId());
+    }
+
+    private static void checkVersion(ByteBuffer buffer, int offset) {
+        byte version = buffer.get(offset);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported topic message encoding version " + version);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static boolean isSet(int flags, int flag) {
+        return (flags & flag) != 0;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static int size(byte[] bytes) {
+        return Integer.BYTES + (bytes != null ? bytes.length : 0);
+    }
+}
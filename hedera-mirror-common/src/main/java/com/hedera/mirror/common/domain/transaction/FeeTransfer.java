@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.transaction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hedera.mirror.common.converter.ListToStringSerializer;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The hbar fee credits of a transaction to the node and the fee accounts stored compactly as parallel arrays instead
+ * of as individual crypto transfers.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Data
+@Entity
+@NoArgsConstructor
+public class FeeTransfer implements Persistable<Long> {
+
+    @Builder.Default
+    @JsonSerialize(using = ListToStringSerializer.class)
+    private List<Long> amounts = new ArrayList<>();
+
+    @Id
+    private long consensusTimestamp;
+
+    @Builder.Default
+    @JsonSerialize(using = ListToStringSerializer.class)
+    private List<Long> entityIds = new ArrayList<>();
+
+    private EntityId payerAccountId;
+
+    public void addTransfer(long entityId, long amount) {
+        amounts.add(amount);
+        entityIds.add(entityId);
+    }
+
+    @JsonIgnore
+    @Override
+    public Long getId() {
+        return consensusTimestamp;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return true; // Since we never update and use a natural ID, avoid Hibernate querying before insert
+    }
+}
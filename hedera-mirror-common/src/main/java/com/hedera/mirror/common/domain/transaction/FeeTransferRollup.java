@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.transaction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The sum of the fee credits to an account over all transactions in a record file.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Data
+@Entity
+@IdClass(FeeTransferRollup.Id.class)
+@NoArgsConstructor
+public class FeeTransferRollup implements Persistable<FeeTransferRollup.Id> {
+
+    private long amount;
+
+    @jakarta.persistence.Id
+    private long consensusEnd;
+
+    private long consensusStart;
+
+    @jakarta.persistence.Id
+    private long entityId;
+
+    private int transferCount;
+
+    public void addTransfer(long amount) {
+        this.amount += amount;
+        this.transferCount++;
+    }
+
+    @JsonIgnore
+    @Override
+    public Id getId() {
+        Id id = new Id();
+        id.setConsensusEnd(consensusEnd);
+        id.setEntityId(entityId);
+        return id;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return true; // Since we never update and use a natural ID, avoid Hibernate querying before insert
+    }
+
+    @Data
+    public static class Id implements Serializable {
+        private static final long serialVersionUID = 4250326427718893466L;
+
+        private long consensusEnd;
+
+        private long entityId;
+    }
+}
@@ -35,7 +35,6 @@ import java.time.Instant;
 import java.util.List;
 import lombok.CustomLog;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -67,7 +66,7 @@ public class DomainUtils {
             return null;
         }
 
-        return ArrayUtils.isNotEmpty(bytes) ? Hex.encodeHexString(bytes) : "";
+        return ArrayUtils.isNotEmpty(bytes) ? HexUtils.encodeHexString(bytes) : "";
     }
 
     public static byte[] getHashBytes(HashObject hashObject) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Lowercase hex encoders that write directly into caller supplied buffers. A 512 entry lookup table maps each byte to
+ * its two hex digits so encoding avoids the intermediate {@code char[]} and {@code String} copies of commons-codec.
+ */
+@UtilityClass
+public class HexUtils {
+
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BYTE_TABLE = new byte[512];
+    private static final char[] CHAR_TABLE = new char[512];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            BYTE_TABLE[i << 1] = DIGITS[i >>> 4];
+            BYTE_TABLE[(i << 1) + 1] = DIGITS[i & 0xf];
+            CHAR_TABLE[i << 1] = (char) BYTE_TABLE[i << 1];
+            CHAR_TABLE[(i << 1) + 1] = (char) BYTE_TABLE[(i << 1) + 1];
+        }
+    }
+
+    /**
+     * Encodes the bytes as ASCII hex into the destination array.
+     *
+     * @param src    bytes to encode
+     * @param dest   destination array with at least {@code 2 * src.length} bytes remaining after offset
+     * @param offset position in the destination to start writing
+     * @return the position in the destination after the last written digit
+     */
+    public static int encode(byte[] src, byte[] dest, int offset) {
+        for (byte b : src) {
+            int index = (b & 0xff) << 1;
+            dest[offset++] = BYTE_TABLE[index];
+            dest[offset++] = BYTE_TABLE[index + 1];
+        }
+        return offset;
+    }
+
+    /**
+     * Encodes the bytes as hex into the destination array.
+     *
+     * @param src    bytes to encode
+     * @param dest   destination array with at least {@code 2 * src.length} chars remaining after offset
+     * @param offset position in the destination to start writing
+     * @return the position in the destination after the last written digit
+     */
+    public static int encode(byte[] src, char[] dest, int offset) {
+        for (byte b : src) {
+            int index = (b & 0xff) << 1;
+            dest[offset++] = CHAR_TABLE[index];
+            dest[offset++] = CHAR_TABLE[index + 1];
+        }
+        return offset;
+    }
+
+    /**
+     * Encodes the bytes as ASCII hex at the buffer's current position, advancing it by {@code 2 * src.length}.
+     *
+     * @param src  bytes to encode
+     * @param dest destination buffer
+     * @throws BufferOverflowException if the buffer does not have enough space remaining
+     */
+    public static void encode(byte[] src, ByteBuffer dest) {
+        if (dest.remaining() < encodedLength(src.length)) {
+            throw new BufferOverflowException();
+        }
+
+        if (dest.hasArray()) {
+            int position = dest.position();
+            int end = encode(src, dest.array(), dest.arrayOffset() + position);
+            dest.position(end - dest.arrayOffset());
+            return;
+        }
+
+        for (byte b : src) {
+            int index = (b & 0xff) << 1;
+            dest.put(BYTE_TABLE[index]);
+            dest.put(BYTE_TABLE[index + 1]);
+        }
+    }
+
+    /**
+     * Encodes the bytes as a lowercase hex string. The digits are written into a temporary byte array that the
+     * {@code String} constructor then copies, but the intermediate {@code char[]} of commons-codec is avoided.
+     *
+     * @param src bytes to encode
+     * @return the hex string
+     */
+    public static String encodeHexString(byte[] src) {
+        byte[] dest = new byte[src.length << 1];
+        encode(src, dest, 0);
+        return new String(dest, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the number of hex digits required to encode the given number of bytes.
+     */
+    public static int encodedLength(int length) {
+        return length << 1;
+    }
+}
@@ -79,6 +79,8 @@ import com.hedera.mirror.common.domain.topic.TopicMessageLookup;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
+import com.hedera.mirror.common.domain.transaction.FeeTransferRollup;
 import com.hedera.mirror.common.domain.transaction.ItemizedTransfer;
 import com.hedera.mirror.common.domain.transaction.LiveHash;
 import com.hedera.mirror.common.domain.transaction.NetworkFreeze;
@@ -109,6 +111,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -540,6 +543,26 @@ public class DomainBuilder {
         return new DomainWrapperImpl<>(builder, builder::build);
     }
 
+    public DomainWrapper<FeeTransfer, FeeTransfer.FeeTransferBuilder> feeTransfer() {
+        var builder = FeeTransfer.builder()
+                .amounts(new ArrayList<>(List.of(id(), id())))
+                .consensusTimestamp(timestamp())
+                .entityIds(new ArrayList<>(List.of(98L, 800L)))
+                .payerAccountId(entityId());
+        return new DomainWrapperImpl<>(builder, builder::build);
+    }
+
+    public DomainWrapper<FeeTransferRollup, FeeTransferRollup.FeeTransferRollupBuilder> feeTransferRollup() {
+        long consensusEnd = timestamp();
+        var builder = FeeTransferRollup.builder()
+                .amount(id())
+                .consensusEnd(consensusEnd)
+                .consensusStart(consensusEnd - 2_000_000_000L)
+                .entityId(98L)
+                .transferCount(10);
+        return new DomainWrapperImpl<>(builder, builder::build);
+    }
+
     public DomainWrapper<FileData, FileData.FileDataBuilder> fileData() {
         var builder = FileData.builder()
                 .consensusTimestamp(timestamp())
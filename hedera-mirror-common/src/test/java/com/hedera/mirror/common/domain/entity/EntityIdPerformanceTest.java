@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hederahashgraph.api.proto.java.AccountID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@CustomLog
+@Tag("performance")
+class EntityIdPerformanceTest {
+
+    private static final int ITERATIONS = 10_000_000;
+    private static final int WARMUP_ITERATIONS = 1_000_000;
+
+    private final EntityId[] sink = new EntityId[1024];
+    private final AccountID[] allocated = accountIds(1L);
+    private final AccountID[] canonical = accountIds(0L);
+
+    @Test
+    void ofThroughput() {
+        // The same nums in shard 1 are allocated per call, as every shard 0 id was before small ids were canonical
+        measure("of(AccountID) allocated", i -> of(allocated, i));
+        measure("of(AccountID) canonical", i -> of(canonical, i));
+    }
+
+    @Test
+    void toStringThroughput() {
+        // Uses a new instance per call so the lazily cached string is built every time
+        measure("String.format", i -> {
+            var entityId = EntityId.of(1, 0, i);
+            var formatted = String.format("%d.%d.%d", entityId.getShard(), entityId.getRealm(), entityId.getNum());
+            return formatted.length();
+        });
+        measure("toString", i -> EntityId.of(1, 0, i).toString().length());
+    }
+
+    private AccountID[] accountIds(long shard) {
+        var accountIds = new AccountID[sink.length];
+        for (int i = 0; i < accountIds.length; ++i) {
+            accountIds[i] = AccountID.newBuilder()
+                    .setShardNum(shard)
+                    .setAccountNum(1L + i * 37L)
+                    .build();
+        }
+        return accountIds;
+    }
+
+    // Keeps the result reachable so the JIT can't elide the allocation
+    private long of(AccountID[] accountIds, int i) {
+        int index = i & (accountIds.length - 1);
+        var entityId = EntityId.of(accountIds[index]);
+        sink[index] = entityId;
+        return entityId.getNum();
+    }
+
+    private void measure(String name, IntToLongFunction operation) {
+        long sum = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sum += operation.applyAsLong(i);
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            sum += operation.applyAsLong(i);
+        }
+
+        long rate = ITERATIONS * 1_000_000L / Math.max(stopwatch.elapsed(TimeUnit.MICROSECONDS), 1L);
+        log.info("{}: {} ops/s", name, rate);
+        assertThat(sum).isPositive();
+    }
+}
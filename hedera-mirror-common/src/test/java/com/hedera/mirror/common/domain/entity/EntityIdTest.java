@@ -23,10 +23,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.exception.InvalidEntityException;
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class EntityIdTest {
 
@@ -86,4 +88,42 @@ class EntityIdTest {
         assertThat(EntityId.of("0.0.1")).isEqualTo(EntityId.of(0, 0, 1));
         assertThat(EntityId.of("0.0.0")).isEqualTo(EntityId.EMPTY);
     }
+
+    @Test
+    void ofCanonical() {
+        assertThat(EntityId.of(0L)).isSameAs(EntityId.EMPTY);
+        assertThat(EntityId.of(0, 0, 10)).isSameAs(EntityId.of(10L));
+        assertThat(EntityId.of(0, 0, 65535)).isSameAs(EntityId.of(65535L));
+        assertThat(EntityId.of(0, 0, 65536)).isEqualTo(EntityId.of(65536L)).isNotSameAs(EntityId.of(65536L));
+        assertThat(EntityId.of(1, 2, 3)).isEqualTo(EntityId.of(1, 2, 3)).isNotSameAs(EntityId.of(1, 2, 3));
+        assertThat(EntityId.of("0.0.1")).isSameAs(EntityId.of(0, 0, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 98L, 800L, 65535L, 65536L, 4294967295L})
+    void ofCachedEqualsUncached(long num) {
+        var entityId = EntityId.of(0, 0, num);
+        var uncached = SerializationUtils.clone(entityId);
+
+        assertThat(uncached)
+                .isNotSameAs(entityId)
+                .isEqualTo(entityId)
+                .hasSameHashCodeAs(entityId)
+                .hasToString(entityId.toString())
+                .isEqualByComparingTo(entityId);
+        assertThat(EntityId.of(1, 0, num)).isNotEqualTo(entityId);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0, 0.0.0",
+        "0, 0, 10, 0.0.10",
+        "0, 0, 65536, 0.0.65536",
+        "1, 2, 3, 1.2.3",
+        "32767, 65535, 4294967295, 32767.65535.4294967295"
+    })
+    void testToString(long shard, long realm, long num, String expected) {
+        assertThat(EntityId.of(shard, realm, num)).hasToString(expected);
+        assertThat(EntityId.of(EntityId.of(shard, realm, num).getId())).hasToString(expected);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageCodecTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Test
+    void roundTrip() {
+        var topicMessage = domainBuilder.topicMessage().get();
+        var bytes = TopicMessageCodec.encode(topicMessage);
+        assertThat(bytes).hasSize(TopicMessageCodec.size(topicMessage));
+        assertThat(TopicMessageCodec.decode(bytes)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void roundTripNulls() {
+        var topicMessage = new TopicMessage();
+        topicMessage.setConsensusTimestamp(1L);
+        topicMessage.setSequenceNumber(2L);
+        var bytes = TopicMessageCodec.encode(topicMessage);
+        assertThat(bytes).hasSize(TopicMessageCodec.HEADER_SIZE + 3 * Integer.BYTES);
+        assertThat(TopicMessageCodec.decode(bytes)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void roundTripEmptyArrays() {
+        var topicMessage = domainBuilder
+                .topicMessage()
+                .customize(t -> t.message(new byte[0]).runningHash(new byte[0]))
+                .get();
+        assertThat(TopicMessageCodec.decode(TopicMessageCodec.encode(topicMessage)))
+                .isEqualTo(topicMessage);
+    }
+
+    @Test
+    void decodeConsecutive() {
+        var topicMessage1 = domainBuilder.topicMessage().get();
+        var topicMessage2 = domainBuilder.topicMessage().get();
+        var buffer = ByteBuffer.allocate(TopicMessageCodec.size(topicMessage1) + TopicMessageCodec.size(topicMessage2));
+        TopicMessageCodec.encode(topicMessage1, buffer);
+        TopicMessageCodec.encode(topicMessage2, buffer);
+        buffer.flip();
+
+        assertThat(TopicMessageCodec.decode(buffer)).isEqualTo(topicMessage1);
+        assertThat(TopicMessageCodec.decode(buffer)).isEqualTo(topicMessage2);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void isEncoded() {
+        assertThat(TopicMessageCodec.isEncoded(TopicMessageCodec.encode(new TopicMessage()))).isTrue();
+        assertThat(TopicMessageCodec.isEncoded(new byte[] {(byte) 0x8B})).isFalse();
+        assertThat(TopicMessageCodec.isEncoded(new byte[0])).isFalse();
+    }
+
+    @Test
+    void unsupportedVersion() {
+        var bytes = TopicMessageCodec.encode(domainBuilder.topicMessage().get());
+        bytes[0] = TopicMessageCodec.VERSION + 1;
+        assertThatThrownBy(() -> TopicMessageCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+}
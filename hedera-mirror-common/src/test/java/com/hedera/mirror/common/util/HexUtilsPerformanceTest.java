@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+import lombok.CustomLog;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@CustomLog
+@Tag("performance")
+class HexUtilsPerformanceTest {
+
+    private static final int ITERATIONS = 5_000_000;
+    private static final int WARMUP_ITERATIONS = 500_000;
+
+    // Sizes of an EVM address, a contract state slot and a transaction hash
+    private final byte[][] values = {randomBytes(20), randomBytes(32), randomBytes(48)};
+
+    @Test
+    void encodeHexString() {
+        measure("Hex.encodeHexString", v -> Hex.encodeHexString(v).length());
+        measure("HexUtils.encodeHexString", v -> HexUtils.encodeHexString(v).length());
+    }
+
+    @Test
+    void encodeToBuffer() {
+        var buffer = new byte[HexUtils.encodedLength(64)];
+        measure("HexUtils.encode(byte[])", v -> HexUtils.encode(v, buffer, 0));
+    }
+
+    private void measure(String name, ToIntFunction<byte[]> encoder) {
+        long sum = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sum += encoder.applyAsInt(values[i % values.length]);
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            sum += encoder.applyAsInt(values[i % values.length]);
+        }
+
+        long rate = ITERATIONS * 1_000_000L / Math.max(stopwatch.elapsed(TimeUnit.MICROSECONDS), 1L);
+        log.info("{}: {} ops/s", name, rate);
+        assertThat(sum).isPositive();
+    }
+
+    private static byte[] randomBytes(int length) {
+        var bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Test;
+
+class HexUtilsTest {
+
+    private static final byte[] BYTES = allBytes();
+    private static final String HEX = Hex.encodeHexString(BYTES);
+
+    @Test
+    void encodeToByteArray() {
+        var dest = new byte[BYTES.length * 2 + 3];
+        assertThat(HexUtils.encode(BYTES, dest, 2)).isEqualTo(BYTES.length * 2 + 2);
+        assertThat(new String(dest, 2, BYTES.length * 2, StandardCharsets.US_ASCII))
+                .isEqualTo(HEX);
+        assertThat(dest[0]).isZero();
+        assertThat(dest[dest.length - 1]).isZero();
+    }
+
+    @Test
+    void encodeToCharArray() {
+        var dest = new char[BYTES.length * 2 + 1];
+        assertThat(HexUtils.encode(BYTES, dest, 1)).isEqualTo(dest.length);
+        assertThat(new String(dest, 1, BYTES.length * 2)).isEqualTo(HEX);
+    }
+
+    @Test
+    void encodeToHeapByteBuffer() {
+        var buffer = ByteBuffer.allocate(BYTES.length * 2 + 8).position(4).slice();
+        buffer.put((byte) 'x');
+        HexUtils.encode(BYTES, buffer);
+        assertThat(buffer.position()).isEqualTo(BYTES.length * 2 + 1);
+        assertThat(StandardCharsets.US_ASCII.decode(buffer.flip()).toString()).isEqualTo("x" + HEX);
+    }
+
+    @Test
+    void encodeToDirectByteBuffer() {
+        var buffer = ByteBuffer.allocateDirect(BYTES.length * 2);
+        HexUtils.encode(BYTES, buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer.flip()).toString()).isEqualTo(HEX);
+    }
+
+    @Test
+    void encodeToByteBufferOverflow() {
+        var buffer = ByteBuffer.allocate(3);
+        assertThatThrownBy(() -> HexUtils.encode(new byte[] {1, 2}, buffer))
+                .isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void encodeHexString() {
+        assertThat(HexUtils.encodeHexString(BYTES)).isEqualTo(HEX);
+        assertThat(HexUtils.encodeHexString(new byte[] {0, 127, -128, -1})).isEqualTo("007f80ff");
+        assertThat(HexUtils.encodeHexString(new byte[0])).isEmpty();
+    }
+
+    private static byte[] allBytes() {
+        var bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
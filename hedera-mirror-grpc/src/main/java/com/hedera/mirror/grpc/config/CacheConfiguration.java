@@ -34,6 +34,7 @@ public class CacheConfiguration {
 
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
+    public static final String NODES_CACHE = "nodesCache";
     public static final String ENTITY_CACHE = "entityCache";
 
     @Bean(ADDRESS_BOOK_ENTRY_CACHE)
@@ -54,6 +55,15 @@ public class CacheConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(NODES_CACHE)
+    CacheManager nodesCache(AddressBookProperties addressBookProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(addressBookProperties.getNodesCacheExpiry())
+                .maximumSize(addressBookProperties.getNodesCacheSize()));
+        return caffeineCacheManager;
+    }
+
     @Bean(ENTITY_CACHE)
     @Primary
     CacheManager entityCache(GrpcProperties grpcProperties) {
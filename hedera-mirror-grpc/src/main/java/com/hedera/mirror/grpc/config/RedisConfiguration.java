@@ -22,6 +22,7 @@ import com.hedera.mirror.common.converter.EntityIdDeserializer;
 import com.hedera.mirror.common.converter.EntityIdSerializer;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
@@ -43,8 +44,11 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 class RedisConfiguration {
 
-    @Bean
-    RedisSerializer<TopicMessage> redisSerializer() {
+    /**
+     * Creates the msgpack serializer that topic messages were published with before the binary codec. It's kept to read
+     * the messages of importers that haven't been upgraded yet during a rolling upgrade.
+     */
+    static RedisSerializer<TopicMessage> msgpackSerializer() {
         var module = new SimpleModule();
         module.addDeserializer(EntityId.class, EntityIdDeserializer.INSTANCE);
         module.addSerializer(EntityIdSerializer.INSTANCE);
@@ -54,6 +58,28 @@ class RedisConfiguration {
         return new Jackson2JsonRedisSerializer<>(objectMapper, TopicMessage.class);
     }
 
+    @Bean
+    RedisSerializer<TopicMessage> redisSerializer() {
+        var msgpackSerializer = msgpackSerializer();
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(TopicMessage topicMessage) {
+                return topicMessage != null ? TopicMessageCodec.encode(topicMessage) : null;
+            }
+
+            @Override
+            public TopicMessage deserialize(byte[] bytes) {
+                if (bytes == null) {
+                    return null;
+                } else if (TopicMessageCodec.isEncoded(bytes)) {
+                    return TopicMessageCodec.decode(bytes);
+                }
+
+                return msgpackSerializer.deserialize(bytes);
+            }
+        };
+    }
+
     @Bean
     ReactiveRedisOperations<String, TopicMessage> reactiveRedisOperations(
             ReactiveRedisConnectionFactory connectionFactory) {
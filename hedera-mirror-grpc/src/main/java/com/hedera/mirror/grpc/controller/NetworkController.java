@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.api.proto.AddressBookQuery;
 import com.hedera.mirror.api.proto.ReactorNetworkServiceGrpc;
@@ -41,11 +43,15 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
 
     private final NetworkService networkService;
 
+    // The service returns the same cached entry instances until the address book or node stake changes
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses =
+            Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(entry -> nodeAddresses.get(entry, this::toNodeAddress))
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -23,6 +23,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -43,17 +44,64 @@ public class ListenerProperties {
     @NotNull
     private Duration interval = Duration.ofMillis(500L);
 
+    @NotNull
+    private FlowControlProperties flowControl = new FlowControlProperties();
+
     @Min(4)
     @Max(256)
     private int prefetch = 48;
 
+    @NotNull
+    private RedisListenerProperties redis = new RedisListenerProperties();
+
+    @NotNull
+    private SchedulerType scheduler = SchedulerType.BOUNDED_ELASTIC;
+
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
+    @Data
+    @Validated
+    public static class FlowControlProperties {
+
+        @DurationMin(millis = 100)
+        @NotNull
+        private Duration bufferWindow = Duration.ofSeconds(5L);
+
+        @DurationMin(millis = 100)
+        @NotNull
+        private Duration catchUpInterval = Duration.ofSeconds(1L);
+
+        private boolean enabled = false;
+
+        @NotNull
+        private DataSize maxTotalBufferBytes = DataSize.ofMegabytes(512L);
+
+        @Min(16)
+        private int minBufferSize = 256;
+
+        @DurationMin(millis = 100)
+        @NotNull
+        private Duration sampleInterval = Duration.ofSeconds(1L);
+    }
+
+    @Data
+    public static class RedisListenerProperties {
+
+        // Use a single pattern subscription for all topics instead of a subscription per topic
+        private boolean pattern = false;
+    }
+
     public enum ListenerType {
         NOTIFY,
         POLL,
         REDIS,
         SHARED_POLL
     }
+
+    public enum SchedulerType {
+        BOUNDED_ELASTIC, // Deliver messages on a bounded elastic worker per subscriber
+        EVENT_LOOP, // Deliver messages for all subscribers on a single, dedicated event loop thread
+        PARALLEL // Deliver messages on the shared, CPU sized parallel scheduler
+    }
 }
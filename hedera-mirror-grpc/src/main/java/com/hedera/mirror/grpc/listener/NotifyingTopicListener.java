@@ -50,8 +50,11 @@ public class NotifyingTopicListener extends SharedTopicListener {
     private final Flux<TopicMessage> topicMessages;
 
     public NotifyingTopicListener(
-            DbProperties dbProperties, ListenerProperties listenerProperties, ObservationRegistry observationRegistry) {
-        super(listenerProperties);
+            DbProperties dbProperties,
+            ListenerProperties listenerProperties,
+            ObservationRegistry observationRegistry,
+            SubscriberFlowControl subscriberFlowControl) {
+        super(listenerProperties, subscriberFlowControl);
         this.dbProperties = dbProperties;
 
         // use EntityIdDeserializer/EntityIdSerializer for EntityIds (e.g. payer_account_id)
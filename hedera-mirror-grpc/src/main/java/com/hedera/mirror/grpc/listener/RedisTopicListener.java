@@ -18,23 +18,32 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.Disposable;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
@@ -43,20 +52,34 @@ import reactor.util.retry.Retry;
 @Named
 public class RedisTopicListener extends SharedTopicListener {
 
+    static final String METRIC_MESSAGES = "hedera.mirror.grpc.listener.redis.messages";
+    private static final String TOPIC_PREFIX = "topic.";
+    private static final Topic TOPIC_PATTERN = PatternTopic.of(TOPIC_PREFIX + "*");
+
     private final Mono<ReactiveRedisMessageListenerContainer> container;
     private final SerializationPair<String> channelSerializer;
+    private final SerializationPair<byte[]> rawSerializer;
     private final SerializationPair<TopicMessage> messageSerializer;
+    private final MeterRegistry meterRegistry;
     private final Map<String, Flux<TopicMessage>> topicMessages; // Topic name to active subscription
+    private final Map<Long, Dispatcher> dispatchers; // Topic ID to dispatcher of the pattern subscription
+    private final AtomicBoolean patternSubscribed = new AtomicBoolean(false);
+    private final AtomicReference<Disposable> patternSubscription = new AtomicReference<>();
 
     public RedisTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             ReactiveRedisConnectionFactory connectionFactory,
-            RedisSerializer<TopicMessage> redisSerializer) {
-        super(listenerProperties);
+            RedisSerializer<TopicMessage> redisSerializer,
+            SubscriberFlowControl subscriberFlowControl) {
+        super(listenerProperties, subscriberFlowControl);
         this.channelSerializer = SerializationPair.fromSerializer(RedisSerializer.string());
+        this.rawSerializer = SerializationPair.fromSerializer(RedisSerializer.byteArray());
         this.messageSerializer = SerializationPair.fromSerializer(redisSerializer);
+        this.meterRegistry = meterRegistry;
         this.topicMessages = new ConcurrentHashMap<>();
+        this.dispatchers = new ConcurrentHashMap<>();
 
         // Workaround Spring DATAREDIS-1208 by lazily starting connection once with retry
         Duration interval = listenerProperties.getInterval();
@@ -74,29 +97,143 @@ public class RedisTopicListener extends SharedTopicListener {
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
         Topic topic = getTopic(filter);
+
+        if (listenerProperties.getRedis().isPattern()) {
+            long topicId = filter.getTopicId().getId();
+            return topicMessages.computeIfAbsent(topic.getTopic(), key -> dispatch(topic, topicId));
+        }
+
         return topicMessages.computeIfAbsent(topic.getTopic(), key -> subscribe(topic));
     }
 
     private Topic getTopic(TopicMessageFilter filter) {
-        return ChannelTopic.of(String.format("topic.%d", filter.getTopicId().getId()));
+        return ChannelTopic.of(TOPIC_PREFIX + filter.getTopicId().getId());
     }
 
     private Flux<TopicMessage> subscribe(Topic topic) {
         Duration interval = listenerProperties.getInterval();
+        var counter = counter(topic);
 
         return container
                 .flatMapMany(r -> r.receive(Collections.singletonList(topic), channelSerializer, messageSerializer))
                 .map(Message::getMessage)
-                .doOnCancel(() -> unsubscribe(topic))
-                .doOnComplete(() -> unsubscribe(topic))
+                .doOnNext(t -> counter.increment())
+                .doOnCancel(() -> unsubscribe(topic, counter))
+                .doOnComplete(() -> unsubscribe(topic, counter))
                 .doOnError(t -> log.error("Error listening for messages", t))
                 .doOnSubscribe(s -> log.info("Creating shared subscription to {}", topic))
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
     }
 
-    private void unsubscribe(Topic topic) {
+    /**
+     * Creates a per topic flux fed by the single pattern subscription. Registering and removing a topic only touches
+     * the in-process dispatcher map and never results in a Redis SUBSCRIBE or UNSUBSCRIBE, except when the first topic
+     * is registered or the last one removed. Since the pattern subscription can't be slowed down for a single topic,
+     * messages are buffered up to the max buffer size and the topic's subscribers fail with an overflow error beyond
+     * that instead of silently losing messages.
+     */
+    private Flux<TopicMessage> dispatch(Topic topic, long topicId) {
+        var counter = counter(topic);
+        int maxBufferSize = listenerProperties.getMaxBufferSize();
+        return Flux.<TopicMessage>create(
+                        sink -> {
+                            var dispatcher = new Dispatcher(counter, sink);
+                            dispatchers.put(topicId, dispatcher);
+                            sink.onDispose(() -> {
+                                dispatchers.remove(topicId, dispatcher);
+                                if (dispatchers.isEmpty()) {
+                                    unsubscribePattern();
+                                }
+                            });
+                            subscribePattern();
+                        },
+                        FluxSink.OverflowStrategy.ERROR)
+                .onBackpressureBuffer(
+                        maxBufferSize,
+                        t -> log.warn("Dispatch buffer of {} exceeded {} messages", topic, maxBufferSize),
+                        BufferOverflowStrategy.ERROR)
+                .doOnCancel(() -> unsubscribe(topic, counter))
+                .doOnError(t -> unsubscribe(topic, counter))
+                .doOnSubscribe(s -> log.info("Creating shared dispatch of {}", topic))
+                .share();
+    }
+
+    /**
+     * Subscribes to the topic pattern once. Messages are received undecoded and only deserialized if a dispatcher for
+     * their topic exists, so topics without local subscribers cost only the channel name parsing. If the subscription
+     * ends for any reason while dispatchers remain, it's re-established.
+     */
+    private void subscribePattern() {
+        if (!patternSubscribed.compareAndSet(false, true)) {
+            return;
+        }
+
+        Duration interval = listenerProperties.getInterval();
+        var disposable = container
+                .flatMapMany(r -> r.receive(Collections.singletonList(TOPIC_PATTERN), channelSerializer, rawSerializer))
+                .doOnError(t -> log.error("Error listening for messages", t))
+                .doOnSubscribe(s -> log.info("Creating pattern subscription to {}", TOPIC_PATTERN))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
+                .doFinally(s -> {
+                    log.info("Pattern subscription to {} ended with {}", TOPIC_PATTERN, s);
+                    patternSubscribed.set(false);
+                    if (!dispatchers.isEmpty()) {
+                        subscribePattern();
+                    }
+                })
+                .subscribe(this::onPatternMessage);
+
+        var previous = patternSubscription.getAndSet(disposable);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private void unsubscribePattern() {
+        var disposable = patternSubscription.getAndSet(null);
+        if (disposable != null) {
+            log.info("Unsubscribing from {}", TOPIC_PATTERN);
+            disposable.dispose();
+        }
+    }
+
+    private void onPatternMessage(Message<String, byte[]> message) {
+        var dispatcher = dispatchers.get(getTopicId(message.getChannel()));
+        if (dispatcher == null) {
+            return;
+        }
+
+        try {
+            var topicMessage = messageSerializer.read(ByteBuffer.wrap(message.getMessage()));
+            dispatcher.counter().increment();
+            dispatcher.sink().next(topicMessage);
+        } catch (Exception e) {
+            log.error("Unable to decode message on channel {}", message.getChannel(), e);
+        }
+    }
+
+    private long getTopicId(String channel) {
+        try {
+            return Long.parseLong(channel, TOPIC_PREFIX.length(), channel.length(), 10);
+        } catch (Exception e) {
+            log.warn("Ignoring message on unexpected channel {}", channel);
+            return -1L;
+        }
+    }
+
+    private Counter counter(Topic topic) {
+        return Counter.builder(METRIC_MESSAGES)
+                .description("The number of messages received from Redis for a topic")
+                .tag("topic", topic.getTopic())
+                .register(meterRegistry);
+    }
+
+    private void unsubscribe(Topic topic, Counter counter) {
         topicMessages.remove(topic.getTopic());
+        meterRegistry.remove(counter);
         log.info("Unsubscribing from {}", topic);
     }
+
+    private record Dispatcher(Counter counter, FluxSink<TopicMessage> sink) {}
 }
@@ -46,8 +46,9 @@ public class SharedPollingTopicListener extends SharedTopicListener {
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
             ObservationRegistry observationRegistry,
-            TopicMessageRepository topicMessageRepository) {
-        super(listenerProperties);
+            TopicMessageRepository topicMessageRepository,
+            SubscriberFlowControl subscriberFlowControl) {
+        super(listenerProperties, subscriberFlowControl);
         this.topicMessageRepository = topicMessageRepository;
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
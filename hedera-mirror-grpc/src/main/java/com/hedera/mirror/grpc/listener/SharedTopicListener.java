@@ -16,8 +16,10 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import com.google.common.base.Suppliers;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +27,8 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 @RequiredArgsConstructor
@@ -32,10 +36,17 @@ public abstract class SharedTopicListener implements TopicListener {
 
     protected final Logger log = LogManager.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    protected final SubscriberFlowControl subscriberFlowControl;
+    private final Supplier<Scheduler> eventLoop =
+            Suppliers.memoize(() -> Schedulers.newSingle("listener-event-loop", true));
 
     @Override
     @SuppressWarnings("deprecation")
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
+        if (listenerProperties.getFlowControl().isEnabled()) {
+            return listenWithFlowControl(filter);
+        }
+
         DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
         FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
 
@@ -46,7 +57,48 @@ public abstract class SharedTopicListener implements TopicListener {
                         listenerProperties.getMaxBufferSize(), t -> overflowSink.error(Exceptions.failWithOverflow()))
                 .doFinally(s -> overflowSink.complete());
         return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
-                .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
+                .publishOn(getScheduler(), false, listenerProperties.getPrefetch());
+    }
+
+    /**
+     * Instead of failing the subscriber on overflow, messages that would exceed its adaptive buffer are dropped and
+     * later re-read from the database by a catch-up. The catch-up timer only runs from a downgrade until the catch-up
+     * starts, so subscribers that keep up don't each poll on a timer. Messages for other topics are filtered before
+     * buffering so that they don't count towards the subscriber's buffer. Live and caught up messages can overlap, so
+     * only messages after the last one emitted are passed on.
+     */
+    private Flux<TopicMessage> listenWithFlowControl(TopicMessageFilter filter) {
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        var live = getSharedListener(filter)
+                .filter(t -> filter.getTopicId().equals(t.getTopicId()) && subscriber.offer(t))
+                .onBackpressureBuffer()
+                .publishOn(getScheduler(), false, listenerProperties.getPrefetch())
+                .doOnNext(subscriber::onDelivered);
+        var catchUpInterval = listenerProperties.getFlowControl().getCatchUpInterval();
+        var catchUp = subscriber
+                .getDowngrades()
+                .concatMap(d -> Mono.delay(catchUpInterval)
+                        .thenMany(Flux.defer(subscriber::catchUp))
+                        .repeat(subscriber::isDropped));
+
+        return Flux.merge(live, catchUp)
+                .filter(subscriber::isNext)
+                .doOnRequest(subscriber::onRequest)
+                .doOnSubscribe(s -> log.info("Subscribing with flow control: {}", filter))
+                .doFinally(s -> subscriber.release());
+    }
+
+    /**
+     * Gets the scheduler used to deliver messages to subscribers. The parallel scheduler avoids the thread and task
+     * caps of the bounded elastic scheduler when there are many mostly idle subscribers. Messages are never delivered
+     * on the thread publishing them so that a slow subscriber can't stall the shared listener and every other topic.
+     */
+    private Scheduler getScheduler() {
+        return switch (listenerProperties.getScheduler()) {
+            case BOUNDED_ELASTIC -> Schedulers.boundedElastic();
+            case EVENT_LOOP -> eventLoop.get();
+            case PARALLEL -> Schedulers.parallel();
+        };
     }
 
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.CustomLog;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adaptive flow control for shared listener subscribers. Each subscriber's buffer is sized from the rate at which its
+ * consumer requests messages, and the size of all buffered messages is bounded by a global budget. A subscriber that
+ * exceeds either is downgraded to catch-up mode: incoming messages are dropped until its buffer fully drains, then a
+ * catch-up scheduled by the downgrade re-reads the dropped messages from the database and resumes live messages.
+ */
+@CustomLog
+@Named
+public class SubscriberFlowControl {
+
+    private final AtomicLong bufferedBytes = new AtomicLong(0L);
+    private final Counter downgrades;
+    private final ListenerProperties listenerProperties;
+    private final TopicMessageRetriever topicMessageRetriever;
+
+    public SubscriberFlowControl(
+            ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
+            TopicMessageRetriever topicMessageRetriever) {
+        this.listenerProperties = listenerProperties;
+        this.topicMessageRetriever = topicMessageRetriever;
+
+        Gauge.builder("hedera.mirror.grpc.listener.buffer", bufferedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("The size of the messages buffered across all shared listener subscribers")
+                .register(meterRegistry);
+        downgrades = Counter.builder("hedera.mirror.grpc.listener.downgrades")
+                .description("The number of times a slow subscriber was downgraded to catch up from the database")
+                .register(meterRegistry);
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public SubscriberContext subscribe(TopicMessageFilter filter) {
+        return new SubscriberContext(filter);
+    }
+
+    public class SubscriberContext {
+
+        private final AtomicInteger buffered = new AtomicInteger(0);
+        private final AtomicLong bytes = new AtomicLong(0L);
+        private final AtomicBoolean dropped = new AtomicBoolean(false);
+        private final Sinks.Many<Boolean> downgrades = Sinks.many().unicast().onBackpressureBuffer();
+        private final TopicMessageFilter filter;
+        private final AtomicReference<TopicMessage> last = new AtomicReference<>();
+        private final AtomicLong offered = new AtomicLong(0L);
+        private final AtomicLong requested = new AtomicLong(0L);
+        private volatile boolean downgraded = false;
+        private double requestRate = -1.0; // messages per second, negative while the consumer keeps up
+        private long lastSample = System.nanoTime();
+        private boolean released = false; // Guarded by this, like the buffer accounting
+
+        private SubscriberContext(TopicMessageFilter filter) {
+            this.filter = filter;
+        }
+
+        /**
+         * Offers a message to the subscriber's buffer. Called serially by the shared listener as messages arrive.
+         *
+         * @param topicMessage the incoming message
+         * @return whether the message should be buffered, false if it should be dropped and caught up later
+         */
+        public boolean offer(TopicMessage topicMessage) {
+            offered.incrementAndGet();
+            sample();
+
+            if (downgraded) {
+                dropped.set(true);
+                return false;
+            }
+
+            int bufferSize = getBufferSize();
+            long maxTotalBufferBytes =
+                    listenerProperties.getFlowControl().getMaxTotalBufferBytes().toBytes();
+            if (buffered.get() >= bufferSize || bufferedBytes.get() >= maxTotalBufferBytes) {
+                downgraded = true;
+                dropped.set(true);
+                downgrades.increment();
+                log.warn(
+                        "[{}] Downgrading slow subscriber with {} buffered, {}/s request rate, {} buffer size",
+                        filter.getSubscriberId(),
+                        buffered,
+                        (int) requestRate,
+                        bufferSize);
+                downgrades.tryEmitNext(true);
+                return false;
+            }
+
+            int size = TopicMessageCodec.size(topicMessage);
+            synchronized (this) {
+                if (released) {
+                    return false;
+                }
+
+                buffered.incrementAndGet();
+                bytes.addAndGet(size);
+                bufferedBytes.addAndGet(size);
+            }
+            return true;
+        }
+
+        /**
+         * Called when a buffered message has been handed to the consumer. Serialized with {@link #release()} so that a
+         * message delivered while the subscriber is cancelled isn't subtracted from the global buffer twice.
+         */
+        public void onDelivered(TopicMessage topicMessage) {
+            int size = TopicMessageCodec.size(topicMessage);
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+
+                buffered.decrementAndGet();
+                bytes.addAndGet(-size);
+                bufferedBytes.addAndGet(-size);
+            }
+        }
+
+        /**
+         * Called with the consumer's demand, which measures how fast it is able to take messages.
+         */
+        public void onRequest(long n) {
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+        }
+
+        /**
+         * Filters messages so that the subscriber only sees strictly increasing sequence numbers, since live and caught
+         * up messages can overlap.
+         */
+        public boolean isNext(TopicMessage topicMessage) {
+            var previous = last.get();
+            if (previous != null && topicMessage.getSequenceNumber() <= previous.getSequenceNumber()) {
+                return false;
+            }
+
+            last.set(topicMessage);
+            return true;
+        }
+
+        /**
+         * Once a subscriber has dropped messages and its buffer has drained, resumes live messages and re-reads the
+         * messages after the last one it received from the database. Live messages are resumed first so that any
+         * message published after the query started is either in the database or in the buffer.
+         *
+         * @return the dropped messages, or empty if no catch-up is needed
+         */
+        public Flux<TopicMessage> catchUp() {
+            if (!dropped.get() || buffered.get() > 0) {
+                return Flux.empty();
+            }
+
+            downgraded = false;
+            dropped.set(false);
+            var previous = last.get();
+            long startTime = previous != null ? previous.getConsensusTimestamp() + 1 : filter.getStartTime();
+            var catchUpFilter = filter.toBuilder().startTime(startTime).build();
+            log.info("[{}] Catching up downgraded subscriber from {}", filter.getSubscriberId(), startTime);
+            // Triggered from a timer on the non-blocking parallel scheduler
+            return topicMessageRetriever.retrieve(catchUpFilter, true).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        public synchronized void release() {
+            if (released) {
+                return;
+            }
+
+            released = true;
+            buffered.set(0);
+            bufferedBytes.addAndGet(-bytes.getAndSet(0L));
+            downgrades.tryEmitComplete();
+        }
+
+        /**
+         * Emits each time the subscriber is downgraded so that a catch-up is only scheduled for downgraded subscribers.
+         */
+        public Flux<Boolean> getDowngrades() {
+            return downgrades.asFlux();
+        }
+
+        /**
+         * Whether messages were dropped that haven't been caught up yet.
+         */
+        public boolean isDropped() {
+            return dropped.get();
+        }
+
+        public boolean isDowngraded() {
+            return downgraded;
+        }
+
+        /**
+         * Sizes the buffer to hold the configured window of messages at the rate its consumer requests them, bounded by
+         * the minimum and the maximum buffer size. A consumer that requested at least as many messages as arrived is
+         * keeping up and gets the maximum buffer size, so idle subscribers are not penalized on the next burst.
+         */
+        int getBufferSize() {
+            var properties = listenerProperties.getFlowControl();
+            int maxBufferSize = listenerProperties.getMaxBufferSize();
+            if (requestRate < 0) {
+                return maxBufferSize;
+            }
+
+            long bufferSize = (long) (requestRate * properties.getBufferWindow().toMillis() / 1000.0);
+            return (int) Math.max(properties.getMinBufferSize(), Math.min(maxBufferSize, bufferSize));
+        }
+
+        private void sample() {
+            long now = System.nanoTime();
+            long elapsed = now - lastSample;
+            if (elapsed <= 0 || elapsed < listenerProperties.getFlowControl().getSampleInterval().toNanos()) {
+                return;
+            }
+
+            long arrivals = offered.getAndSet(0L);
+            long demand = requested.getAndSet(0L);
+            lastSample = now;
+
+            if (demand >= arrivals) {
+                requestRate = -1.0;
+                return;
+            }
+
+            double rate = demand * (double) TimeUnit.SECONDS.toNanos(1L) / elapsed;
+            requestRate = requestRate < 0 ? rate : (requestRate + rate) / 2.0;
+        }
+    }
+}
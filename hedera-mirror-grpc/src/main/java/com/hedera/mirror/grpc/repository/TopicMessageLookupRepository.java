@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.repository;
+
+import com.hedera.mirror.common.domain.topic.TopicMessageLookup;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TopicMessageLookupRepository extends CrudRepository<TopicMessageLookup, TopicMessageLookup.Id> {
+
+    /**
+     * Finds the topic message lookups of the topic whose timestamp range overlaps [startTime, endTime), ordered by the
+     * timestamp range. Each lookup maps to exactly one topic_message partition.
+     *
+     * @param topicId   the topic id
+     * @param startTime the inclusive start timestamp
+     * @param endTime   the exclusive end timestamp
+     * @return the overlapping topic message lookups
+     */
+    @Query(
+            value =
+                    """
+            select * from topic_message_lookup
+            where topic_id = ?1 and upper(timestamp_range) > ?2 and lower(timestamp_range) < ?3
+            order by lower(timestamp_range)
+            """,
+            nativeQuery = true)
+    @Transactional(readOnly = true)
+    List<TopicMessageLookup> findOverlapping(long topicId, long startTime, long endTime);
+}
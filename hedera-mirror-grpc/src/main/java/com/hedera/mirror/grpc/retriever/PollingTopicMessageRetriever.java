@@ -18,11 +18,15 @@ package com.hedera.mirror.grpc.retriever;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageLookup;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageLookupRepository;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -42,15 +46,18 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageLookupRepository topicMessageLookupRepository;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
+            TopicMessageLookupRepository topicMessageLookupRepository,
             TopicMessageRepository topicMessageRepository) {
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageLookupRepository = topicMessageLookupRepository;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
@@ -90,10 +97,82 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
+        if (retrieverProperties.isTopicMessageLookup()) {
+            long endTime = newFilter.getEndTime() != null ? newFilter.getEndTime() : Long.MAX_VALUE;
+            var lookups = topicMessageLookupRepository.findOverlapping(
+                    newFilter.getTopicId().getId(), newFilter.getStartTime(), endTime);
+            if (!lookups.isEmpty()) {
+                return pollPartitions(newFilter, lookups);
+            }
+        }
+
         log.debug("Executing query: {}", newFilter);
         return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
     }
 
+    /**
+     * Queries only the topic_message partitions that the topic message lookups indicate contain the topic's messages,
+     * one partition at a time in timestamp order. Each query is bounded by the lookup's timestamp range so the planner
+     * can prune all other partitions, and stops once the page is full. The parts of the requested range not covered by
+     * any lookup, e.g. a partition whose lookup isn't written yet, are queried without partition pruning.
+     */
+    private Flux<TopicMessage> pollPartitions(TopicMessageFilter filter, List<TopicMessageLookup> lookups) {
+        var remaining = new AtomicLong(filter.getLimit());
+        return Flux.fromIterable(getSegments(filter, lookups))
+                .concatMap(segment -> Flux.defer(() -> {
+                    long limit = remaining.get();
+                    if (limit <= 0) {
+                        return Flux.empty();
+                    }
+
+                    var segmentFilter = filter.toBuilder()
+                            .endTime(segment.endTime())
+                            .limit(limit)
+                            .startTime(segment.startTime())
+                            .build();
+                    log.debug("Executing query on partition {}: {}", segment.partition(), segmentFilter);
+                    return Flux.fromStream(topicMessageRepository.findByFilter(segmentFilter));
+                }))
+                .doOnNext(t -> remaining.decrementAndGet());
+    }
+
+    /**
+     * Splits the filter's timestamp range into the consecutive segments covered by the lookups, which are ordered by
+     * their timestamp range, and the gaps between them. A gap has no partition.
+     */
+    private List<Segment> getSegments(TopicMessageFilter filter, List<TopicMessageLookup> lookups) {
+        var segments = new ArrayList<Segment>();
+        var endTime = filter.getEndTime();
+        long startTime = filter.getStartTime();
+
+        for (var lookup : lookups) {
+            var timestampRange = lookup.getTimestampRange();
+            long lower = timestampRange.lowerEndpoint();
+            long upper = timestampRange.upperEndpoint();
+            if (endTime != null) {
+                upper = Math.min(endTime, upper);
+            }
+
+            if (upper <= startTime) {
+                continue;
+            }
+
+            if (lower > startTime) {
+                segments.add(new Segment(null, startTime, lower));
+                startTime = lower;
+            }
+
+            segments.add(new Segment(lookup.getPartition(), startTime, upper));
+            startTime = upper;
+        }
+
+        if (endTime == null || startTime < endTime) {
+            segments.add(new Segment(null, startTime, endTime));
+        }
+
+        return segments;
+    }
+
     @Data
     private class PollingContext {
 
@@ -161,4 +240,6 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                     rate);
         }
     }
+
+    private record Segment(String partition, long startTime, Long endTime) {}
 }
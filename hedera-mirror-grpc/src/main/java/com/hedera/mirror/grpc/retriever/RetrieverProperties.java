@@ -43,6 +43,8 @@ public class RetrieverProperties {
     @NotNull
     private Duration timeout = Duration.ofSeconds(60L);
 
+    private boolean topicMessageLookup = false;
+
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
@@ -43,13 +43,12 @@ public class AddressBookProperties {
     @Min(0)
     private long nodeStakeCacheSize = 5L;
 
-    @DurationMin(millis = 100L)
+    @DurationMin(minutes = 1L)
     @NotNull
-    private Duration maxPageDelay = Duration.ofMillis(250L);
+    private Duration nodesCacheExpiry = Duration.ofHours(24);
 
-    @DurationMin(millis = 100L)
-    @NotNull
-    private Duration minPageDelay = Duration.ofMillis(100L);
+    @Min(1)
+    private long nodesCacheSize = 10L;
 
     @Min(1)
     private int pageSize = 10;
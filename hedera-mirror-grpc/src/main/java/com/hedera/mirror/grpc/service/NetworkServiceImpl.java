@@ -18,29 +18,26 @@ package com.hedera.mirror.grpc.service;
 
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.config.CacheConfiguration;
 import com.hedera.mirror.grpc.domain.AddressBookFilter;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
 import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
 import com.hedera.mirror.grpc.repository.AddressBookRepository;
 import com.hedera.mirror.grpc.repository.NodeStakeRepository;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
-import reactor.retry.Jitter;
-import reactor.retry.Repeat;
 
 @CustomLog
 @Named
@@ -49,6 +46,7 @@ import reactor.retry.Repeat;
 public class NetworkServiceImpl implements NetworkService {
 
     static final String INVALID_FILE_ID = "Not a valid address book file";
+    private static final String CACHE_NAME = "nodes";
     private static final long NODE_STAKE_EMPTY_TABLE_TIMESTAMP = 0L;
     private static final Collection<EntityId> VALID_FILE_IDS =
             Set.of(EntityId.of(0L, 0L, 101L), EntityId.of(0L, 0L, 102L));
@@ -58,6 +56,9 @@ public class NetworkServiceImpl implements NetworkService {
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final NodeStakeRepository nodeStakeRepository;
 
+    @Qualifier(CacheConfiguration.NODES_CACHE)
+    private final CacheManager nodesCacheManager;
+
     @Qualifier("readOnly")
     private final TransactionOperations transactionOperations;
 
@@ -72,76 +73,57 @@ public class NetworkServiceImpl implements NetworkService {
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
         long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
-
-        return Flux.defer(() -> page(context))
-                .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
-                        .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
-                        .jitter(Jitter.random())
-                        .withBackoffScheduler(Schedulers.parallel()))
+
+        // A new address book or node stake changes the key, so stale entries are never served
+        var key = new NodesKey(fileId.getId(), addressBookTimestamp, nodeStakeTimestamp);
+        var nodes = nodesCacheManager.getCache(CACHE_NAME).get(key, () -> loadNodes(key));
+
+        return Flux.fromIterable(nodes)
                 .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
-                .doOnNext(context::onNext)
                 .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
+                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", nodes.size()));
     }
 
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
+    /**
+     * Assembles the full list of nodes with their stake for the address book. Concurrent requests for the same key wait
+     * on a single load, so the database is queried once per address book and node stake version.
+     */
+    private List<AddressBookEntry> loadNodes(NodesKey key) {
         return transactionOperations.execute(t -> {
-            var addressBookTimestamp = context.getAddressBookTimestamp();
-            var nodeStakeMap = context.getNodeStakeMap();
-            var nextNodeId = context.getNextNodeId();
+            var addressBookTimestamp = key.addressBookTimestamp();
+            var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(key.nodeStakeTimestamp());
             var pageSize = addressBookProperties.getPageSize();
-            var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
-                    addressBookTimestamp, nextNodeId, pageSize);
             var endpoints = new AtomicInteger(0);
-
-            nodes.forEach(node -> {
-                // Override node stake
-                node.setStake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L));
-                // This hack ensures that the nested serviceEndpoints is loaded eagerly and voids lazy init exceptions
-                endpoints.addAndGet(node.getServiceEndpoints().size());
-            });
-
-            if (nodes.size() < pageSize) {
-                context.completed();
-            }
+            var nodes = new ArrayList<AddressBookEntry>();
+            long nextNodeId = 0L;
+            List<AddressBookEntry> page;
+
+            do {
+                page = addressBookEntryRepository.findByConsensusTimestampAndNodeId(
+                        addressBookTimestamp, nextNodeId, pageSize);
+
+                for (var node : page) {
+                    // Copy the entry since the repository caches it across node stake versions. Copying the nested
+                    // serviceEndpoints also loads them eagerly and avoids lazy init exceptions
+                    var serviceEndpoints = new HashSet<>(node.getServiceEndpoints());
+                    endpoints.addAndGet(serviceEndpoints.size());
+                    nodes.add(node.toBuilder()
+                            .serviceEndpoints(serviceEndpoints)
+                            .stake(nodeStakeMap.getOrDefault(node.getNodeId(), 0L)) // Override node stake
+                            .build());
+                    nextNodeId = node.getNodeId() + 1;
+                }
+            } while (page.size() == pageSize);
 
             log.info(
-                    "Retrieved {} address book entries and {} endpoints for timestamp {} and node ID {}",
+                    "Loaded {} address book entries and {} endpoints for timestamp {} and node stake timestamp {}",
                     nodes.size(),
                     endpoints,
                     addressBookTimestamp,
-                    nextNodeId);
-            return Flux.fromIterable(nodes);
+                    key.nodeStakeTimestamp());
+            return List.copyOf(nodes);
         });
     }
 
-    @Value
-    private static class AddressBookContext {
-
-        private final AtomicBoolean complete = new AtomicBoolean(false);
-        private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
-        private final long addressBookTimestamp;
-        private final Map<Long, Long> nodeStakeMap;
-
-        void onNext(AddressBookEntry entry) {
-            count.incrementAndGet();
-            last.set(entry);
-        }
-
-        long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
-        }
-
-        boolean isComplete() {
-            return complete.get();
-        }
-
-        void completed() {
-            complete.set(true);
-        }
-    }
+    record NodesKey(long fileId, long addressBookTimestamp, long nodeStakeTimestamp) {}
 }
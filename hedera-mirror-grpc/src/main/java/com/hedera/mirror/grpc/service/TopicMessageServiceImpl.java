@@ -43,6 +43,7 @@ import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 import reactor.retry.Repeat;
 
 @Named
@@ -171,7 +172,11 @@ public class TopicMessageServiceImpl implements TopicMessageService {
                 last.getSequenceNumber(),
                 current.getSequenceNumber());
 
-        return topicMessageRetriever.retrieve(newFilter, false).concatWithValues(current);
+        // Runs on the listener's delivery thread, which may be the non-blocking parallel scheduler
+        return topicMessageRetriever
+                .retrieve(newFilter, false)
+                .subscribeOn(Schedulers.boundedElastic())
+                .concatWithValues(current);
     }
 
     @Data
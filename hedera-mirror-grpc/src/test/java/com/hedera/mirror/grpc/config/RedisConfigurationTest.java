@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import org.junit.jupiter.api.Test;
+
+class RedisConfigurationTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final RedisConfiguration redisConfiguration = new RedisConfiguration();
+
+    @Test
+    void redisSerializer() {
+        var topicMessage = domainBuilder.topicMessage().get();
+        var serializer = redisConfiguration.redisSerializer();
+
+        var bytes = serializer.serialize(topicMessage);
+
+        assertThat(bytes).isEqualTo(TopicMessageCodec.encode(topicMessage));
+        assertThat(serializer.deserialize(bytes)).isEqualTo(topicMessage);
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    void redisSerializerMsgpack() {
+        var topicMessage = domainBuilder.topicMessage().get();
+        var bytes = RedisConfiguration.msgpackSerializer().serialize(topicMessage);
+        assertThat(redisConfiguration.redisSerializer().deserialize(bytes)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void redisSerializerSmallerThanMsgpack() {
+        var topicMessage = domainBuilder.topicMessage().get();
+        var bytes = redisConfiguration.redisSerializer().serialize(topicMessage);
+        var msgpackBytes = RedisConfiguration.msgpackSerializer().serialize(topicMessage);
+        assertThat(bytes.length).isLessThan(msgpackBytes.length);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Compares the binary topic message codec against the msgpack Jackson serializer it replaced, reporting the encoded
+ * size and the average encode and decode time per message.
+ */
+@CustomLog
+@Tag("performance")
+class TopicMessageCodecPerformanceTest {
+
+    private static final int ITERATIONS = 2_000_000;
+    private static final int WARMUP_ITERATIONS = 200_000;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Test
+    void compare() {
+        var topicMessage = domainBuilder.topicMessage().get();
+        var codec = new RedisConfiguration().redisSerializer();
+        var msgpack = RedisConfiguration.msgpackSerializer();
+
+        var codecBytes = codec.serialize(topicMessage);
+        var msgpackBytes = msgpack.serialize(topicMessage);
+        log.info("Encoded size: codec {} bytes, msgpack {} bytes", codecBytes.length, msgpackBytes.length);
+
+        measure("codec", codec, topicMessage);
+        measure("msgpack", msgpack, topicMessage);
+    }
+
+    private void measure(String name, RedisSerializer<TopicMessage> serializer, TopicMessage topicMessage) {
+        long sum = 0;
+        var bytes = serializer.serialize(topicMessage);
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sum += serializer.serialize(topicMessage).length;
+            sum += serializer.deserialize(bytes).getSequenceNumber();
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            sum += serializer.serialize(topicMessage).length;
+        }
+        long encode = stopwatch.elapsed(TimeUnit.NANOSECONDS) / ITERATIONS;
+
+        stopwatch.reset().start();
+        for (int i = 0; i < ITERATIONS; ++i) {
+            sum += serializer.deserialize(bytes).getSequenceNumber();
+        }
+        long decode = stopwatch.elapsed(TimeUnit.NANOSECONDS) / ITERATIONS;
+
+        log.info("{}: encode {} ns/op, decode {} ns/op", name, encode, decode);
+        assertThat(sum).isPositive();
+    }
+}
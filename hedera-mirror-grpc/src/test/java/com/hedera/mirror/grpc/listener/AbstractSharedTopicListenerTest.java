@@ -17,9 +17,11 @@
 package com.hedera.mirror.grpc.listener;
 
 import static com.hedera.mirror.common.util.DomainUtils.NANOS_PER_SECOND;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import jakarta.annotation.Resource;
 import java.time.Duration;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -31,6 +33,33 @@ import reactor.test.StepVerifier;
 
 public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListenerTest {
 
+    @Resource
+    private SubscriberFlowControl subscriberFlowControl;
+
+    @Test
+    @DisplayName("subscribers receive messages on the single event loop thread")
+    void eventLoopScheduler() {
+        listenerProperties.setScheduler(ListenerProperties.SchedulerType.EVENT_LOOP);
+
+        try {
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+            topicListener
+                    .listen(filter)
+                    .map(t -> Thread.currentThread().getName())
+                    .as(StepVerifier::create)
+                    .thenAwait(Duration.ofMillis(50L))
+                    .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                    .assertNext(n -> assertThat(n).startsWith("listener-event-loop"))
+                    .assertNext(n -> assertThat(n).startsWith("listener-event-loop"))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(2L));
+        } finally {
+            listenerProperties.setScheduler(ListenerProperties.SchedulerType.BOUNDED_ELASTIC);
+        }
+    }
+
     @Test
     @DisplayName("slow subscriber receives overflow exception and normal subscriber is not affected")
     void slowSubscriberOverflowException() {
@@ -86,4 +115,44 @@ public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListe
 
         stepVerifierFast.verify(Duration.ofMillis(1000L));
     }
+
+    @Test
+    @DisplayName("slow subscriber with flow control is downgraded and catches up from the database on a quiet topic")
+    void slowSubscriberFlowControlCatchUp() {
+        int maxBufferSize = 16;
+        int prefetch = 4;
+        int numMessages = maxBufferSize + prefetch * 2 + 3;
+        var flowControl = listenerProperties.getFlowControl();
+        flowControl.setCatchUpInterval(Duration.ofMillis(100L));
+        flowControl.setEnabled(true);
+        listenerProperties.setInterval(Duration.ofMillis(10L));
+        listenerProperties.setMaxBufferSize(maxBufferSize);
+        listenerProperties.setPrefetch(prefetch);
+
+        try {
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+            Flux<TopicMessage> topicMessages = domainBuilder.topicMessages(numMessages, future);
+
+            // Only one batch is published so the dropped messages can't be recovered by a later live message
+            topicListener
+                    .listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(p -> StepVerifier.create(p, 1))
+                    .thenAwait(Duration.ofMillis(50L))
+                    .then(() -> publish(topicMessages))
+                    .expectNext(1L)
+                    .thenAwait(Duration.ofMillis(500L)) // stall to overrun the subscriber's buffer
+                    .thenRequest(Long.MAX_VALUE)
+                    .expectNextSequence(
+                            LongStream.range(2, numMessages + 1).boxed().collect(Collectors.toList()))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5L));
+
+            assertThat(subscriberFlowControl.getBufferedBytes()).isZero();
+        } finally {
+            flowControl.setCatchUpInterval(Duration.ofSeconds(1L));
+            flowControl.setEnabled(false);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static com.hedera.mirror.grpc.listener.RedisTopicListener.METRIC_MESSAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.util.concurrent.Queues;
+
+class RedisPatternTopicListenerTest extends AbstractSharedTopicListenerTest {
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    @Resource
+    private ReactiveRedisOperations<String, TopicMessage> redisOperations;
+
+    @Resource
+    private RedisTopicListener redisTopicListener;
+
+    @BeforeEach
+    void setupPattern() {
+        listenerProperties.getRedis().setPattern(true);
+    }
+
+    @AfterEach
+    void afterPattern() {
+        listenerProperties.getRedis().setPattern(false);
+    }
+
+    @Test
+    void resubscribeAfterLastSubscriberLeaves() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50L))
+                .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                .expectNext(1L, 2L)
+                .thenCancel()
+                .verify(Duration.ofMillis(1000L));
+
+        // The pattern subscription ended with the last subscriber, so the next one must create a new one
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50L))
+                .then(() -> publish(domainBuilder.topicMessages(2, future + 2)))
+                .expectNext(3L, 4L)
+                .thenCancel()
+                .verify(Duration.ofMillis(1000L));
+    }
+
+    @Test
+    void dispatchOverflow() {
+        int maxBufferSize = listenerProperties.getMaxBufferSize();
+        listenerProperties.setMaxBufferSize(16);
+
+        try {
+            // The shared flux prefetches a queue's worth of messages before the dispatch buffer starts to fill
+            int numMessages = Queues.SMALL_BUFFER_SIZE + 16 + 1;
+            var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+            redisTopicListener
+                    .getSharedListener(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(p -> StepVerifier.create(p, 0))
+                    .thenAwait(Duration.ofMillis(50L))
+                    .then(() -> publish(domainBuilder.topicMessages(numMessages, future)))
+                    .thenRequest(Long.MAX_VALUE)
+                    .thenConsumeWhile(n -> n < numMessages)
+                    .expectErrorMatches(Exceptions::isOverflow)
+                    .verify(Duration.ofSeconds(5L));
+        } finally {
+            listenerProperties.setMaxBufferSize(maxBufferSize);
+        }
+    }
+
+    @Test
+    void metrics() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50L))
+                .then(() -> publish(domainBuilder.topicMessages(3, future)))
+                .expectNext(1L, 2L, 3L)
+                .then(() -> assertThat(meterRegistry
+                                .get(METRIC_MESSAGES)
+                                .tag("topic", "topic." + topicId.getId())
+                                .counter()
+                                .count())
+                        .isEqualTo(3.0))
+                .thenCancel()
+                .verify(Duration.ofMillis(1000L));
+
+        assertThat(meterRegistry.find(METRIC_MESSAGES).counters()).isEmpty();
+    }
+
+    @Override
+    protected ListenerProperties.ListenerType getType() {
+        return ListenerProperties.ListenerType.REDIS;
+    }
+
+    @Override
+    protected void publish(Flux<TopicMessage> publisher) {
+        publisher
+                .concatMap(t -> redisOperations.convertAndSend(
+                        "topic." + t.getTopicId().getId(), t))
+                .blockLast();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Benchmarks subscribing to many distinct topics with a subscription per topic versus a single pattern subscription.
+ * Reports the average subscription setup latency, measured as the time until the first message published to each topic
+ * is received, and the Redis server CPU consumed. The number of topics can be overridden with the {@code topics} system
+ * property.
+ */
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Tag("performance")
+class RedisTopicListenerPerformanceTest extends GrpcIntegrationTest {
+
+    private static final int TOPICS = Integer.getInteger("topics", 5000);
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final ListenerProperties listenerProperties;
+    private final ReactiveRedisOperations<String, TopicMessage> redisOperations;
+    private final RedisTopicListener redisTopicListener;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties.setEnabled(true);
+    }
+
+    @AfterEach
+    void after() {
+        listenerProperties.setEnabled(false);
+        listenerProperties.getRedis().setPattern(false);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void subscribeTopics(boolean pattern) throws InterruptedException {
+        listenerProperties.getRedis().setPattern(pattern);
+        var latch = new CountDownLatch(TOPICS);
+        List<Disposable> disposables = new ArrayList<>(TOPICS);
+        double cpuBefore = getRedisCpu();
+        var stopwatch = Stopwatch.createStarted();
+
+        try {
+            for (int i = 1; i <= TOPICS; i++) {
+                var filter = TopicMessageFilter.builder()
+                        .startTime(0)
+                        .topicId(EntityId.of(i))
+                        .build();
+                disposables.add(redisTopicListener.listen(filter).take(1).subscribe(t -> latch.countDown()));
+            }
+
+            var subscribed = stopwatch.elapsed();
+
+            // Republish until every topic received a message since subscriptions are established asynchronously
+            while (!latch.await(100L, TimeUnit.MILLISECONDS)) {
+                Flux.range(1, TOPICS)
+                        .map(this::topicMessage)
+                        .concatMap(t -> redisOperations.convertAndSend("topic." + t.getTopicId().getId(), t))
+                        .blockLast(Duration.ofMinutes(1L));
+            }
+
+            var elapsed = stopwatch.elapsed();
+            log.info(
+                    "Pattern {}: subscribed to {} topics in {}, received on all in {} ({} us/topic), {}s Redis CPU",
+                    pattern,
+                    TOPICS,
+                    subscribed,
+                    elapsed,
+                    elapsed.toNanos() / 1000L / TOPICS,
+                    getRedisCpu() - cpuBefore);
+            assertThat(latch.getCount()).isZero();
+        } finally {
+            disposables.forEach(Disposable::dispose);
+        }
+    }
+
+    private TopicMessage topicMessage(int topicId) {
+        return domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(EntityId.of(topicId)))
+                .get();
+    }
+
+    private double getRedisCpu() {
+        try (var connection = connectionFactory.getReactiveConnection()) {
+            Properties info = connection.serverCommands().info("cpu").block(Duration.ofSeconds(10L));
+            return Double.parseDouble(info.getProperty("used_cpu_sys", "0"))
+                    + Double.parseDouble(info.getProperty("used_cpu_user", "0"));
+        }
+    }
+}
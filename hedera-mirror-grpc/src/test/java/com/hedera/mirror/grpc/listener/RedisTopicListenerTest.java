@@ -16,19 +16,52 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import static com.hedera.mirror.grpc.listener.RedisTopicListener.METRIC_MESSAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
+import java.time.Duration;
 import lombok.CustomLog;
+import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @CustomLog
-@SuppressWarnings("java:S2187") // Ignore no tests in file warning
 class RedisTopicListenerTest extends AbstractSharedTopicListenerTest {
 
+    @Resource
+    private MeterRegistry meterRegistry;
+
     @Resource
     private ReactiveRedisOperations<String, TopicMessage> redisOperations;
 
+    @Test
+    void metrics() {
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        topicListener
+                .listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50L))
+                .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                .expectNext(1L, 2L)
+                .then(() -> assertThat(meterRegistry
+                                .get(METRIC_MESSAGES)
+                                .tag("topic", "topic." + topicId.getId())
+                                .counter()
+                                .count())
+                        .isEqualTo(2.0))
+                .thenCancel()
+                .verify(Duration.ofMillis(1000L));
+
+        assertThat(meterRegistry.find(METRIC_MESSAGES).counters()).isEmpty();
+    }
+
     @Override
     protected ListenerProperties.ListenerType getType() {
         return ListenerProperties.ListenerType.REDIS;
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.domain.ReactiveDomainBuilder;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
+import com.hedera.mirror.grpc.listener.ListenerProperties.SchedulerType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Load test harness that ramps up the number of in-process subscribers to a topic, doubling each step, until published
+ * messages are no longer delivered to every subscriber within the latency threshold. Reports the maximum sustainable
+ * subscribers per core for each combination of shared listener type and scheduler type. The maximum number of
+ * subscribers can be overridden with the {@code subscribers} system property.
+ */
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Tag("performance")
+class SharedTopicListenerPerformanceTest extends GrpcIntegrationTest {
+
+    private static final Duration LATENCY_THRESHOLD = Duration.ofSeconds(2L);
+    private static final int MAX_SUBSCRIBERS = Integer.getInteger("subscribers", 64_000);
+    private static final int MESSAGES = 10;
+    private static final int MIN_SUBSCRIBERS = 1000;
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private final ReactiveDomainBuilder domainBuilder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ListenerProperties listenerProperties;
+    private final NotifyingTopicListener notifyingTopicListener;
+    private final ReactiveRedisOperations<String, TopicMessage> redisOperations;
+    private final CompositeTopicListener topicListener;
+
+    private SchedulerType defaultScheduler;
+    private ListenerType defaultType;
+
+    @BeforeEach
+    void setup() {
+        defaultScheduler = listenerProperties.getScheduler();
+        defaultType = listenerProperties.getType();
+        listenerProperties.setEnabled(true);
+    }
+
+    @AfterEach
+    void after() {
+        listenerProperties.setEnabled(false);
+        listenerProperties.setScheduler(defaultScheduler);
+        listenerProperties.setType(defaultType);
+    }
+
+    private static Stream<Arguments> maxSubscribersPerCore() {
+        return Stream.of(ListenerType.NOTIFY, ListenerType.REDIS, ListenerType.SHARED_POLL)
+                .flatMap(type -> Arrays.stream(SchedulerType.values()).map(scheduler -> Arguments.of(type, scheduler)));
+    }
+
+    @MethodSource
+    @ParameterizedTest
+    void maxSubscribersPerCore(ListenerType listenerType, SchedulerType schedulerType) throws InterruptedException {
+        listenerProperties.setScheduler(schedulerType);
+        listenerProperties.setType(listenerType);
+        int cores = Runtime.getRuntime().availableProcessors();
+        long startTime = DomainUtils.convertToNanosMax(Instant.now().plusSeconds(1L));
+        int sustainable = 0;
+
+        for (int subscribers = MIN_SUBSCRIBERS; subscribers <= MAX_SUBSCRIBERS; subscribers *= 2) {
+            var elapsed = deliver(listenerType, subscribers, startTime);
+            log.info(
+                    "{} listener with {} scheduler delivered {} messages to {} subscribers in {}",
+                    listenerType,
+                    schedulerType,
+                    MESSAGES,
+                    subscribers,
+                    elapsed);
+
+            if (elapsed.compareTo(LATENCY_THRESHOLD) > 0) {
+                break;
+            }
+
+            sustainable = subscribers;
+            startTime += MESSAGES;
+        }
+
+        log.info(
+                "{} listener with {} scheduler sustained {} subscribers on {} cores ({} per core)",
+                listenerType,
+                schedulerType,
+                sustainable,
+                cores,
+                sustainable / cores);
+    }
+
+    private Duration deliver(ListenerType listenerType, int subscribers, long startTime)
+            throws InterruptedException {
+        var latch = new CountDownLatch(subscribers * MESSAGES);
+        var filter = TopicMessageFilter.builder()
+                .startTime(startTime)
+                .topicId(TOPIC_ID)
+                .build();
+        List<Disposable> disposables = new ArrayList<>(subscribers);
+
+        try {
+            for (int i = 0; i < subscribers; i++) {
+                disposables.add(topicListener.listen(filter).subscribe(t -> latch.countDown()));
+            }
+
+            var stopwatch = Stopwatch.createStarted();
+            publish(listenerType, domainBuilder.topicMessages(MESSAGES, startTime));
+
+            if (!latch.await(LATENCY_THRESHOLD.multipliedBy(10L).toMillis(), TimeUnit.MILLISECONDS)) {
+                return Duration.ofSeconds(Long.MAX_VALUE);
+            }
+
+            return stopwatch.elapsed();
+        } finally {
+            disposables.forEach(Disposable::dispose);
+        }
+    }
+
+    private void publish(ListenerType listenerType, Flux<TopicMessage> topicMessages) {
+        switch (listenerType) {
+            case NOTIFY -> topicMessages
+                    .doOnNext(t -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", toJson(t)))
+                    .blockLast();
+            case REDIS -> topicMessages
+                    .concatMap(t -> redisOperations.convertAndSend("topic." + t.getTopicId().getId(), t))
+                    .blockLast();
+            default -> topicMessages.blockLast();
+        }
+    }
+
+    private String toJson(TopicMessage topicMessage) {
+        try {
+            return notifyingTopicListener.objectMapper.writeValueAsString(topicMessage);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
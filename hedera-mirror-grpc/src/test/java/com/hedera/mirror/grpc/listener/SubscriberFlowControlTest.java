@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriberFlowControlTest {
+
+    private final TopicMessageFilter filter =
+            TopicMessageFilter.builder().startTime(10L).topicId(EntityId.of(100L)).build();
+
+    @Mock
+    private TopicMessageRetriever topicMessageRetriever;
+
+    private ListenerProperties listenerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private SubscriberFlowControl subscriberFlowControl;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        listenerProperties.setMaxBufferSize(8192);
+        listenerProperties.getFlowControl().setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        subscriberFlowControl = new SubscriberFlowControl(listenerProperties, meterRegistry, topicMessageRetriever);
+    }
+
+    @Test
+    void offerAndDeliver() {
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        var topicMessage1 = topicMessage(1L);
+        var topicMessage2 = topicMessage(2L);
+        long size = TopicMessageCodec.size(topicMessage1);
+
+        assertThat(subscriber.offer(topicMessage1)).isTrue();
+        assertThat(subscriber.offer(topicMessage2)).isTrue();
+        assertThat(subscriberFlowControl.getBufferedBytes()).isEqualTo(size * 2);
+        assertThat(meterRegistry.get("hedera.mirror.grpc.listener.buffer").gauge().value())
+                .isEqualTo(size * 2.0);
+
+        subscriber.onDelivered(topicMessage1);
+        assertThat(subscriberFlowControl.getBufferedBytes()).isEqualTo(size);
+
+        subscriber.release();
+        assertThat(subscriberFlowControl.getBufferedBytes()).isZero();
+        assertThat(subscriber.isDowngraded()).isFalse();
+    }
+
+    @Test
+    void downgradeWhenBufferFull() {
+        listenerProperties.setMaxBufferSize(2);
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        var topicMessage1 = topicMessage(1L);
+        var topicMessage2 = topicMessage(2L);
+
+        assertThat(subscriber.offer(topicMessage1)).isTrue();
+        assertThat(subscriber.offer(topicMessage2)).isTrue();
+        assertThat(subscriber.offer(topicMessage(3L))).isFalse();
+        assertThat(subscriber.isDowngraded()).isTrue();
+        assertThat(meterRegistry.counter("hedera.mirror.grpc.listener.downgrades").count())
+                .isOne();
+
+        // Keeps dropping even after the buffer drains until it catches up from the database
+        subscriber.onDelivered(topicMessage1);
+        subscriber.onDelivered(topicMessage2);
+        assertThat(subscriber.offer(topicMessage(4L))).isFalse();
+        assertThat(subscriber.isDowngraded()).isTrue();
+        assertThat(meterRegistry.counter("hedera.mirror.grpc.listener.downgrades").count())
+                .isOne();
+    }
+
+    @Test
+    void downgradeWhenTotalBufferFull() {
+        var topicMessage = topicMessage(1L);
+        listenerProperties
+                .getFlowControl()
+                .setMaxTotalBufferBytes(DataSize.ofBytes(TopicMessageCodec.size(topicMessage) * 2L));
+        var subscriber1 = subscriberFlowControl.subscribe(filter);
+        var subscriber2 = subscriberFlowControl.subscribe(filter);
+
+        assertThat(subscriber1.offer(topicMessage)).isTrue();
+        assertThat(subscriber1.offer(topicMessage(2L))).isTrue();
+        assertThat(subscriber2.offer(topicMessage)).isFalse();
+        assertThat(subscriber1.isDowngraded()).isFalse();
+        assertThat(subscriber2.isDowngraded()).isTrue();
+
+        subscriber1.release();
+        assertThat(subscriberFlowControl.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void deliverAfterRelease() {
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        var topicMessage1 = topicMessage(1L);
+        var topicMessage2 = topicMessage(2L);
+        assertThat(subscriber.offer(topicMessage1)).isTrue();
+        assertThat(subscriber.offer(topicMessage2)).isTrue();
+
+        subscriber.release();
+        subscriber.onDelivered(topicMessage1);
+        subscriber.release();
+        assertThat(subscriberFlowControl.getBufferedBytes()).isZero();
+
+        assertThat(subscriber.offer(topicMessage(3L))).isFalse();
+        assertThat(subscriberFlowControl.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void downgrades() {
+        listenerProperties.setMaxBufferSize(1);
+        var subscriber = subscriberFlowControl.subscribe(filter);
+
+        StepVerifier.create(subscriber.getDowngrades())
+                .then(() -> subscriber.offer(topicMessage(1L)))
+                .expectNoEvent(Duration.ofMillis(100L))
+                .then(() -> subscriber.offer(topicMessage(2L)))
+                .expectNext(true)
+                .then(() -> subscriber.offer(topicMessage(3L)))
+                .then(subscriber::release)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1L));
+        assertThat(subscriber.isDropped()).isTrue();
+    }
+
+    @Test
+    void catchUp() {
+        listenerProperties.setMaxBufferSize(1);
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        var topicMessage1 = topicMessage(1L);
+        var topicMessage2 = topicMessage(2L);
+        when(topicMessageRetriever.retrieve(any(), eq(true))).thenReturn(Flux.just(topicMessage2));
+
+        // Nothing dropped
+        StepVerifier.create(subscriber.catchUp()).verifyComplete();
+
+        assertThat(subscriber.offer(topicMessage1)).isTrue();
+        assertThat(subscriber.isNext(topicMessage1)).isTrue();
+        assertThat(subscriber.offer(topicMessage2)).isFalse();
+
+        // Buffer not yet drained
+        StepVerifier.create(subscriber.catchUp()).verifyComplete();
+        verify(topicMessageRetriever, never()).retrieve(any(), eq(true));
+
+        subscriber.onDelivered(topicMessage1);
+        StepVerifier.create(subscriber.catchUp()).expectNext(topicMessage2).verifyComplete();
+        assertThat(subscriber.isDowngraded()).isFalse();
+        assertThat(subscriber.offer(topicMessage(3L))).isTrue();
+
+        var captor = ArgumentCaptor.forClass(TopicMessageFilter.class);
+        verify(topicMessageRetriever).retrieve(captor.capture(), eq(true));
+        assertThat(captor.getValue())
+                .returns(topicMessage1.getConsensusTimestamp() + 1, TopicMessageFilter::getStartTime)
+                .returns(filter.getTopicId(), TopicMessageFilter::getTopicId);
+    }
+
+    @Test
+    void catchUpBeforeFirstMessage() {
+        listenerProperties.setMaxBufferSize(0);
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        when(topicMessageRetriever.retrieve(any(), eq(true))).thenReturn(Flux.empty());
+
+        assertThat(subscriber.offer(topicMessage(1L))).isFalse();
+        StepVerifier.create(subscriber.catchUp()).verifyComplete();
+
+        var captor = ArgumentCaptor.forClass(TopicMessageFilter.class);
+        verify(topicMessageRetriever).retrieve(captor.capture(), eq(true));
+        assertThat(captor.getValue().getStartTime()).isEqualTo(filter.getStartTime());
+    }
+
+    @Test
+    void isNext() {
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        assertThat(subscriber.isNext(topicMessage(2L))).isTrue();
+        assertThat(subscriber.isNext(topicMessage(1L))).isFalse();
+        assertThat(subscriber.isNext(topicMessage(2L))).isFalse();
+        assertThat(subscriber.isNext(topicMessage(4L))).isTrue();
+    }
+
+    @Test
+    void bufferSizeAdaptsToRequestRate() {
+        listenerProperties.getFlowControl().setMinBufferSize(16);
+        listenerProperties.getFlowControl().setSampleInterval(Duration.ZERO);
+        var subscriber = subscriberFlowControl.subscribe(filter);
+        assertThat(subscriber.getBufferSize()).isEqualTo(listenerProperties.getMaxBufferSize());
+
+        // A consumer that requested at least as many messages as arrived keeps the maximum buffer size
+        subscriber.onRequest(Long.MAX_VALUE);
+        subscriber.onRequest(1L);
+        subscriber.offer(topicMessage(1L));
+        assertThat(subscriber.getBufferSize()).isEqualTo(listenerProperties.getMaxBufferSize());
+
+        // A consumer that requests fewer messages than arrive shrinks to the minimum
+        subscriber.offer(topicMessage(2L));
+        assertThat(subscriber.getBufferSize()).isEqualTo(16);
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(100L + sequenceNumber)
+                .message(new byte[] {1, 2, 3})
+                .runningHash(new byte[] {4, 5, 6})
+                .sequenceNumber(sequenceNumber)
+                .topicId(EntityId.of(100L))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.topic.TopicMessageLookup;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class TopicMessageLookupRepositoryTest extends GrpcIntegrationTest {
+
+    private final TopicMessageLookupRepository topicMessageLookupRepository;
+
+    @Test
+    void findOverlappingEmpty() {
+        assertThat(topicMessageLookupRepository.findOverlapping(100L, 0L, Long.MAX_VALUE))
+                .isEmpty();
+    }
+
+    @Test
+    void findOverlapping() {
+        var lookup1 = topicMessageLookup("topic_message_p1", 100L, 10L, 20L);
+        var lookup2 = topicMessageLookup("topic_message_p2", 100L, 20L, 30L);
+        var lookup3 = topicMessageLookup("topic_message_p3", 100L, 30L, 40L);
+        topicMessageLookup("topic_message_p2", 101L, 20L, 30L);
+
+        assertThat(topicMessageLookupRepository.findOverlapping(100L, 0L, Long.MAX_VALUE))
+                .containsExactly(lookup1, lookup2, lookup3);
+        assertThat(topicMessageLookupRepository.findOverlapping(100L, 19L, 30L))
+                .containsExactly(lookup1, lookup2);
+        assertThat(topicMessageLookupRepository.findOverlapping(100L, 20L, 31L))
+                .containsExactly(lookup2, lookup3);
+        assertThat(topicMessageLookupRepository.findOverlapping(100L, 40L, Long.MAX_VALUE))
+                .isEmpty();
+        assertThat(topicMessageLookupRepository.findOverlapping(102L, 0L, Long.MAX_VALUE))
+                .isEmpty();
+    }
+
+    private TopicMessageLookup topicMessageLookup(
+            String partition, long topicId, long lowerTimestamp, long upperTimestamp) {
+        return domainBuilder
+                .topicMessageLookup()
+                .customize(t -> t.partition(partition)
+                        .timestampRange(Range.closedOpen(lowerTimestamp, upperTimestamp))
+                        .topicId(topicId))
+                .persist();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.retriever;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
@@ -241,6 +242,74 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
                 .verify(WAIT);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void topicMessageLookup(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 3);
+        retrieverProperties.setTopicMessageLookup(true);
+
+        domainBuilder.topicMessages(5, now).blockLast();
+        topicMessageLookup("topic_message_p1", now, now + 2);
+        topicMessageLookup("topic_message_p2", now + 2, now + 5);
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(now + 1).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(2L, 3L, 4L, 5L)
+                .thenCancel()
+                .verify(WAIT);
+
+        retrieverProperties.setTopicMessageLookup(false);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void topicMessageLookupGaps(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 4);
+        retrieverProperties.setTopicMessageLookup(true);
+
+        // topic_message_p2 and the messages after topic_message_p3 have no lookup
+        domainBuilder.topicMessages(6, now).blockLast();
+        topicMessageLookup("topic_message_p1", now, now + 2);
+        topicMessageLookup("topic_message_p3", now + 4, now + 5);
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(now + 1).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(2L, 3L, 4L, 5L, 6L)
+                .thenCancel()
+                .verify(WAIT);
+
+        retrieverProperties.setTopicMessageLookup(false);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void topicMessageLookupEmpty(boolean throttle) {
+        retrieverProperties.setTopicMessageLookup(true);
+        domainBuilder.topicMessages(2, now).blockLast();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L)
+                .thenCancel()
+                .verify(WAIT);
+
+        retrieverProperties.setTopicMessageLookup(false);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void timeout(boolean throttle) {
@@ -305,4 +374,13 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
             retrieverProperties.getUnthrottled().setMaxPageSize(maxPageSize);
         }
     }
+
+    private void topicMessageLookup(String partition, long lowerTimestamp, long upperTimestamp) {
+        super.domainBuilder
+                .topicMessageLookup()
+                .customize(t -> t.partition(partition)
+                        .timestampRange(Range.closedOpen(lowerTimestamp, upperTimestamp))
+                        .topicId(TOPIC_ID.getId()))
+                .persist();
+    }
 }
@@ -234,6 +234,47 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry);
     }
 
+    @Test
+    void cachedUntilNewAddressBook() {
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        long consensusTimestamp = CONSENSUS_TIMESTAMP + 1;
+        domainBuilder
+                .addressBook()
+                .customize(a -> a.fileId(addressBook.getFileId()).startConsensusTimestamp(consensusTimestamp))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(consensusTimestamp))
+                .persist();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry2);
+    }
+
+    @Test
+    void cachedUntilNewNodeStake() {
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry();
+        nodeStake(addressBookEntry.getNodeId(), 100L);
+        addressBookEntry.setStake(100L);
+
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+
+        domainBuilder
+                .nodeStake()
+                .customize(e -> e.consensusTimestamp(NODE_STAKE_CONSENSUS_TIMESTAMP + 1)
+                        .nodeId(addressBookEntry.getNodeId())
+                        .stake(200L))
+                .persist();
+        addressBookEntry.setStake(200L);
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+    }
+
     private List<AddressBookEntry> getNodes(AddressBookFilter filter) {
         return networkService.getNodes(filter).collectList().block(Duration.ofMillis(1000L));
     }
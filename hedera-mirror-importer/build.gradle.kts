@@ -38,7 +38,6 @@ dependencies {
     implementation("org.apache.velocity:velocity-engine-core")
     implementation("org.flywaydb:flyway-core")
     implementation("org.hyperledger.besu:secp256k1")
-    implementation("org.msgpack:jackson-dataformat-msgpack")
     implementation("org.postgresql:postgresql")
     implementation("org.springframework.boot:spring-boot-configuration-processor")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.bloom;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+
+/**
+ * Maintains the record_file_bloom table of blooms aggregated over ranges of blocks on top of the per block logs bloom
+ * so that contract log searches can skip the blocks that can't contain a match.
+ */
+public interface LogsBloomIndexService {
+
+    /**
+     * Aggregate the logs bloom of the record file into the blooms of the block ranges containing it. Must be called
+     * within the transaction that persists the record file.
+     *
+     * @param recordFile The record file
+     */
+    void index(RecordFile recordFile);
+
+    /**
+     * Remove all aggregated blooms, e.g. when block indexes are renumbered.
+     */
+    void reset();
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.bloom;
+
+import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import jakarta.inject.Named;
+import java.util.Arrays;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class LogsBloomIndexServiceImpl implements LogsBloomIndexService {
+
+    // The number of blocks per aggregated bloom from the coarsest to the finest level
+    private static final long[] RANGE_SIZES = {100_000L, 1_000L};
+
+    private static final String DELETE_BLOOMS = "delete from record_file_bloom";
+
+    private static final String SELECT_BLOOM =
+            "select logs_bloom from record_file_bloom where block_count = ? and start_index = ?";
+
+    private static final String SELECT_RECORD_FILE_BLOOMS =
+            "select logs_bloom from record_file where index >= ? and index <= ? order by index";
+
+    private static final String UPSERT_BLOOM =
+            """
+            insert into record_file_bloom (block_count, start_index, logs_bloom)
+            values (?, ?, ?)
+            on conflict (block_count, start_index) do update set logs_bloom = excluded.logs_bloom
+            """;
+
+    // Blocks without a logs bloom are assumed to contain everything
+    private static final byte[] SATURATED_BLOOM = new byte[LogsBloomAggregator.BYTE_SIZE];
+
+    static {
+        Arrays.fill(SATURATED_BLOOM, (byte) 0xFF);
+    }
+
+    private final JdbcOperations jdbcOperations;
+    private final LogsBloomIndexProperties properties;
+
+    @Override
+    public void index(RecordFile recordFile) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long index = recordFile.getIndex();
+        var logsBloom = recordFile.getLogsBloom() != null ? recordFile.getLogsBloom() : SATURATED_BLOOM;
+
+        for (long size : RANGE_SIZES) {
+            long start = startOf(index, size);
+            var existing = jdbcOperations.queryForList(SELECT_BLOOM, byte[].class, size, start);
+            var aggregator = new LogsBloomAggregator();
+
+            if (!existing.isEmpty()) {
+                if (logsBloom.length == 0) {
+                    continue; // Nothing to add to the range
+                }
+
+                aggregator.aggregate(existing.get(0));
+            } else if (start < index) {
+                // The range hasn't been indexed yet, so include the blocks before this one
+                jdbcOperations.query(
+                        SELECT_RECORD_FILE_BLOOMS,
+                        rs -> {
+                            var bloom = rs.getBytes(1);
+                            aggregator.aggregate(bloom != null ? bloom : SATURATED_BLOOM);
+                        },
+                        start,
+                        index - 1);
+            }
+
+            aggregator.aggregate(logsBloom);
+            jdbcOperations.update(UPSERT_BLOOM, size, start, aggregator.getBloom());
+        }
+    }
+
+    @Override
+    public void reset() {
+        int count = jdbcOperations.update(DELETE_BLOOMS);
+        log.info("Removed {} aggregated logs blooms", count);
+    }
+
+    private static long startOf(long index, long size) {
+        return index - Math.floorMod(index, size);
+    }
+}
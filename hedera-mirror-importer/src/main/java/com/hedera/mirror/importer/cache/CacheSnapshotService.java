@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.cache;
+
+import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_ALIAS;
+
+import com.google.common.base.Stopwatch;
+import com.google.protobuf.GeneratedMessageV3;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.MirrorProperties;
+import com.hedera.mirror.importer.addressbook.AddressBookService;
+import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import lombok.CustomLog;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically persists the hottest alias and EVM address to entity ID mappings to a local file and restores them on
+ * startup so a restarted importer doesn't pay a database round trip for every alias it encounters. The snapshot is
+ * tagged with the last imported record file and is discarded if that record file is no longer in the database. The
+ * address book and node stakes are warmed from the database concurrently with a valid snapshot being loaded.
+ */
+@CustomLog
+@Named
+public class CacheSnapshotService {
+
+    static final String FILE_NAME = "cache.snapshot";
+    static final int VERSION = 1;
+
+    private static final byte TYPE_ACCOUNT = 0;
+    private static final byte TYPE_CONTRACT = 1;
+
+    private final AddressBookService addressBookService;
+    private final Cache cache;
+    private final CacheSnapshotProperties properties;
+    private final RecordFileRepository recordFileRepository;
+    private final Path path;
+    private final Timer warmupSuccess;
+    private final Timer warmupSkipped;
+
+    public CacheSnapshotService(
+            AddressBookService addressBookService,
+            @Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager,
+            CacheSnapshotProperties properties,
+            MeterRegistry meterRegistry,
+            MirrorProperties mirrorProperties,
+            RecordFileRepository recordFileRepository) {
+        this.addressBookService = addressBookService;
+        this.cache = cacheManager.getCache("entityId");
+        this.properties = properties;
+        this.recordFileRepository = recordFileRepository;
+        this.path = mirrorProperties.getDataPath().resolve(FILE_NAME);
+
+        var timer = Timer.builder("hedera.mirror.importer.cache.warmup").description("The time to warm up the caches");
+        this.warmupSkipped = timer.tag("result", "skipped").register(meterRegistry);
+        this.warmupSuccess = timer.tag("result", "success").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        int count = 0;
+
+        try {
+            count = load();
+        } catch (Exception e) {
+            log.warn("Unable to warm up caches: {}", e.getMessage());
+        }
+
+        var timer = count > 0 ? warmupSuccess : warmupSkipped;
+        timer.record(stopwatch.elapsed());
+        log.info("Warmed up caches with {} alias entries in {}", count, stopwatch);
+    }
+
+    @PreDestroy
+    @Scheduled(
+            fixedDelayString = "#{@cacheSnapshotProperties.getFrequency().toMillis()}",
+            initialDelayString = "#{@cacheSnapshotProperties.getFrequency().toMillis()}")
+    public synchronized void snapshot() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var entries = hottest();
+        var recordFile = recordFileRepository.findLatest();
+
+        // Avoid overwriting a good snapshot with nothing, e.g. while this instance isn't the leader
+        if (entries.isEmpty() || recordFile.isEmpty()) {
+            return;
+        }
+
+        try {
+            var tempFile = path.resolveSibling(FILE_NAME + ".tmp");
+            Files.createDirectories(path.getParent());
+
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(VERSION);
+                output.writeLong(recordFile.get().getConsensusEnd());
+                output.writeUTF(Objects.toString(recordFile.get().getHash(), ""));
+                output.writeInt(entries.size());
+
+                for (var entry : entries.entrySet()) {
+                    var key = entry.getKey();
+                    output.writeByte(key instanceof AccountID ? TYPE_ACCOUNT : TYPE_CONTRACT);
+                    var bytes = key.toByteArray();
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                    output.writeLong(entry.getValue().getId());
+                }
+            }
+
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} alias entries to cache snapshot in {}", entries.size(), stopwatch);
+        } catch (Exception e) {
+            log.warn("Unable to save cache snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<GeneratedMessageV3, EntityId> hottest() {
+        var nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        var hottest = nativeCache
+                .policy()
+                .eviction()
+                .map(e -> e.hottest(properties.getMaxEntries()))
+                .orElseGet(nativeCache::asMap);
+        var entries = new LinkedHashMap<GeneratedMessageV3, EntityId>();
+
+        for (var entry : hottest.entrySet()) {
+            if (entries.size() >= properties.getMaxEntries()) {
+                break;
+            }
+
+            // Only aliases and EVM addresses are expensive to resolve, so skip the num based keys and null values
+            if (entry.getValue() instanceof EntityId entityId && !EntityId.isEmpty(entityId)) {
+                if (entry.getKey() instanceof AccountID accountId
+                        && accountId.getAccountCase() == AccountID.AccountCase.ALIAS) {
+                    entries.put(accountId, entityId);
+                } else if (entry.getKey() instanceof ContractID contractId
+                        && contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+                    entries.put(contractId, entityId);
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private int load() throws IOException {
+        if (!Files.exists(path)) {
+            log.info("No cache snapshot found at {}", path);
+            return 0;
+        }
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = input.readInt();
+            if (version != VERSION) {
+                log.warn("Ignoring cache snapshot with unsupported version {}", version);
+                return 0;
+            }
+
+            long consensusEnd = input.readLong();
+            var hash = input.readUTF();
+            if (!isValid(consensusEnd, hash)) {
+                log.warn("Ignoring cache snapshot taken at record file {} not present in the database", consensusEnd);
+                return 0;
+            }
+
+            // The address book and node stakes are small enough to be read from the database directly
+            var nodes = CompletableFuture.runAsync(addressBookService::getNodes).exceptionally(e -> {
+                log.warn("Unable to warm up address book: {}", e.getMessage());
+                return null;
+            });
+            int count = input.readInt();
+
+            for (int i = 0; i < count; ++i) {
+                byte type = input.readByte();
+                var bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                var entityId = EntityId.of(input.readLong());
+                var key = type == TYPE_ACCOUNT ? AccountID.parseFrom(bytes) : ContractID.parseFrom(bytes);
+                // Don't overwrite anything the parser already resolved while the snapshot was loading
+                cache.putIfAbsent(key, entityId);
+            }
+
+            nodes.join();
+            return count;
+        }
+    }
+
+    private boolean isValid(long consensusEnd, String hash) {
+        return recordFileRepository
+                .findById(consensusEnd)
+                .map(RecordFile::getHash)
+                .filter(hash::equals)
+                .isPresent();
+    }
+}
@@ -16,6 +16,9 @@
 
 package com.hedera.mirror.importer.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.MessageLite;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
@@ -36,6 +39,9 @@ public class CacheConfiguration {
     public static final String CACHE_MANAGER_ALIAS = "cacheManagerAlias";
     public static final String CACHE_MANAGER_TABLE_TIME_PARTITION = "cacheManagerTableTimePartition";
 
+    private static final long ALIAS_CACHE_MAX_WEIGHT = 16L * 1024 * 1024; // bytes
+    private static final int ALIAS_CACHE_ENTRY_OVERHEAD = 96; // bytes for the entry, key and value objects
+
     @Bean(EXPIRE_AFTER_5M)
     @Primary
     CacheManager cacheManager5m() {
@@ -47,7 +53,11 @@ public class CacheConfiguration {
     @Bean(CACHE_MANAGER_ALIAS)
     CacheManager cacheManagerAlias() {
         var caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheSpecification("maximumSize=100000,expireAfterWrite=30m");
+        // Bound by approximate memory instead of entry count since aliases vary in size
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .maximumWeight(ALIAS_CACHE_MAX_WEIGHT)
+                .weigher(CacheConfiguration::weighAlias));
         return caffeineCacheManager;
     }
 
@@ -57,4 +67,9 @@ public class CacheConfiguration {
         caffeineCacheManager.setCacheSpecification("maximumSize=50,expireAfterWrite=1d");
         return caffeineCacheManager;
     }
+
+    private static int weighAlias(Object key, Object value) {
+        int size = key instanceof MessageLite message ? message.getSerializedSize() : 0;
+        return size + ALIAS_CACHE_ENTRY_OVERHEAD;
+    }
 }
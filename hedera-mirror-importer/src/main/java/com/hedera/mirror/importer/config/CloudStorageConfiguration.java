@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.config;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.PathTypeService;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import java.net.URI;
@@ -51,6 +52,7 @@ class CloudStorageConfiguration {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final MetricsExecutionInterceptor metricsExecutionInterceptor;
+    private final PathTypeService pathTypeService;
 
     @Bean
     List<StreamFileProvider> streamFileProviders() {
@@ -61,7 +63,8 @@ class CloudStorageConfiguration {
             var provider =
                     switch (source.getType()) {
                         case LOCAL -> new LocalStreamFileProvider(commonDownloaderProperties);
-                        case GCP, S3 -> new S3StreamFileProvider(commonDownloaderProperties, s3Client(source));
+                        case GCP, S3 -> new S3StreamFileProvider(
+                                commonDownloaderProperties, pathTypeService, s3Client(source));
                     };
 
             providers.add(provider);
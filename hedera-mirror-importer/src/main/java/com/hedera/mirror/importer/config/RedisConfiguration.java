@@ -16,13 +16,9 @@
 
 package com.hedera.mirror.importer.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.hedera.mirror.common.converter.EntityIdDeserializer;
-import com.hedera.mirror.common.converter.EntityIdSerializer;
-import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
-import org.msgpack.jackson.dataformat.MessagePackFactory;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -33,8 +29,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 
 @AutoConfigureBefore(RedisAutoConfiguration.class)
 @AutoConfigureAfter({MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class})
@@ -43,14 +39,23 @@ class RedisConfiguration {
 
     @Bean
     RedisSerializer<StreamMessage> redisSerializer() {
-        var module = new SimpleModule();
-        module.addDeserializer(EntityId.class, EntityIdDeserializer.INSTANCE);
-        module.addSerializer(EntityIdSerializer.INSTANCE);
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(StreamMessage streamMessage) {
+                if (streamMessage == null) {
+                    return null;
+                } else if (streamMessage instanceof TopicMessage topicMessage) {
+                    return TopicMessageCodec.encode(topicMessage);
+                }
 
-        var objectMapper = new ObjectMapper(new MessagePackFactory());
-        objectMapper.registerModule(module);
+                throw new SerializationException("Unsupported stream message " + streamMessage.getClass());
+            }
 
-        return new Jackson2JsonRedisSerializer<>(objectMapper, StreamMessage.class);
+            @Override
+            public StreamMessage deserialize(byte[] bytes) {
+                return bytes != null ? TopicMessageCodec.decode(bytes) : null;
+            }
+        };
     }
 
     @Bean
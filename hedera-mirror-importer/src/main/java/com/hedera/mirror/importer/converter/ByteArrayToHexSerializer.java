@@ -19,9 +19,9 @@ package com.hedera.mirror.importer.converter;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.hedera.mirror.common.util.HexUtils;
 import jakarta.inject.Named;
 import java.io.IOException;
-import org.apache.commons.codec.binary.Hex;
 
 @Named
 public class ByteArrayToHexSerializer extends JsonSerializer<byte[]> {
@@ -29,11 +29,27 @@ public class ByteArrayToHexSerializer extends JsonSerializer<byte[]> {
     public static final ByteArrayToHexSerializer INSTANCE = new ByteArrayToHexSerializer();
     static final String PREFIX = "\\x";
 
+    // Reused per thread since Jackson copies the characters out before writeString returns
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
     @Override
     public void serialize(byte[] value, JsonGenerator jsonGenerator, SerializerProvider serializers)
             throws IOException {
         if (value != null) {
-            jsonGenerator.writeString(PREFIX + Hex.encodeHexString(value));
+            int length = PREFIX.length() + HexUtils.encodedLength(value.length);
+            char[] buffer = BUFFER.get();
+            if (buffer.length < length) {
+                // Don't retain large buffers for outliers like contract bytecode
+                buffer = new char[length];
+                if (length <= MAX_BUFFER_SIZE) {
+                    BUFFER.set(buffer);
+                }
+            }
+
+            PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+            HexUtils.encode(value, buffer, PREFIX.length());
+            jsonGenerator.writeString(buffer, 0, length);
         }
     }
 }
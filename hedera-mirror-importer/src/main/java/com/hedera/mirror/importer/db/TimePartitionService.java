@@ -19,6 +19,14 @@ package com.hedera.mirror.importer.db;
 import java.util.List;
 
 public interface TimePartitionService {
+    /**
+     * Detach the time partition from its parent table and drop it. Cached time partitions are evicted.
+     *
+     * @param timePartition The time partition to drop
+     * @return The total size in bytes of the dropped partition, including its indexes and toast data
+     */
+    long dropTimePartition(TimePartition timePartition);
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
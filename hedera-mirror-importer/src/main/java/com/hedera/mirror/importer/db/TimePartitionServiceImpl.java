@@ -19,27 +19,43 @@ package com.hedera.mirror.importer.db;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_TABLE_TIME_PARTITION;
 
 import com.google.common.collect.Range;
+import com.hedera.mirror.importer.config.Owner;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @CacheConfig(cacheManager = CACHE_MANAGER_TABLE_TIME_PARTITION)
 @CustomLog
 @Named
-@RequiredArgsConstructor
 public class TimePartitionServiceImpl implements TimePartitionService {
 
     public static final String CACHE_NAME_TABLES = "tables";
     public static final String CACHE_NAME_TABLE_OVERLAPPING_PARTITIONS = "tablesOverlappingPartitions";
 
+    private static final String TOPIC_MESSAGE_TABLE = "topic_message";
+    private static final String DELETE_TOPIC_MESSAGE_LOOKUP_SQL =
+            "delete from topic_message_lookup where partition = ?";
+    private static final String DETACH_PARTITION_CONCURRENTLY_SQL = "alter table %s detach partition %s concurrently";
+    private static final String DETACH_PARTITION_FINALIZE_SQL = "alter table %s detach partition %s finalize";
+    private static final String DETACH_PARTITION_SQL = "alter table %s detach partition %s";
+    private static final String DROP_TABLE_SQL = "drop table %s";
+    private static final String IS_DETACH_PENDING_SQL =
+            "select inhdetachpending from pg_inherits where inhrelid = ?::regclass";
+    private static final String LOCK_TIMEOUT_SQL = "set local lock_timeout = '5s'";
+    private static final String GET_PARTITION_SIZE_SQL = "select pg_total_relation_size(?::regclass)";
     private static final String GET_TIME_PARTITIONS_SQL =
             """
             select
@@ -61,6 +77,60 @@ public class TimePartitionServiceImpl implements TimePartitionService {
             .build();
 
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate ownerJdbcTemplate;
+    private final TransactionOperations ownerTransactionOperations;
+    private final boolean isV2;
+
+    public TimePartitionServiceImpl(
+            JdbcTemplate jdbcTemplate, @Owner JdbcTemplate ownerJdbcTemplate, Environment environment) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ownerJdbcTemplate = ownerJdbcTemplate;
+        this.ownerTransactionOperations =
+                new TransactionTemplate(new DataSourceTransactionManager(ownerJdbcTemplate.getDataSource()));
+        this.isV2 = environment.acceptsProfiles(Profiles.of("v2"));
+    }
+
+    /**
+     * Detaches the partition without blocking writes to the parent table, then drops it together with any topic message
+     * lookups pointing at it in one transaction. Citus doesn't support detaching concurrently, so on v2 the detach runs
+     * in the same transaction with a lock timeout so that waiting for the parent's lock can't stall the importer.
+     */
+    @CacheEvict(
+            allEntries = true,
+            cacheNames = {CACHE_NAME_TABLES, CACHE_NAME_TABLE_OVERLAPPING_PARTITIONS})
+    @Override
+    public long dropTimePartition(TimePartition timePartition) {
+        String name = timePartition.getName();
+        String parent = timePartition.getParent();
+        var size = ownerJdbcTemplate.queryForObject(GET_PARTITION_SIZE_SQL, Long.class, name);
+
+        if (isV2) {
+            ownerTransactionOperations.executeWithoutResult(s -> {
+                ownerJdbcTemplate.execute(LOCK_TIMEOUT_SQL);
+                ownerJdbcTemplate.execute(String.format(DETACH_PARTITION_SQL, parent, name));
+                drop(timePartition);
+            });
+        } else {
+            // Can't run in a transaction. A concurrent detach interrupted after its first phase has to be finalized.
+            var pending = ownerJdbcTemplate.queryForList(IS_DETACH_PENDING_SQL, Boolean.class, name);
+            var sql =
+                    pending.contains(Boolean.TRUE) ? DETACH_PARTITION_FINALIZE_SQL : DETACH_PARTITION_CONCURRENTLY_SQL;
+            ownerJdbcTemplate.execute(String.format(sql, parent, name));
+            ownerTransactionOperations.executeWithoutResult(s -> drop(timePartition));
+        }
+
+        log.info("Dropped time partition {} of table {}", name, parent);
+        return size != null ? size : 0L;
+    }
+
+    private void drop(TimePartition timePartition) {
+        if (TOPIC_MESSAGE_TABLE.equals(timePartition.getParent())) {
+            int count = ownerJdbcTemplate.update(DELETE_TOPIC_MESSAGE_LOOKUP_SQL, timePartition.getName());
+            log.info("Deleted {} topic message lookups of partition {}", count, timePartition.getName());
+        }
+
+        ownerJdbcTemplate.execute(String.format(DROP_TABLE_SQL, timePartition.getName()));
+    }
 
     @Cacheable(cacheNames = CACHE_NAME_TABLE_OVERLAPPING_PARTITIONS)
     @Override
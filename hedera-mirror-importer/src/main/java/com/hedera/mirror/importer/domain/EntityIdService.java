@@ -20,6 +20,7 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -62,6 +63,16 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses among the given IDs that aren't cached yet in a single query, so that
+     * subsequent lookups of them don't need to query the database one at a time. IDs that can't be resolved are left
+     * uncached.
+     *
+     * @param accountIds  The protobuf account IDs that may contain aliases
+     * @param contractIds The protobuf contract IDs that may contain EVM addresses
+     */
+    void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds);
+
     /**
      * Used to notify the system of new aliases for potential use in future lookups.
      *
@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.domain;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_ALIAS;
 import static com.hedera.mirror.importer.util.Utility.RECOVERABLE_ERROR;
 
+import com.google.common.base.Stopwatch;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 import com.hedera.mirror.common.domain.entity.Entity;
@@ -29,25 +30,42 @@ import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import lombok.CustomLog;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcOperations;
 
 @CustomLog
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
+    private static final String SELECT_BY_ALIAS_OR_EVM_ADDRESS =
+            """
+            select id, alias, evm_address
+            from entity
+            where (alias = any(?) or evm_address = any(?)) and deleted <> true
+            """;
+
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
 
     public EntityIdServiceImpl(
-            @Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+            @Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            JdbcOperations jdbcOperations) {
         this.cache = cacheManager.getCache("entityId");
         this.entityRepository = entityRepository;
+        this.jdbcOperations = jdbcOperations;
     }
 
     @Override
@@ -93,6 +111,78 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EntityId.EMPTY;
     }
 
+    @Override
+    public void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+        var aliases = new HashMap<ByteString, List<GeneratedMessageV3>>();
+        var evmAddresses = new HashMap<ByteString, List<GeneratedMessageV3>>();
+
+        for (var accountId : accountIds) {
+            if (accountId.getAccountCase() != AccountID.AccountCase.ALIAS || cache.get(accountId) != null) {
+                continue;
+            }
+
+            var alias = accountId.getAlias();
+            if (alias.size() != DomainUtils.EVM_ADDRESS_LENGTH) {
+                aliases.computeIfAbsent(alias, k -> new ArrayList<>()).add(accountId);
+            } else if (!isParsable(alias, accountId.getShardNum(), accountId.getRealmNum())) {
+                evmAddresses.computeIfAbsent(alias, k -> new ArrayList<>()).add(accountId);
+            }
+        }
+
+        for (var contractId : contractIds) {
+            if (contractId.getContractCase() != ContractID.ContractCase.EVM_ADDRESS || cache.get(contractId) != null) {
+                continue;
+            }
+
+            var evmAddress = contractId.getEvmAddress();
+            if (!isParsable(evmAddress, contractId.getShardNum(), contractId.getRealmNum())) {
+                evmAddresses.computeIfAbsent(evmAddress, k -> new ArrayList<>()).add(contractId);
+            }
+        }
+
+        if (aliases.isEmpty() && evmAddresses.isEmpty()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var found = new AtomicInteger(0);
+        jdbcOperations.query(
+                SELECT_BY_ALIAS_OR_EVM_ADDRESS,
+                ps -> {
+                    var connection = ps.getConnection();
+                    ps.setArray(1, connection.createArrayOf("bytea", toByteArrays(aliases.keySet())));
+                    ps.setArray(2, connection.createArrayOf("bytea", toByteArrays(evmAddresses.keySet())));
+                },
+                rs -> {
+                    var entityId = EntityId.of(rs.getLong(1));
+                    cacheAll(aliases.get(DomainUtils.fromBytes(rs.getBytes(2))), entityId);
+                    cacheAll(evmAddresses.get(DomainUtils.fromBytes(rs.getBytes(3))), entityId);
+                    found.incrementAndGet();
+                });
+
+        log.debug(
+                "Preloaded {} of {} aliases and EVM addresses in {}",
+                found,
+                aliases.size() + evmAddresses.size(),
+                stopwatch);
+    }
+
+    private void cacheAll(List<GeneratedMessageV3> keys, EntityId entityId) {
+        if (keys != null) {
+            keys.forEach(key -> cache.put(key, entityId));
+        }
+    }
+
+    // Whether the EVM address is in the 'shard.realm.num' form that resolves without a database query
+    private boolean isParsable(ByteString evmAddress, long shardNum, long realmNum) {
+        var entityId = DomainUtils.fromEvmAddress(DomainUtils.toBytes(evmAddress));
+        return entityId != null && entityId.getShard() == shardNum && entityId.getRealm() == realmNum;
+    }
+
+    private byte[][] toByteArrays(Collection<ByteString> byteStrings) {
+        return byteStrings.stream().map(DomainUtils::toBytes).toArray(byte[][]::new);
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
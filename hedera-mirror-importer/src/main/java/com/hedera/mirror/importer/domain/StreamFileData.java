@@ -27,7 +27,6 @@ import java.nio.file.Path;
 import java.time.Instant;
 import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
 import org.apache.commons.compress.compressors.CompressorException;
@@ -48,9 +47,6 @@ public class StreamFileData {
     @EqualsAndHashCode.Include
     private final byte[] bytes;
 
-    @Getter(lazy = true)
-    private final byte[] decompressedBytes = decompressBytes();
-
     private final Instant lastModified;
 
     private static StreamFileData readStreamFileData(File file, StreamFilename streamFilename) {
@@ -85,8 +81,40 @@ public class StreamFileData {
         return new StreamFileData(StreamFilename.from(filename), bytes, Instant.now());
     }
 
+    /**
+     * Reads and decompresses the whole stream file into memory. Prefer {@link #getInputStream()} to avoid holding the
+     * decompressed copy.
+     *
+     * @return the decompressed bytes
+     */
+    public byte[] getDecompressedBytes() {
+        try (var inputStream = getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new InvalidStreamFileException(streamFilename.getFilename(), e);
+        }
+    }
+
+    /**
+     * Gets a new input stream that decompresses the stream file as it's read, so the decompressed content is never
+     * fully buffered in memory.
+     *
+     * @return the decompressed input stream
+     */
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(getDecompressedBytes());
+        var inputStream = new ByteArrayInputStream(bytes);
+        var compressor = streamFilename.getCompressor();
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
     }
 
     public String getFilename() {
@@ -101,21 +129,4 @@ public class StreamFileData {
     public String toString() {
         return streamFilename.toString();
     }
-
-    private byte[] decompressBytes() {
-        var compressor = streamFilename.getCompressor();
-        if (StringUtils.isBlank(compressor)) {
-            return bytes;
-        }
-
-        try (var inputStream = new ByteArrayInputStream(bytes);
-                var compressorInputStream =
-                        compressorStreamFactory.createCompressorInputStream(compressor, inputStream)) {
-            return compressorInputStream.readAllBytes();
-        } catch (CompressorException | IOException e) {
-            var filename = streamFilename.getFilename();
-            log.error("Failed to decompress stream file {}", filename);
-            throw new InvalidStreamFileException(filename, e);
-        }
-    }
 }
@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.downloader;
 import com.hedera.mirror.importer.MirrorProperties;
 import com.hedera.mirror.importer.MirrorProperties.HederaNetwork;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -36,6 +37,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -52,10 +54,18 @@ public class CommonDownloaderProperties {
 
     private Boolean allowAnonymousAccess;
 
+    @NotNull
+    @Valid
+    private BackfillProperties backfill = new BackfillProperties();
+
     private int batchSize = 100;
 
     private String bucketName;
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private SourceType cloudProvider = SourceType.S3;
 
     @NotNull
@@ -146,6 +156,24 @@ public class CommonDownloaderProperties {
                 : HederaNetwork.isAllowAnonymousAccess(mirrorProperties.getNetwork());
     }
 
+    @Data
+    public static class BackfillProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int parallelism = 8;
+    }
+
+    @Data
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofGigabytes(10L);
+    }
+
     public enum PathType {
         ACCOUNT_ID,
         AUTO,
@@ -54,6 +54,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -69,6 +70,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
 
@@ -317,6 +321,12 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
 
+        var backfill = downloaderProperties.getCommon().getBackfill();
+        if (backfill.isEnabled() && sigFilesMap.keySet().size() > 1) {
+            backfill(sigFilesMap, nodeIds, backfill.getParallelism());
+            return;
+        }
+
         for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
             if (ShutdownHelper.isStopping()) {
                 return;
@@ -328,19 +338,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
             try {
                 nodeSignatureVerifier.verify(signatures);
-
-                var consensusCount = signatures.stream()
-                        .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
-                        .count();
-
-                if (consensusCount == nodeIds.size()) {
-                    log.debug("Verified signature file {} reached consensus", sigFilename);
-                } else if (consensusCount > 0) {
-                    log.warn(
-                            "Verified signature file {} reached consensus but with some errors: {}",
-                            sigFilename,
-                            statusMap(signatures, nodeIds));
-                }
+                logConsensus(sigFilename, signatures, nodeIds);
             } catch (SignatureVerificationException ex) {
                 var statusMapMessage = statusMap(signatures, nodeIds);
                 if (sigFilenameIter.hasNext()) {
@@ -363,11 +361,46 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         }
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
-        Instant endDate = mirrorProperties.getEndDate();
+    /**
+     * Verifies the signature files and downloads and reads the data files of up to parallelism groups concurrently,
+     * then completes each file in filename order so that the hash chain is still verified against the previous file and
+     * the parser receives the files in order. Only the work that doesn't depend on the previous file is done
+     * concurrently.
+     *
+     * @param sigFilesMap signature files grouped by filename
+     * @param nodeIds     the current consensus node IDs
+     * @param parallelism the maximum number of groups to process concurrently
+     */
+    private void backfill(
+            Multimap<StreamFilename, StreamFileSignature> sigFilesMap, Set<Long> nodeIds, int parallelism) {
+        var groups = List.copyOf(sigFilesMap.asMap().entrySet());
+        var last = groups.get(groups.size() - 1).getKey();
+
+        Flux.fromIterable(groups)
+                .flatMapSequential(
+                        e -> Mono.fromCallable(() -> prefetch(e.getKey(), e.getValue()))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        parallelism)
+                .takeWhile(p -> downloaderProperties.isEnabled() && !ShutdownHelper.isStopping())
+                .doOnNext(p -> complete(p, nodeIds, p.filename().equals(last)))
+                .blockLast();
+    }
+
+    /**
+     * Verifies the signatures of a group and downloads, reads and verifies the hashes of the first data file that
+     * matches the consensus hashes. The hash chain is verified later by {@link #complete} since it depends on the
+     * previous file.
+     */
+    private PrefetchedFile<T> prefetch(StreamFilename filename, Collection<StreamFileSignature> signatures) {
+        var startTime = Instant.now();
+
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException e) {
+            return new PrefetchedFile<>(filename, signatures, startTime, null, null, null, e);
+        }
 
         for (var signature : signatures) {
-            // Ignore signatures that didn't validate or weren't in the majority
             if (signature.getStatus() != StreamFileSignature.SignatureStatus.CONSENSUS_REACHED) {
                 continue;
             }
@@ -375,37 +408,120 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             var nodeId = signature.getNode().getNodeId();
 
             try {
-                var dataFilename = signature.getDataFilename();
-                var node = signature.getNode();
-                var streamFileData = streamFileProvider.get(node, dataFilename).block();
+                var streamFileData = streamFileProvider
+                        .get(signature.getNode(), signature.getDataFilename())
+                        .block();
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
+                verifyHashes(streamFile, signature);
+                streamFileProvider.onVerified(streamFileData);
+                return new PrefetchedFile<>(
+                        filename, signatures, startTime, signature, streamFileData, streamFile, null);
+            } catch (HashMismatchException | TransientProviderException e) {
+                log.warn(
+                        "Failed processing signature from node {} corresponding to {}. Will retry another node: {}",
+                        nodeId,
+                        filename,
+                        e.getMessage());
+            } catch (Exception e) {
+                log.error(
+                        "Error downloading data file from node {} corresponding to {}. Will retry another node",
+                        nodeId,
+                        filename,
+                        e);
+            }
+        }
 
-                verify(streamFile, signature);
+        return new PrefetchedFile<>(filename, signatures, startTime, null, null, null, null);
+    }
 
-                if (downloaderProperties.isWriteFiles()) {
-                    Utility.archiveFile(
-                            streamFileData.getFilePath(), streamFile.getBytes(), mirrorProperties.getDataPath());
-                }
+    /**
+     * Verifies the hash chain of a prefetched file and hands it off in order. If the prefetched file or its dependent
+     * files like sidecars fail, falls back to downloading the file again from each node like a non-backfill download.
+     */
+    private void complete(PrefetchedFile<T> prefetchedFile, Set<Long> nodeIds, boolean last) {
+        var filename = prefetchedFile.filename();
+        var signatures = prefetchedFile.signatures();
+        var error = prefetchedFile.error();
+
+        if (error != null) {
+            var statusMapMessage = statusMap(signatures, nodeIds);
+            if (last) {
+                throw new SignatureVerificationException(error.getMessage() + ": " + statusMapMessage);
+            }
 
-                if (downloaderProperties.isWriteSignatures()) {
-                    var destination = mirrorProperties.getDataPath();
-                    signatures.forEach(
-                            s -> Utility.archiveFile(s.getFilename().getFilePath(), s.getBytes(), destination));
-                }
+            log.warn("{}. Trying next group: {}", error.getMessage(), statusMapMessage);
+            return;
+        }
 
-                if (!downloaderProperties.isPersistBytes()) {
-                    streamFile.setBytes(null);
-                }
+        logConsensus(filename, signatures, nodeIds);
+        boolean valid = false;
+        var streamFile = prefetchedFile.streamFile();
 
-                if (dataFilename.getInstant().isAfter(endDate)) {
-                    downloaderProperties.setEnabled(false);
-                    log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
-                    return false;
+        if (streamFile != null) {
+            try {
+                String expectedPrevHash = lastStreamFile.get().map(StreamFile::getHash).orElse(null);
+                if (!verifyHashChain(streamFile, expectedPrevHash)) {
+                    throw new HashMismatchException(
+                            streamFile.getName(), expectedPrevHash, streamFile.getPreviousHash(), HASH_TYPE_RUNNING);
                 }
 
-                onVerified(streamFileData, streamFile, node);
-                return true;
+                var node = prefetchedFile.signature().getNode();
+                valid = onDownloaded(prefetchedFile.streamFileData(), streamFile, node, signatures);
+            } catch (HashMismatchException e) {
+                log.warn("Failed processing {}: {}. Will retry all nodes", filename, e.getMessage());
+                valid = verifySignatures(signatures);
+            } catch (Exception e) {
+                log.error("Error processing data file corresponding to {}. Will retry all nodes", filename, e);
+                valid = verifySignatures(signatures);
+            }
+        }
+
+        if (!valid && downloaderProperties.isEnabled()) {
+            log.error("None of the data files could be verified, signatures: {}", signatures);
+        }
+
+        streamVerificationMetric
+                .tag("success", String.valueOf(valid))
+                .register(meterRegistry)
+                .record(Duration.between(prefetchedFile.startTime(), Instant.now()));
+    }
+
+    private void logConsensus(
+            StreamFilename sigFilename, Collection<StreamFileSignature> signatures, Set<Long> nodeIds) {
+        var consensusCount = signatures.stream()
+                .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
+                .count();
+
+        if (consensusCount == nodeIds.size()) {
+            log.debug("Verified signature file {} reached consensus", sigFilename);
+        } else if (consensusCount > 0) {
+            log.warn(
+                    "Verified signature file {} reached consensus but with some errors: {}",
+                    sigFilename,
+                    statusMap(signatures, nodeIds));
+        }
+    }
+
+    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+        for (var signature : signatures) {
+            // Ignore signatures that didn't validate or weren't in the majority
+            if (signature.getStatus() != StreamFileSignature.SignatureStatus.CONSENSUS_REACHED) {
+                continue;
+            }
+
+            var nodeId = signature.getNode().getNodeId();
+
+            try {
+                var dataFilename = signature.getDataFilename();
+                var node = signature.getNode();
+                var streamFileData = streamFileProvider.get(node, dataFilename).block();
+                T streamFile = streamFileReader.read(streamFileData);
+                streamFile.setNodeId(nodeId);
+
+                verify(streamFile, signature);
+                streamFileProvider.onVerified(streamFileData);
+                return onDownloaded(streamFileData, streamFile, node, signatures);
             } catch (HashMismatchException | TransientProviderException e) {
                 log.warn(
                         "Failed processing signature from node {} corresponding to {}. Will retry another node: {}",
@@ -424,6 +540,35 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    private boolean onDownloaded(
+            StreamFileData streamFileData,
+            T streamFile,
+            ConsensusNode node,
+            Collection<StreamFileSignature> signatures) {
+        if (downloaderProperties.isWriteFiles()) {
+            Utility.archiveFile(streamFileData.getFilePath(), streamFile.getBytes(), mirrorProperties.getDataPath());
+        }
+
+        if (downloaderProperties.isWriteSignatures()) {
+            var destination = mirrorProperties.getDataPath();
+            signatures.forEach(s -> Utility.archiveFile(s.getFilename().getFilePath(), s.getBytes(), destination));
+        }
+
+        if (!downloaderProperties.isPersistBytes()) {
+            streamFile.setBytes(null);
+        }
+
+        Instant endDate = mirrorProperties.getEndDate();
+        if (streamFileData.getStreamFilename().getInstant().isAfter(endDate)) {
+            downloaderProperties.setEnabled(false);
+            log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
+            return false;
+        }
+
+        onVerified(streamFileData, streamFile, node);
+        return true;
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
@@ -462,6 +607,11 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                     filename, expectedPrevHash, streamFile.getPreviousHash(), HASH_TYPE_RUNNING);
         }
 
+        verifyHashes(streamFile, signature);
+    }
+
+    private void verifyHashes(T streamFile, StreamFileSignature signature) {
+        String filename = streamFile.getName();
         verifyHash(filename, streamFile.getFileHash(), signature.getFileHashAsHex(), HASH_TYPE_FILE);
         verifyHash(filename, streamFile.getMetadataHash(), signature.getMetadataHashAsHex(), HASH_TYPE_METADATA);
     }
@@ -576,4 +726,13 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record PrefetchedFile<S>(
+            StreamFilename filename,
+            Collection<StreamFileSignature> signatures,
+            Instant startTime,
+            StreamFileSignature signature,
+            StreamFileData streamFileData,
+            S streamFile,
+            SignatureVerificationException error) {}
 }
@@ -41,9 +41,11 @@ import reactor.util.retry.Retry;
 @Primary
 final class CompositeStreamFileProvider implements StreamFileProvider {
 
+    private final StreamFileCache cache;
     private final List<ProviderHealth> providers;
 
     public CompositeStreamFileProvider(CommonDownloaderProperties properties, List<StreamFileProvider> providers) {
+        this.cache = new StreamFileCache(properties.getCache(), properties.getMirrorProperties().getDataPath());
         var providerHealth = new ArrayList<ProviderHealth>();
 
         for (int i = 0; i < providers.size(); ++i) {
@@ -58,9 +60,10 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
     @Override
     public Mono<StreamFileData> get(ConsensusNode consensusNode, StreamFilename streamFilename) {
         var index = new AtomicInteger(0);
-        return Mono.fromSupplier(() -> getProvider(index))
-                .flatMap(p -> p.get(consensusNode, streamFilename))
-                .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
+        return Mono.defer(() -> Mono.justOrEmpty(cache.get(streamFilename)))
+                .switchIfEmpty(Mono.fromSupplier(() -> getProvider(index))
+                        .flatMap(p -> p.get(consensusNode, streamFilename))
+                        .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index)))));
     }
 
     @Override
@@ -71,6 +74,12 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
     }
 
+    // Only cache files that are verified so a corrupt download is never served to later requests
+    @Override
+    public void onVerified(StreamFileData streamFileData) {
+        cache.put(streamFileData);
+    }
+
     // Get the next healthy provider
     private StreamFileProvider getProvider(AtomicInteger index) {
         for (; index.get() < providers.size(); index.getAndIncrement()) {
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import java.util.Optional;
+
+/**
+ * Persists the bucket path type detected for each node so it doesn't need to be probed again after a restart or a
+ * leader failover.
+ */
+public interface PathTypeService {
+
+    /**
+     * Gets the previously detected path type of the node's stream files.
+     *
+     * @param node       the consensus node
+     * @param streamType the stream type
+     * @return the detected path type, or empty if it has not been detected
+     */
+    Optional<PathType> get(ConsensusNode node, StreamType streamType);
+
+    /**
+     * Saves the detected path type of the node's stream files.
+     *
+     * @param node       the consensus node
+     * @param streamType the stream type
+     * @param pathType   the detected path type
+     */
+    void save(ConsensusNode node, StreamType streamType, PathType pathType);
+}
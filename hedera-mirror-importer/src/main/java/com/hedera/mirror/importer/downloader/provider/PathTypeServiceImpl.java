@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.google.common.base.Suppliers;
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@CustomLog
+@Named
+public class PathTypeServiceImpl implements PathTypeService {
+
+    private static final String SELECT_SQL = "select node_id, path_type, stream_type from node_stream_path";
+
+    private static final String UPSERT_SQL =
+            """
+            insert into node_stream_path (node_id, path_type, stream_type, updated_timestamp)
+            values (?, ?, ?, ?)
+            on conflict (node_id, stream_type) do update
+            set path_type = excluded.path_type, updated_timestamp = excluded.updated_timestamp
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    // Reloaded periodically so a standby replica picks up the path types the leader saved when it takes over
+    private final Supplier<Map<NodeStream, PathType>> pathTypes;
+
+    public PathTypeServiceImpl(CommonDownloaderProperties commonDownloaderProperties, JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+        long refreshInterval = commonDownloaderProperties.getPathRefreshInterval().toMillis();
+        this.pathTypes = Suppliers.memoizeWithExpiration(this::load, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<PathType> get(ConsensusNode node, StreamType streamType) {
+        return Optional.ofNullable(pathTypes.get().get(new NodeStream(node.getNodeId(), streamType)));
+    }
+
+    @Override
+    public void save(ConsensusNode node, StreamType streamType, PathType pathType) {
+        var key = new NodeStream(node.getNodeId(), streamType);
+        if (pathTypes.get().put(key, pathType) == pathType) {
+            return;
+        }
+
+        try {
+            jdbcOperations.update(
+                    UPSERT_SQL, node.getNodeId(), pathType.name(), streamType.name(), DomainUtils.now());
+            log.info("Saved path type {} for node {} and stream type {}", pathType, node, streamType);
+        } catch (DataAccessException e) {
+            log.warn("Unable to save path type {} for node {} and stream type {}", pathType, node, streamType, e);
+        }
+    }
+
+    private Map<NodeStream, PathType> load() {
+        var loaded = new ConcurrentHashMap<NodeStream, PathType>();
+
+        try {
+            jdbcOperations.query(SELECT_SQL, rs -> {
+                var key = new NodeStream(rs.getLong("node_id"), StreamType.valueOf(rs.getString("stream_type")));
+                loaded.put(key, PathType.valueOf(rs.getString("path_type")));
+            });
+            log.debug("Loaded {} node path types", loaded.size());
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("Unable to load node path types", e);
+        }
+
+        return loaded;
+    }
+
+    private record NodeStream(long nodeId, StreamType streamType) {}
+}
@@ -52,6 +52,7 @@ public final class S3StreamFileProvider implements StreamFileProvider {
     private static final String TEMPLATE_NODE_ID_PREFIX = "%s/%d/%d/%s/";
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final Map<PathKey, PathResult> paths = new ConcurrentHashMap<>();
+    private final PathTypeService pathTypeService;
     private final S3AsyncClient s3Client;
 
     public Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename) {
@@ -78,7 +79,7 @@ public final class S3StreamFileProvider implements StreamFileProvider {
         int batchSize = commonDownloaderProperties.getBatchSize() * 2;
 
         var key = new PathKey(node, lastFilename.getStreamType());
-        var pathResult = paths.computeIfAbsent(key, k -> new PathResult());
+        var pathResult = paths.computeIfAbsent(key, PathResult::new);
         var prefix = getPrefix(key, pathResult.getPathType());
         var startAfter = prefix + lastFilename.getFilenameAfter();
 
@@ -148,10 +149,20 @@ public final class S3StreamFileProvider implements StreamFileProvider {
         @Nullable
         private volatile Instant expiration;
 
+        private final PathKey key;
+
         private volatile PathType pathType = commonDownloaderProperties.getPathType();
 
-        private PathResult() {
+        private PathResult(PathKey key) {
+            this.key = key;
+
             if (commonDownloaderProperties.getPathType() == PathType.AUTO) {
+                // Skip probing if the node was previously detected to have permanently transitioned to NODE_ID
+                if (pathTypeService.get(key.node(), key.type()).orElse(null) == PathType.NODE_ID) {
+                    this.pathType = PathType.NODE_ID;
+                    return;
+                }
+
                 this.expiration = Instant.now().plus(commonDownloaderProperties.getPathRefreshInterval());
                 this.pathType = PathType.ACCOUNT_ID;
             }
@@ -166,6 +177,7 @@ public final class S3StreamFileProvider implements StreamFileProvider {
             // Permanently switch to NODE_ID
             if (found && pathType == PathType.NODE_ID) {
                 expiration = null;
+                pathTypeService.save(key.node(), key.type(), pathType);
                 return;
             }
 
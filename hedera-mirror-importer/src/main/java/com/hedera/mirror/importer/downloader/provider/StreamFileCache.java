@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.CacheProperties;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.CustomLog;
+
+/**
+ * A size bounded, least recently used cache of downloaded stream files on local disk. Each cached file is the original
+ * file content followed by a trailer with the last modified time and the SHA-384 hash of the content, which is
+ * verified on every read so a corrupted file is evicted instead of served.
+ */
+@CustomLog
+final class StreamFileCache {
+
+    static final String CACHE = "cache";
+
+    private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA_384;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int TRAILER_SIZE = Long.BYTES + DIGEST_ALGORITHM.getSize();
+
+    private final Path basePath;
+    private final CacheProperties properties;
+
+    // Access ordered so iteration starts from the least recently used file
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    StreamFileCache(CacheProperties properties, Path dataPath) {
+        this.basePath = dataPath.resolve(CACHE).toAbsolutePath().normalize();
+        this.properties = properties;
+
+        if (properties.isEnabled()) {
+            load();
+        }
+    }
+
+    /**
+     * Gets the stream file from the cache if present and its content matches the hash it was cached with.
+     *
+     * @param streamFilename the stream filename
+     * @return the cached stream file data, or empty if not cached
+     */
+    Optional<StreamFileData> get(StreamFilename streamFilename) {
+        var path = getPath(streamFilename);
+        if (path == null || !contains(path)) {
+            return Optional.empty();
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < TRAILER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Invalid cached file size " + fileSize);
+            }
+
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            int contentSize = (int) fileSize - TRAILER_SIZE;
+            var content = buffer.slice(0, contentSize);
+            var messageDigest = createMessageDigest();
+            messageDigest.update(content.duplicate());
+
+            long lastModified = buffer.getLong(contentSize);
+            var expectedHash = new byte[DIGEST_ALGORITHM.getSize()];
+            buffer.get(contentSize + Long.BYTES, expectedHash);
+
+            if (!MessageDigest.isEqual(expectedHash, messageDigest.digest())) {
+                log.warn("Evicting cached file {} with mismatched hash", path);
+                remove(path);
+                return Optional.empty();
+            }
+
+            var bytes = new byte[contentSize];
+            content.get(bytes);
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            log.debug("Read {} from cache", path);
+            return Optional.of(new StreamFileData(streamFilename, bytes, Instant.ofEpochMilli(lastModified)));
+        } catch (IOException e) {
+            log.warn("Evicting cached file {} that could not be read: {}", path, e.getMessage());
+            remove(path);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds the stream file to the cache if it's not already cached, evicting the least recently used files if it grows
+     * beyond its maximum size.
+     *
+     * @param streamFileData the downloaded stream file data
+     */
+    void put(StreamFileData streamFileData) {
+        var path = getPath(streamFileData.getStreamFilename());
+        var bytes = streamFileData.getBytes();
+        long fileSize = (long) bytes.length + TRAILER_SIZE;
+        if (path == null || fileSize > properties.getMaxSize().toBytes() || contains(path)) {
+            return;
+        }
+
+        var lastModified = Objects.requireNonNullElseGet(streamFileData.getLastModified(), Instant::now);
+        var trailer = ByteBuffer.allocate(TRAILER_SIZE)
+                .putLong(lastModified.toEpochMilli())
+                .put(createMessageDigest().digest(bytes))
+                .flip();
+
+        try {
+            Files.createDirectories(path.getParent());
+            var temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_SUFFIX);
+
+            try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                var buffers = new ByteBuffer[] {ByteBuffer.wrap(bytes), trailer};
+                while (trailer.hasRemaining()) {
+                    channel.write(buffers);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            add(path, fileSize);
+            log.debug("Added {} to cache", path);
+        } catch (IOException e) {
+            log.warn("Unable to add {} to cache: {}", path, e.getMessage());
+        }
+    }
+
+    private synchronized void add(Path path, long fileSize) {
+        var previous = entries.put(path, fileSize);
+        size += fileSize - Objects.requireNonNullElse(previous, 0L);
+
+        long maxSize = properties.getMaxSize().toBytes();
+        for (var iterator = entries.entrySet().iterator(); size > maxSize && iterator.hasNext(); ) {
+            var entry = iterator.next();
+            if (entry.getKey().equals(path)) {
+                continue;
+            }
+
+            iterator.remove();
+            size -= entry.getValue();
+            delete(entry.getKey());
+        }
+    }
+
+    private synchronized boolean contains(Path path) {
+        return entries.get(path) != null; // Marks the entry as recently used
+    }
+
+    private MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM.getName());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete cached file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private Path getPath(StreamFilename streamFilename) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        var path = basePath.resolve(streamFilename.getFilePath()).normalize();
+        return path.startsWith(basePath) && !path.equals(basePath) ? path : null;
+    }
+
+    // Rebuild the index from the files cached by a previous run, ordered from least to most recently used
+    private synchronized void load() {
+        if (!Files.isDirectory(basePath)) {
+            return;
+        }
+
+        try (var paths = Files.walk(basePath)) {
+            paths.filter(Files::isRegularFile)
+                    .filter(p -> {
+                        if (p.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                            delete(p);
+                            return false;
+                        }
+                        return true;
+                    })
+                    .sorted(Comparator.comparingLong(p -> p.toFile().lastModified()))
+                    .forEach(p -> add(p, p.toFile().length()));
+            log.info("Loaded {} files totaling {} bytes from cache {}", entries.size(), size, basePath);
+        } catch (IOException e) {
+            log.warn("Unable to load cache {}: {}", basePath, e.getMessage());
+        }
+    }
+
+    private synchronized void remove(Path path) {
+        var fileSize = entries.remove(path);
+        if (fileSize != null) {
+            size -= fileSize;
+        }
+
+        delete(path);
+    }
+}
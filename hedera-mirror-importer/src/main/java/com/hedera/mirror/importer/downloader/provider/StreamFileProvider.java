@@ -45,4 +45,12 @@ public interface StreamFileProvider {
      * @return The data associated with one or more stream files, wrapped in a Flux
      */
     Flux<StreamFileData> list(ConsensusNode node, StreamFilename lastFilename);
+
+    /**
+     * Notifies the provider that a stream file it returned from {@link #get} matches the hashes the consensus nodes
+     * signed, so it can be retained, e.g. in a local cache. Stream files that fail verification are never passed here.
+     *
+     * @param streamFileData the verified stream file data
+     */
+    default void onVerified(StreamFileData streamFileData) {}
 }
@@ -18,8 +18,6 @@ package com.hedera.mirror.importer.downloader.record;
 
 import static com.hedera.mirror.importer.util.Utility.RECOVERABLE_ERROR;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
@@ -41,10 +39,13 @@ import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
@@ -113,48 +114,64 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
 
-        var records = Flux.fromIterable(recordFile.getSidecars())
-                .filter(sidecar ->
-                        acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
-                .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+        var recordItems = recordFile
+                .getItems()
+                .collectMap(recordItem -> recordItem.getTransactionRecord().getConsensusTimestamp())
                 .block();
 
-        recordFile
-                .getItems()
-                .doOnNext(recordItem -> {
-                    var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-                    if (records.containsKey(timestamp)) {
-                        recordItem.setSidecarRecords(records.get(timestamp));
-                    }
-                })
+        // Download up to the configured number of sidecar files concurrently while decoding them one at a time in
+        // order, attaching the transaction sidecar records of each sidecar to their record items once it's verified
+        Flux.fromIterable(recordFile.getSidecars())
+                .filter(sidecar ->
+                        acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
+                .flatMapSequential(
+                        sidecar -> getSidecar(node, recordFilename, sidecar), sidecarProperties.getConcurrency())
+                .doOnNext(sidecar -> readSidecar(sidecar, acceptedTypes, recordItems))
                 .blockLast();
     }
 
-    private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
+    private Mono<SidecarData> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
-        return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
-            sidecarFileReader.read(sidecar, streamFileData);
-
-            if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
-                throw new HashMismatchException(
-                        sidecar.getName(),
-                        sidecar.getHash(),
-                        sidecar.getActualHash(),
-                        sidecar.getHashAlgorithm().getName());
+        return streamFileProvider
+                .get(node, sidecarFilename)
+                .map(streamFileData -> new SidecarData(sidecar, streamFileData));
+    }
+
+    private void readSidecar(
+            SidecarData sidecarData, Set<Integer> acceptedTypes, Map<Timestamp, RecordItem> recordItems) {
+        var sidecar = sidecarData.sidecar();
+        var transactionSidecarRecords = new ArrayList<TransactionSidecarRecord>();
+        sidecarFileReader.read(sidecar, sidecarData.streamFileData(), transactionSidecarRecord -> {
+            if (acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(transactionSidecarRecord))) {
+                transactionSidecarRecords.add(transactionSidecarRecord);
             }
+        });
 
-            if (!sidecarProperties.isPersistBytes()) {
-                sidecar.setBytes(null);
+        // Only attach the records to the record items once the sidecar is verified
+        if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
+            throw new HashMismatchException(
+                    sidecar.getName(),
+                    sidecar.getHash(),
+                    sidecar.getActualHash(),
+                    sidecar.getHashAlgorithm().getName());
+        }
+
+        streamFileProvider.onVerified(sidecarData.streamFileData());
+
+        for (var transactionSidecarRecord : transactionSidecarRecords) {
+            var recordItem = recordItems.get(transactionSidecarRecord.getConsensusTimestamp());
+            if (recordItem != null) {
+                if (recordItem.getSidecarRecords().isEmpty()) {
+                    recordItem.setSidecarRecords(new ArrayList<>());
+                }
+
+                recordItem.getSidecarRecords().add(transactionSidecarRecord);
             }
+        }
 
-            return sidecar;
-        });
+        if (!sidecarProperties.isPersistBytes()) {
+            sidecar.setBytes(null);
+        }
     }
 
     private int getSidecarType(TransactionSidecarRecord transactionSidecarRecord) {
@@ -171,4 +188,6 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
             }
         };
     }
+
+    private record SidecarData(SidecarFile sidecar, StreamFileData streamFileData) {}
 }
@@ -16,23 +16,17 @@
 
 package com.hedera.mirror.importer.migration;
 
-import com.google.common.base.Stopwatch;
-import jakarta.annotation.Nonnull;
 import java.io.IOException;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.transaction.support.TransactionOperations;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
-abstract class AsyncJavaMigration<T> extends RepeatableMigration {
+abstract class AsyncJavaMigration extends RepeatableMigration {
 
     private static final String CHECK_FLYWAY_SCHEMA_HISTORY_EXISTENCE_SQL =
             """
@@ -89,8 +83,6 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration {
         return lastChecksum;
     }
 
-    protected abstract TransactionOperations getTransactionOperations();
-
     boolean isComplete() {
         return complete.get();
     }
@@ -118,36 +110,11 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration {
                 .subscribe();
     }
 
-    protected void migrateAsync() {
-        log.info("Starting asynchronous migration");
-
-        long count = 0;
-        var stopwatch = Stopwatch.createStarted();
-        var last = Optional.of(getInitial());
-        long minutes = 1L;
-
-        try {
-            do {
-                final var previous = last;
-                last = Objects.requireNonNullElse(
-                        getTransactionOperations().execute(t -> migratePartial(previous.get())), Optional.empty());
-                count++;
-
-                long elapsed = stopwatch.elapsed(TimeUnit.MINUTES);
-                if (elapsed >= minutes) {
-                    log.info("Completed iteration {} with last value: {}", count, last.orElse(null));
-                    minutes = elapsed + 1;
-                }
-            } while (last.isPresent());
-
-            log.info("Successfully completed asynchronous migration with {} iterations in {}", count, stopwatch);
-        } catch (Exception e) {
-            log.error("Error executing asynchronous migration after {} iterations in {}", count, stopwatch);
-            throw e;
-        }
-    }
-
-    protected abstract T getInitial();
+    /**
+     * Runs the migration on a background thread. The success checksum is set in the flyway schema history table only
+     * if it completes without an exception.
+     */
+    protected abstract void migrateAsync();
 
     /**
      * Gets the success checksum to set for the migration in flyway schema history table. Note the checksum is required
@@ -159,9 +126,6 @@ abstract class AsyncJavaMigration<T> extends RepeatableMigration {
         return migrationProperties.getChecksum();
     }
 
-    @Nonnull
-    protected abstract Optional<T> migratePartial(T last);
-
     private MapSqlParameterSource getSqlParamSource() {
         return new MapSqlParameterSource().addValue("className", getClass().getName());
     }
@@ -16,23 +16,29 @@
 
 package com.hedera.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
 import com.hedera.mirror.importer.MirrorProperties;
 import com.hedera.mirror.importer.db.DBProperties;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
-import jakarta.annotation.Nonnull;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Getter;
 import org.flywaydb.core.api.MigrationVersion;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @Named
-public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
+public class BackfillBlockMigration extends ChunkedAsyncJavaMigration {
+
+    // Backfill at most 1 hour worth of record files in each chunk
+    private static final long CHUNK_SIZE = Duration.ofHours(1).toNanos();
 
     private static final String SELECT_CONTRACT_RESULT = "select bloom, gas_used " + "from contract_result cr "
             + "join transaction t on t.consensus_timestamp = cr.consensus_timestamp "
@@ -40,6 +46,9 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
             + "  and cr.consensus_timestamp <= :consensusEnd "
             + "  and t.nonce = 0";
 
+    private static final String SELECT_KEY_SPACE =
+            "select min(consensus_end) - 1 as lower, max(consensus_end) as upper from record_file where gas_used = -1";
+
     private static final String SET_TRANSACTION_INDEX = "with indexed as ( "
             + "  select consensus_timestamp, row_number() over (order by consensus_timestamp) - 1 as index "
             + "  from transaction "
@@ -59,11 +68,12 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
     @Lazy
     public BackfillBlockMigration(
             DBProperties dbProperties,
+            MeterRegistry meterRegistry,
             MirrorProperties mirrorProperties,
             NamedParameterJdbcTemplate jdbcTemplate,
             RecordFileRepository recordFileRepository,
             TransactionOperations transactionOperations) {
-        super(mirrorProperties.getMigration(), jdbcTemplate, dbProperties.getSchema());
+        super(mirrorProperties.getMigration(), meterRegistry, jdbcTemplate, dbProperties.getSchema());
         this.recordFileRepository = recordFileRepository;
         this.transactionOperations = transactionOperations;
     }
@@ -74,8 +84,18 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
     }
 
     @Override
-    protected Long getInitial() {
-        return Long.MAX_VALUE;
+    protected long getDefaultChunkSize() {
+        return CHUNK_SIZE;
+    }
+
+    @Override
+    protected Optional<Range<Long>> getKeySpace() {
+        var keySpace = namedParameterJdbcTemplate.queryForObject(
+                SELECT_KEY_SPACE, EmptySqlParameterSource.INSTANCE, (rs, rowNum) -> {
+                    long upper = rs.getLong("upper");
+                    return rs.wasNull() ? null : Range.openClosed(rs.getLong("lower"), upper);
+                });
+        return Optional.ofNullable(keySpace);
     }
 
     @Override
@@ -84,38 +104,30 @@ public class BackfillBlockMigration extends AsyncJavaMigration<Long> {
     }
 
     /**
-     * Backfills information for the record file immediately before the consensus end timestamp of the last record file.
+     * Backfills information for the record files missing gas used with consensus end in the range (lower, upper].
      *
-     * @param lastConsensusEnd The consensus end timestamp of the last record file
-     * @return The consensus end of the processed record file or null if no record file is processed
+     * @param lower The exclusive lower bound of the record file consensus end
+     * @param upper The inclusive upper bound of the record file consensus end
      */
-    @Nonnull
     @Override
-    protected Optional<Long> migratePartial(Long lastConsensusEnd) {
-        return recordFileRepository
-                .findLatestMissingGasUsedBefore(lastConsensusEnd)
-                .map(recordFile -> {
-                    var queryParams = Map.of(
-                            "consensusStart",
-                            recordFile.getConsensusStart(),
-                            "consensusEnd",
-                            recordFile.getConsensusEnd());
-
-                    var bloomAggregator = new LogsBloomAggregator();
-                    var gasUsedTotal = new AtomicLong(0);
-                    namedParameterJdbcTemplate.query(SELECT_CONTRACT_RESULT, queryParams, rs -> {
-                        bloomAggregator.aggregate(rs.getBytes("bloom"));
-                        gasUsedTotal.addAndGet(rs.getLong("gas_used"));
-                    });
-
-                    recordFile.setGasUsed(gasUsedTotal.get());
-                    recordFile.setLogsBloom(bloomAggregator.getBloom());
-                    recordFileRepository.save(recordFile);
-
-                    // set transaction index for the transactions in the record file
-                    namedParameterJdbcTemplate.update(SET_TRANSACTION_INDEX, queryParams);
-
-                    return recordFile.getConsensusEnd();
-                });
+    protected void migrateChunk(long lower, long upper) {
+        for (var recordFile : recordFileRepository.findMissingGasUsedBetween(lower, upper)) {
+            var queryParams = Map.of(
+                    "consensusStart", recordFile.getConsensusStart(), "consensusEnd", recordFile.getConsensusEnd());
+
+            var bloomAggregator = new LogsBloomAggregator();
+            var gasUsedTotal = new AtomicLong(0);
+            namedParameterJdbcTemplate.query(SELECT_CONTRACT_RESULT, queryParams, rs -> {
+                bloomAggregator.aggregate(rs.getBytes("bloom"));
+                gasUsedTotal.addAndGet(rs.getLong("gas_used"));
+            });
+
+            recordFile.setGasUsed(gasUsedTotal.get());
+            recordFile.setLogsBloom(bloomAggregator.getBloom());
+            recordFileRepository.save(recordFile);
+
+            // set transaction index for the transactions in the record file
+            namedParameterJdbcTemplate.update(SET_TRANSACTION_INDEX, queryParams);
+        }
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+import com.google.common.math.LongMath;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.util.DomainUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * An asynchronous migration that declares a partitionable key space (e.g. consensus timestamps or entity ids), splits
+ * it into chunks and migrates the chunks concurrently on a bounded worker pool. Each chunk runs in its own transaction
+ * which also records the chunk in the async_migration_checkpoint table, so an interrupted migration resumes with only
+ * the chunks that haven't committed and no chunk is migrated twice. Checkpoints are keyed by the success checksum, so
+ * the ones left by a run with a different checksum are discarded.
+ */
+abstract class ChunkedAsyncJavaMigration extends AsyncJavaMigration {
+
+    private static final String DELETE_CHECKPOINT_SQL =
+            "delete from async_migration_checkpoint where class_name = :className";
+
+    private static final String DELETE_STALE_CHECKPOINT_SQL =
+            "delete from async_migration_checkpoint where class_name = :className and checksum <> :checksum";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+            """
+            insert into async_migration_checkpoint (checksum, class_name, lower_bound, upper_bound)
+            values (:checksum, :className, :lowerBound, :upperBound)
+            """;
+
+    private static final String LATEST_CONSENSUS_END_SQL =
+            "select consensus_end from record_file order by consensus_end desc limit 1";
+
+    private static final String SELECT_CHECKPOINT_SQL =
+            """
+            select lower_bound, upper_bound from async_migration_checkpoint
+            where class_name = :className and checksum = :checksum
+            """;
+
+    private static final Duration THROTTLE_INTERVAL = Duration.ofSeconds(5L);
+
+    private final AtomicReference<Progress> progress = new AtomicReference<>(new Progress(0L, 0L));
+
+    protected ChunkedAsyncJavaMigration(
+            Map<String, MigrationProperties> migrationPropertiesMap,
+            MeterRegistry meterRegistry,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            String schema) {
+        super(migrationPropertiesMap, namedParameterJdbcTemplate, schema);
+
+        var name = getClass().getSimpleName();
+        Gauge.builder("hedera.mirror.importer.migration.progress", this, m -> m.progress.get().getRatio())
+                .description("The ratio of the migration key space that has been migrated")
+                .tag("migration", name)
+                .register(meterRegistry);
+        Gauge.builder("hedera.mirror.importer.migration.remaining", this, m -> m.progress.get().getRemainingSeconds())
+                .baseUnit("seconds")
+                .description("The estimated time remaining until the migration completes")
+                .tag("migration", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the default number of keys per chunk if hedera.mirror.importer.migration.&lt;migrationName&gt;.chunkSize is
+     * not set.
+     *
+     * @return The default chunk size
+     */
+    protected abstract long getDefaultChunkSize();
+
+    /**
+     * Gets the key space to migrate. The lower endpoint is exclusive and the upper endpoint is inclusive.
+     *
+     * @return The key space, or empty if there is nothing to migrate
+     */
+    protected abstract Optional<Range<Long>> getKeySpace();
+
+    protected abstract TransactionOperations getTransactionOperations();
+
+    /**
+     * Migrates the keys in the chunk (lower, upper]. It's invoked concurrently for different chunks, each in its own
+     * transaction.
+     *
+     * @param lower The exclusive lower bound of the chunk
+     * @param upper The inclusive upper bound of the chunk
+     */
+    protected abstract void migrateChunk(long lower, long upper);
+
+    /**
+     * Invoked in a transaction once every chunk of the key space is migrated, in the same transaction that clears the
+     * checkpoints.
+     */
+    protected void onMigrated() {}
+
+    @Override
+    protected void migrateAsync() {
+        var keySpace = getKeySpace();
+        if (keySpace.isEmpty()) {
+            log.info("Skipping asynchronous migration since there is nothing to migrate");
+            return;
+        }
+
+        namedParameterJdbcTemplate.update(DELETE_STALE_CHECKPOINT_SQL, getCheckpointParamSource());
+        var migrated = getCheckpoint().subRangeSet(keySpace.get());
+        var remaining = migrated.complement().subRangeSet(keySpace.get());
+        long chunkSize = getChunkSize();
+        long chunks = remaining.asRanges().stream()
+                .mapToLong(r -> LongMath.divide(size(r), chunkSize, RoundingMode.CEILING))
+                .sum();
+        long done = migrated.asRanges().stream().mapToLong(ChunkedAsyncJavaMigration::size).sum();
+        int parallelism = migrationProperties.getParallelism();
+        var tracker = new ChunkTracker();
+        progress.set(new Progress(size(keySpace.get()), done));
+
+        log.info(
+                "Starting asynchronous migration of {} chunks in {} with parallelism {}",
+                chunks,
+                remaining,
+                parallelism);
+
+        try {
+            Flux.fromIterable(remaining.asRanges())
+                    .concatMap(r -> split(r, chunkSize))
+                    .flatMap(
+                            c -> Mono.fromRunnable(() -> migrateChunk(tracker, c))
+                                    .subscribeOn(Schedulers.boundedElastic()),
+                            parallelism)
+                    .blockLast();
+            getTransactionOperations().executeWithoutResult(s -> {
+                onMigrated();
+                namedParameterJdbcTemplate.update(DELETE_CHECKPOINT_SQL, getCheckpointParamSource());
+            });
+            log.info("Successfully completed asynchronous migration with {} chunks in {}", chunks, tracker.stopwatch);
+        } catch (Exception e) {
+            log.error("Error executing asynchronous migration after {} chunks in {}", tracker.count, tracker.stopwatch);
+            throw e;
+        }
+    }
+
+    private static long size(Range<Long> range) {
+        return LongMath.saturatedSubtract(range.upperEndpoint(), range.lowerEndpoint());
+    }
+
+    private static Flux<Range<Long>> split(Range<Long> range, long chunkSize) {
+        long lower = range.lowerEndpoint();
+        long upper = range.upperEndpoint();
+        long count = LongMath.divide(size(range), chunkSize, RoundingMode.CEILING);
+        return Flux.fromStream(LongStream.range(0, count).mapToObj(i -> {
+            long chunkLower = LongMath.saturatedAdd(lower, LongMath.saturatedMultiply(i, chunkSize));
+            return Range.openClosed(chunkLower, Math.min(upper, LongMath.saturatedAdd(chunkLower, chunkSize)));
+        }));
+    }
+
+    private RangeSet<Long> getCheckpoint() {
+        RangeSet<Long> migrated = TreeRangeSet.create();
+        namedParameterJdbcTemplate.query(
+                SELECT_CHECKPOINT_SQL,
+                getCheckpointParamSource(),
+                rs -> migrated.add(Range.openClosed(rs.getLong("lower_bound"), rs.getLong("upper_bound"))));
+        return migrated;
+    }
+
+    private MapSqlParameterSource getCheckpointParamSource() {
+        return new MapSqlParameterSource()
+                .addValue("checksum", getSuccessChecksum())
+                .addValue("className", getClass().getName());
+    }
+
+    private long getChunkSize() {
+        var chunkSize = migrationProperties.getChunkSize();
+        return chunkSize != null ? chunkSize : getDefaultChunkSize();
+    }
+
+    private void migrateChunk(ChunkTracker tracker, Range<Long> chunk) {
+        throttle();
+
+        long lower = chunk.lowerEndpoint();
+        long upper = chunk.upperEndpoint();
+        var paramSource = getCheckpointParamSource().addValue("lowerBound", lower).addValue("upperBound", upper);
+        getTransactionOperations().executeWithoutResult(s -> {
+            migrateChunk(lower, upper);
+            namedParameterJdbcTemplate.update(INSERT_CHECKPOINT_SQL, paramSource);
+        });
+
+        tracker.complete(chunk);
+    }
+
+    /**
+     * Blocks while the importer lags behind the network by more than the configured maxLag so the migration doesn't
+     * compete with ingestion when the importer is catching up.
+     */
+    private void throttle() {
+        var maxLag = migrationProperties.getMaxLag();
+        if (maxLag.isZero()) {
+            return;
+        }
+
+        boolean throttled = false;
+        while (true) {
+            var latest = queryForObjectOrNull(LATEST_CONSENSUS_END_SQL, EmptySqlParameterSource.INSTANCE, Long.class);
+            if (latest == null) {
+                return;
+            }
+
+            var lag = Duration.ofNanos(DomainUtils.now() - latest);
+            if (lag.compareTo(maxLag) <= 0) {
+                if (throttled) {
+                    log.info("Resuming asynchronous migration since importer lag {} is within {}", lag, maxLag);
+                }
+                return;
+            }
+
+            if (!throttled) {
+                log.info("Throttling asynchronous migration since importer lag {} exceeds {}", lag, maxLag);
+                throttled = true;
+            }
+
+            Uninterruptibles.sleepUninterruptibly(THROTTLE_INTERVAL);
+        }
+    }
+
+    /**
+     * Tracks the chunks completed by the current run and logs the progress at most once a minute.
+     */
+    private class ChunkTracker {
+
+        private final Stopwatch stopwatch = Stopwatch.createStarted();
+        private long count;
+        private long minutes = 1L;
+
+        private synchronized void complete(Range<Long> chunk) {
+            count++;
+            var current = progress.updateAndGet(p -> p.increment(size(chunk)));
+            long elapsed = stopwatch.elapsed(TimeUnit.MINUTES);
+            if (elapsed >= minutes) {
+                log.info("Completed {} chunks with {}% of the key space migrated", count, current.getPercent());
+                minutes = elapsed + 1;
+            }
+        }
+    }
+
+    private record Progress(long total, long initial, long completed, long startNanos) {
+
+        private Progress(long total, long initial) {
+            this(total, initial, initial, System.nanoTime());
+        }
+
+        private long getPercent() {
+            return Math.round(getRatio() * 100);
+        }
+
+        private double getRatio() {
+            return total == 0 ? 1.0 : (double) completed / total;
+        }
+
+        private double getRemainingSeconds() {
+            long done = completed - initial;
+            if (done <= 0) {
+                return Double.NaN;
+            }
+
+            double elapsed = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return elapsed / done * (total - completed);
+        }
+
+        private Progress increment(long keys) {
+            return new Progress(total, initial, completed + keys, startNanos);
+        }
+    }
+}
@@ -16,14 +16,14 @@
 
 package com.hedera.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.importer.MirrorProperties;
 import com.hedera.mirror.importer.config.Owner;
 import com.hedera.mirror.importer.db.DBProperties;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
-import jakarta.annotation.Nonnull;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import lombok.CustomLog;
@@ -43,9 +43,9 @@ import org.springframework.transaction.support.TransactionTemplate;
 @CustomLog
 @Named
 @Profile("!v2")
-public class FixCryptoAllowanceAmountMigration extends AsyncJavaMigration<Long> {
+public class FixCryptoAllowanceAmountMigration extends ChunkedAsyncJavaMigration {
 
-    // Process at most 1 day worth approved crypto transfers in each iteration
+    // Process at most 1 day worth approved crypto transfers in each chunk
     static final long INTERVAL = Duration.ofDays(1).toNanos();
 
     private static final String DROP_MIGRATION_TABLE_SQL = "drop table if exists crypto_allowance_migration";
@@ -101,6 +101,7 @@ public class FixCryptoAllowanceAmountMigration extends AsyncJavaMigration<Long>
             where m.owner = h.owner and m.spender = h.spender and lower(m.timestamp_range) = lower(h.timestamp_range);
             """;
 
+    // Lock the rows in (owner, spender) order so concurrent chunks updating the same allowances can't deadlock
     private static final String UPDATE_MIGRATION_AMOUNT_SQL =
             """
             with approved_debit as (
@@ -112,23 +113,20 @@ public class FixCryptoAllowanceAmountMigration extends AsyncJavaMigration<Long>
               where t.amount < 0 and consensus_timestamp > :fromTimestamp and consensus_timestamp <= :toTimestamp
                 and is_approval is true
               group by t.entity_id, t.payer_account_id
+            ), locked as materialized (
+              select m.owner, m.spender
+              from crypto_allowance_migration m
+              join approved_debit a on m.owner = a.owner and m.spender = a.spender
+              order by m.owner, m.spender
+              for update of m
             )
             update crypto_allowance_migration m
             set amount = amount + amount_spent
             from approved_debit a
+            join locked l on l.owner = a.owner and l.spender = a.spender
             where m.owner = a.owner and m.spender = a.spender
             """;
 
-    private static final String UPDATE_SENTINEL_TIMESTAMP_SQL =
-            """
-            update crypto_allowance_migration
-            set timestamp_range = int8range(:timestamp, null)
-            where owner = 0 and spender = 0;
-            """;
-
-    @Getter(lazy = true)
-    private final long earliestTimestamp = earliestTimestamp();
-
     private final EntityProperties entityProperties;
 
     private final JdbcTemplate jdbcTemplate;
@@ -140,25 +138,18 @@ public class FixCryptoAllowanceAmountMigration extends AsyncJavaMigration<Long>
     public FixCryptoAllowanceAmountMigration(
             DBProperties dbProperties,
             EntityProperties entityProperties,
+            MeterRegistry meterRegistry,
             MirrorProperties mirrorProperties,
             @Owner JdbcTemplate jdbcTemplate) {
-        super(mirrorProperties.getMigration(), new NamedParameterJdbcTemplate(jdbcTemplate), dbProperties.getSchema());
+        super(
+                mirrorProperties.getMigration(),
+                meterRegistry,
+                new NamedParameterJdbcTemplate(jdbcTemplate),
+                dbProperties.getSchema());
         this.entityProperties = entityProperties;
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    @Override
-    protected Long getInitial() {
-        if (!isMigrationTableExists()) {
-            log.info("Create and initialize table crypto_allowance_migration");
-            jdbcTemplate.execute(INIT_MIGRATION_TABLE_SQL);
-        }
-
-        var endTimestamp = jdbcTemplate.queryForObject(GET_END_TIMESTAMP_SQL, Long.class);
-        // If db is empty, the migration table won't have a sentinel row, thus endTimestamp is null, return 0 instead
-        return endTimestamp != null ? endTimestamp : 0L;
-    }
-
     @Override
     public String getDescription() {
         return "Fix crypto allowance amount";
@@ -169,35 +160,47 @@ public class FixCryptoAllowanceAmountMigration extends AsyncJavaMigration<Long>
         return MigrationVersion.fromVersion("1.84.2"); // The version crypto_allowance_migration is created
     }
 
-    @Nonnull
     @Override
-    protected Optional<Long> migratePartial(Long last) {
-        long minTimestamp = getEarliestTimestamp();
-        if (last == 0 || last < minTimestamp) {
-            log.info("Nothing to backfill with last timestamp {} and earliest timestamp {}", last, minTimestamp);
+    protected long getDefaultChunkSize() {
+        return INTERVAL;
+    }
 
-            jdbcTemplate.execute(DROP_MIGRATION_TABLE_SQL);
-            return Optional.empty();
+    /**
+     * Gets the consensus timestamp range (earliest allowance timestamp, last consensus end when the migration table is
+     * initialized] to aggregate approved crypto transfers in. The migration table is created and initialized at the
+     * first run and kept across restarts so the key space stays the same until the migration completes.
+     */
+    @Override
+    protected Optional<Range<Long>> getKeySpace() {
+        if (!isMigrationTableExists()) {
+            log.info("Create and initialize table crypto_allowance_migration");
+            jdbcTemplate.execute(INIT_MIGRATION_TABLE_SQL);
         }
 
-        long fromExclusive = Math.max(minTimestamp, last - INTERVAL);
-        var parameters = new MapSqlParameterSource("fromTimestamp", fromExclusive).addValue("toTimestamp", last);
-        log.info(
-                "Aggregate approved crypto transfer amounts in consensus timestamp range ({}, {}]",
-                fromExclusive,
-                last);
-        namedParameterJdbcTemplate.update(UPDATE_MIGRATION_AMOUNT_SQL, parameters);
-
-        if (fromExclusive == minTimestamp) {
-            log.info("Aggregated all crypto transfers using allowance, now persist the changes");
-            jdbcTemplate.update(MERGE_AMOUNT_SQL);
+        var endTimestamp = jdbcTemplate.queryForObject(GET_END_TIMESTAMP_SQL, Long.class);
+        long minTimestamp = earliestTimestamp();
+        // If db is empty, the migration table won't have a sentinel row, thus endTimestamp is null
+        if (endTimestamp == null || endTimestamp <= minTimestamp) {
+            log.info("Nothing to backfill with end timestamp {} and earliest timestamp {}", endTimestamp, minTimestamp);
             jdbcTemplate.execute(DROP_MIGRATION_TABLE_SQL);
             return Optional.empty();
         }
 
-        // Update the sentinel timestamp so the migration can resume if it's cancelled before completion
-        namedParameterJdbcTemplate.update(UPDATE_SENTINEL_TIMESTAMP_SQL, Map.of("timestamp", fromExclusive));
-        return Optional.of(fromExclusive);
+        return Optional.of(Range.openClosed(minTimestamp, endTimestamp));
+    }
+
+    @Override
+    protected void migrateChunk(long lower, long upper) {
+        var parameters = new MapSqlParameterSource("fromTimestamp", lower).addValue("toTimestamp", upper);
+        namedParameterJdbcTemplate.update(UPDATE_MIGRATION_AMOUNT_SQL, parameters);
+        log.info("Aggregated approved crypto transfer amounts in consensus timestamp range ({}, {}]", lower, upper);
+    }
+
+    @Override
+    protected void onMigrated() {
+        log.info("Aggregated all crypto transfers using allowance, now persist the changes");
+        jdbcTemplate.update(MERGE_AMOUNT_SQL);
+        jdbcTemplate.execute(DROP_MIGRATION_TABLE_SQL);
     }
 
     @Override
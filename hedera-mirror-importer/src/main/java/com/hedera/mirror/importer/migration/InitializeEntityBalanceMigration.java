@@ -46,7 +46,7 @@ public class InitializeEntityBalanceMigration extends TimeSensitiveBalanceMigrat
               join timestamp_range on snapshot_timestamp = consensus_timestamp
             ), change as (
               select entity_id, sum(amount) as amount
-              from crypto_transfer
+              from crypto_transfer_all
               join timestamp_range on consensus_timestamp > from_timestamp and consensus_timestamp <= to_timestamp
               where errata is null or errata <> 'DELETE'
               group by entity_id
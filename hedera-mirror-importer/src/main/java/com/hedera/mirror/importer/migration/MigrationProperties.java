@@ -16,18 +16,31 @@
 
 package com.hedera.mirror.importer.migration;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.Map;
 import lombok.Data;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.hibernate.validator.constraints.time.DurationMin;
 
 @Data
 public class MigrationProperties {
 
     private int checksum = 1;
 
+    @Min(1)
+    private Long chunkSize;
+
     private boolean enabled = true;
 
+    @DurationMin(millis = 0)
+    @NotNull
+    private Duration maxLag = Duration.ZERO;
+
+    @Min(1)
+    private int parallelism = 1;
+
     @NotNull
     private Map<String, String> params = new CaseInsensitiveMap<>();
 }
@@ -35,12 +35,15 @@ public class RecalculatePendingRewardMigration extends MirrorBaseJavaMigration {
             HederaNetwork.MAINNET, 1666310400447390002L,
             HederaNetwork.TESTNET, 1659139200596847383L);
 
-    // Recalculate pending reward since for some staking periods it's accumulated more than one time.
+    // Recalculate pending reward since for some staking periods it's accumulated more than one time. The fee credits
+    // are only in crypto_transfer_all once the fee_transfer table exists, read the table directly before that.
+    private static final String CRYPTO_TRANSFER_SOURCE_SQL =
+            "select coalesce(to_regclass('crypto_transfer_all')::text, 'crypto_transfer')";
     private static final String MIGRATION_SQL =
             """
                     with crypto_transfer as (
                       select *
-                      from crypto_transfer
+                      from %s
                       where consensus_timestamp > :firstRewardTimestamp
                     ), reward_rate as (
                       select consensus_timestamp, epoch_day, node_id, reward_rate
@@ -109,7 +112,8 @@ public class RecalculatePendingRewardMigration extends MirrorBaseJavaMigration {
 
         var stopwatch = Stopwatch.createStarted();
         var params = new MapSqlParameterSource("firstRewardTimestamp", consensusTimestamp);
-        int count = jdbcOperations.update(MIGRATION_SQL, params);
+        var source = jdbcOperations.getJdbcOperations().queryForObject(CRYPTO_TRANSFER_SOURCE_SQL, String.class);
+        int count = jdbcOperations.update(MIGRATION_SQL.formatted(source), params);
         log.info("Recalculated pending reward for {} {} entities in {}", count, hederaNetwork, stopwatch);
     }
 }
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.migration;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.MirrorProperties;
@@ -24,6 +25,7 @@ import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.io.IOException;
 import java.time.Duration;
@@ -43,7 +45,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @Named
-public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration<Long>
+public class SyntheticCryptoTransferApprovalMigration extends ChunkedAsyncJavaMigration
         implements RecordStreamFileListener {
 
     static final Version HAPI_VERSION_0_38_0 = new Version(0, 38, 0);
@@ -56,7 +58,7 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
     // release
     static final long UPPER_BOUND_TIMESTAMP = 1686243920981874002L;
     private static final long TIMESTAMP_INCREMENT =
-            Duration.ofDays(1).toNanos(); // 1 day in nanoseconds which will yield 69 async iterations
+            Duration.ofDays(1).toNanos(); // 1 day in nanoseconds which will yield 69 chunks
     private static final String TRANSFER_SQL =
             """
             with contractresults as (
@@ -194,11 +196,12 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
     @Lazy
     public SyntheticCryptoTransferApprovalMigration(
             DBProperties dbProperties,
+            MeterRegistry meterRegistry,
             RecordFileRepository recordFileRepository,
             MirrorProperties mirrorProperties,
             NamedParameterJdbcTemplate transferJdbcTemplate,
             TransactionOperations transactionOperations) {
-        super(mirrorProperties.getMigration(), transferJdbcTemplate, dbProperties.getSchema());
+        super(mirrorProperties.getMigration(), meterRegistry, transferJdbcTemplate, dbProperties.getSchema());
         this.recordFileRepository = recordFileRepository;
         this.mirrorProperties = mirrorProperties;
         this.transferJdbcTemplate = transferJdbcTemplate;
@@ -217,54 +220,52 @@ public class SyntheticCryptoTransferApprovalMigration extends AsyncJavaMigration
     }
 
     @Override
-    protected Long getInitial() {
-        return LOWER_BOUND_TIMESTAMP;
+    protected long getDefaultChunkSize() {
+        return TIMESTAMP_INCREMENT;
     }
 
     @Override
-    protected Optional<Long> migratePartial(Long lowerBound) {
+    protected Optional<Range<Long>> getKeySpace() {
         if (!MirrorProperties.HederaNetwork.MAINNET.equalsIgnoreCase(mirrorProperties.getNetwork())) {
             log.info("Skipping migration since it only applies to mainnet");
             return Optional.empty();
         }
 
+        return Optional.of(Range.openClosed(LOWER_BOUND_TIMESTAMP, UPPER_BOUND_TIMESTAMP));
+    }
+
+    @Override
+    protected void migrateChunk(long lowerBound, long upperBound) {
         long count = 0;
         var migrationErrors = new ArrayList<String>();
-        long upperBound = Math.min(lowerBound + TIMESTAMP_INCREMENT, UPPER_BOUND_TIMESTAMP);
         Map<String, Long> queryParamMap =
                 Map.of("lower_bound", lowerBound, "upper_bound", upperBound, "grandfathered_id", GRANDFATHERED_ID);
-        try {
-            var transfers = transferJdbcTemplate.query(TRANSFER_SQL, queryParamMap, resultRowMapper);
-            for (ApprovalTransfer transfer : transfers) {
-                if (!isAuthorizedByContractKey(transfer, migrationErrors)) {
-                    // set is_approval to true
-                    String updateSql;
-                    var updateParamMap = new HashMap<String, Number>();
-                    updateParamMap.put("consensus_timestamp", transfer.consensusTimestamp);
-                    if (transfer.transferType == TRANSFER_TYPE.CRYPTO_TRANSFER) {
-                        updateSql = UPDATE_CRYPTO_TRANSFER_SQL;
-                        updateParamMap.put("sender", transfer.sender);
-                    } else if (transfer.transferType == TRANSFER_TYPE.NFT_TRANSFER) {
-                        updateSql = UPDATE_NFT_TRANSFER_SQL;
-                        updateParamMap.put("index", transfer.index);
-                    } else {
-                        updateSql = UPDATE_TOKEN_TRANSFER_SQL;
-                        updateParamMap.put("sender", transfer.sender);
-                        updateParamMap.put("token_id", transfer.tokenId);
-                    }
-
-                    transferJdbcTemplate.update(updateSql, updateParamMap);
-                    count++;
+        var transfers = transferJdbcTemplate.query(TRANSFER_SQL, queryParamMap, resultRowMapper);
+        for (ApprovalTransfer transfer : transfers) {
+            if (!isAuthorizedByContractKey(transfer, migrationErrors)) {
+                // set is_approval to true
+                String updateSql;
+                var updateParamMap = new HashMap<String, Number>();
+                updateParamMap.put("consensus_timestamp", transfer.consensusTimestamp);
+                if (transfer.transferType == TRANSFER_TYPE.CRYPTO_TRANSFER) {
+                    updateSql = UPDATE_CRYPTO_TRANSFER_SQL;
+                    updateParamMap.put("sender", transfer.sender);
+                } else if (transfer.transferType == TRANSFER_TYPE.NFT_TRANSFER) {
+                    updateSql = UPDATE_NFT_TRANSFER_SQL;
+                    updateParamMap.put("index", transfer.index);
+                } else {
+                    updateSql = UPDATE_TOKEN_TRANSFER_SQL;
+                    updateParamMap.put("sender", transfer.sender);
+                    updateParamMap.put("token_id", transfer.tokenId);
                 }
+
+                transferJdbcTemplate.update(updateSql, updateParamMap);
+                count++;
             }
-        } catch (Exception e) {
-            log.error("Error migrating synthetic transfer approvals", e);
-            return Optional.empty();
         }
 
-        log.info("Updated {} synthetic transfer approvals", count);
+        log.info("Updated {} synthetic transfer approvals in ({}, {}]", count, lowerBound, upperBound);
         migrationErrors.forEach(log::error);
-        return upperBound == UPPER_BOUND_TIMESTAMP ? Optional.empty() : Optional.of(upperBound);
     }
 
     /**
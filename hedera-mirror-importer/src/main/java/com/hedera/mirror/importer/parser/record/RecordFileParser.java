@@ -24,31 +24,47 @@ import com.google.common.collect.ImmutableMap;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.bloom.LogsBloomIndexService;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
 import com.hedera.mirror.importer.util.Utility;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.Level;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
+    private static final int PREPARE_BATCH_SIZE = 256;
+
+    private final EntityIdService entityIdService;
     private final AtomicReference<RecordFile> last;
+    private final LogsBloomIndexService logsBloomIndexService;
     private final RecordItemListener recordItemListener;
+    private final RecordParserProperties recordParserProperties;
     private final RecordStreamFileListener recordStreamFileListener;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
 
@@ -59,6 +75,8 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final DistributionSummary unknownSizeMetric;
 
     public RecordFileParser(
+            EntityIdService entityIdService,
+            LogsBloomIndexService logsBloomIndexService,
             MeterRegistry meterRegistry,
             RecordParserProperties parserProperties,
             StreamFileRepository<RecordFile, Long> streamFileRepository,
@@ -66,8 +84,11 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordStreamFileListener recordStreamFileListener,
             MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
         super(meterRegistry, parserProperties, streamFileRepository);
+        this.entityIdService = entityIdService;
         this.last = new AtomicReference<>();
+        this.logsBloomIndexService = logsBloomIndexService;
         this.recordItemListener = recordItemListener;
+        this.recordParserProperties = parserProperties;
         this.recordStreamFileListener = recordStreamFileListener;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
 
@@ -131,17 +152,21 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             }
 
             recordStreamFileListener.onStart();
+            var filteredItems = recordFile.getItems().filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()));
+            var preparedItems = recordParserProperties.getParallelism() > 1 ? prepare(filteredItems) : null;
+            preloadEntityIds(filteredItems);
 
             long count = recordItems
                     .doOnNext(recordFile::processItem)
                     .filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()))
-                    .doOnNext(recordItemListener::onItem)
+                    .doOnNext(r -> process(r, preparedItems))
                     .doOnNext(this::recordMetrics)
                     .count()
                     .block();
 
             recordFile.finishLoad(count);
             updateIndex(recordFile);
+            logsBloomIndexService.index(recordFile);
             recordStreamFileListener.onEnd(recordFile);
         } catch (Exception ex) {
             recordStreamFileListener.onError();
@@ -149,6 +174,101 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * Maps the record items in batches on the parallel scheduler, so the protobuf parsing and the mapping of the items
+     * that doesn't depend on earlier items runs concurrently. The returned tasks are in consensus order and are run one
+     * at a time on the calling thread within its transaction, so the result is identical to parsing serially.
+     */
+    private Iterator<PreparedItem> prepare(Flux<RecordItem> recordItems) {
+        return recordItems
+                .buffer(PREPARE_BATCH_SIZE)
+                .flatMapSequential(
+                        batch -> Mono.fromSupplier(() -> prepare(batch)).subscribeOn(Schedulers.parallel()),
+                        recordParserProperties.getParallelism())
+                .flatMapIterable(batch -> batch)
+                .collectList()
+                .block()
+                .iterator();
+    }
+
+    private List<PreparedItem> prepare(List<RecordItem> recordItems) {
+        return recordItems.stream()
+                .map(r -> new PreparedItem(r, recordItemListener.prepare(r)))
+                .toList();
+    }
+
+    private void process(RecordItem recordItem, Iterator<PreparedItem> preparedItems) {
+        if (preparedItems == null) {
+            recordItemListener.onItem(recordItem);
+            return;
+        }
+
+        var preparedItem = preparedItems.next();
+        if (preparedItem.recordItem() != recordItem) {
+            throw new ParserException("Prepared record item out of order at " + recordItem.getConsensusTimestamp());
+        }
+
+        preparedItem.task().run();
+    }
+
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items in one batch up front, so the listener's
+     * per-transaction lookups hit the cache instead of querying the database one at a time.
+     */
+    private void preloadEntityIds(Flux<RecordItem> recordItems) {
+        var accountIds = new HashSet<AccountID>();
+        var contractIds = new HashSet<ContractID>();
+
+        recordItems.doOnNext(r -> collectEntityIds(r, accountIds, contractIds)).blockLast();
+        entityIdService.preload(accountIds, contractIds);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void collectEntityIds(RecordItem recordItem, Set<AccountID> accountIds, Set<ContractID> contractIds) {
+        var body = recordItem.getTransactionBody();
+
+        switch (body.getDataCase()) {
+            case CONTRACTCALL -> contractIds.add(body.getContractCall().getContractID());
+            case CONTRACTDELETEINSTANCE -> {
+                var contractDelete = body.getContractDeleteInstance();
+                contractIds.add(contractDelete.getContractID());
+                accountIds.add(contractDelete.getTransferAccountID());
+                contractIds.add(contractDelete.getTransferContractID());
+            }
+            case CONTRACTUPDATEINSTANCE -> contractIds.add(body.getContractUpdateInstance().getContractID());
+            case CRYPTOAPPROVEALLOWANCE -> {
+                var allowance = body.getCryptoApproveAllowance();
+                allowance.getCryptoAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                allowance.getNftAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                allowance.getTokenAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+            }
+            case CRYPTODELETE -> accountIds.add(body.getCryptoDelete().getTransferAccountID());
+            case CRYPTOTRANSFER -> {
+                var cryptoTransfer = body.getCryptoTransfer();
+                cryptoTransfer.getTransfers().getAccountAmountsList().forEach(a -> accountIds.add(a.getAccountID()));
+                cryptoTransfer.getTokenTransfersList().forEach(t -> {
+                    t.getTransfersList().forEach(a -> accountIds.add(a.getAccountID()));
+                    t.getNftTransfersList().forEach(n -> {
+                        accountIds.add(n.getSenderAccountID());
+                        accountIds.add(n.getReceiverAccountID());
+                    });
+                });
+            }
+            case SYSTEMDELETE -> contractIds.add(body.getSystemDelete().getContractID());
+            case SYSTEMUNDELETE -> contractIds.add(body.getSystemUndelete().getContractID());
+            default -> {
+                // No aliases or EVM addresses to resolve
+            }
+        }
+
+        var transactionRecord = recordItem.getTransactionRecord();
+        if (transactionRecord.hasContractCallResult()) {
+            contractIds.add(transactionRecord.getContractCallResult().getContractID());
+        } else if (transactionRecord.hasContractCreateResult()) {
+            contractIds.add(transactionRecord.getContractCreateResult().getContractID());
+        }
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace(
@@ -188,9 +308,12 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
                 var stopwatch = Stopwatch.createStarted();
                 int count = recordFileRepository.updateIndex(offset);
                 log.info("Updated {} blocks with offset {} in {}", count, offset, stopwatch);
+                logsBloomIndexService.reset();
             }
         }
 
         last.compareAndSet(lastInMemory, recordFile);
     }
+
+    private record PreparedItem(RecordItem recordItem, Runnable task) {}
 }
@@ -19,4 +19,16 @@ package com.hedera.mirror.importer.parser.record;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.parser.StreamItemListener;
 
-public interface RecordItemListener extends StreamItemListener<RecordItem> {}
+public interface RecordItemListener extends StreamItemListener<RecordItem> {
+
+    /**
+     * Does the work for the record item that doesn't depend on earlier record items and returns the remaining work. It
+     * may be called concurrently for different record items, but the returned tasks must be run in consensus order.
+     *
+     * @param recordItem the record item
+     * @return the task that completes processing the record item
+     */
+    default Runnable prepare(RecordItem recordItem) {
+        return () -> onItem(recordItem);
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.parser.AbstractParserProperties;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -29,6 +30,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @Min(1)
+    private int parallelism = 1;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
@@ -39,6 +39,7 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
 import com.hedera.mirror.common.domain.transaction.LiveHash;
 import com.hedera.mirror.common.domain.transaction.NetworkFreeze;
 import com.hedera.mirror.common.domain.transaction.Prng;
@@ -131,6 +132,11 @@ public class CompositeEntityListener implements EntityListener {
         onEach(EntityListener::onEthereumTransaction, ethereumTransaction);
     }
 
+    @Override
+    public void onFeeTransfer(FeeTransfer feeTransfer) throws ImporterException {
+        onEach(EntityListener::onFeeTransfer, feeTransfer);
+    }
+
     @Override
     public void onFileData(FileData fileData) throws ImporterException {
         onEach(EntityListener::onFileData, fileData);
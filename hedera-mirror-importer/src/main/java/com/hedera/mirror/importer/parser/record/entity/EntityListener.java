@@ -39,6 +39,7 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
 import com.hedera.mirror.common.domain.transaction.LiveHash;
 import com.hedera.mirror.common.domain.transaction.NetworkFreeze;
 import com.hedera.mirror.common.domain.transaction.Prng;
@@ -81,6 +82,8 @@ public interface EntityListener {
 
     default void onEthereumTransaction(EthereumTransaction ethereumTransaction) {}
 
+    default void onFeeTransfer(FeeTransfer feeTransfer) throws ImporterException {}
+
     default void onFileData(FileData fileData) throws ImporterException {}
 
     default void onLiveHash(LiveHash liveHash) throws ImporterException {}
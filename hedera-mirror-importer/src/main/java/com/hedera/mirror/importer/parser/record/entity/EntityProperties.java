@@ -56,12 +56,37 @@ public class EntityProperties {
 
         private boolean ethereumTransactions = true;
 
+        /**
+         * A set of fee account ids whose fee credits are stored in fee_transfer when feeTransfers is enabled. The node
+         * account of the transaction is always included
+         */
+        @NotNull
+        private Set<EntityId> feeTransferAccounts = Set.of(EntityId.of(98), EntityId.of(800), EntityId.of(801));
+
+        /**
+         * If configured the fee credits to the node and the fee accounts are stored as compact arrays in fee_transfer
+         * and summed per record file in fee_transfer_rollup instead of as rows in crypto_transfer
+         */
+        private boolean feeTransfers = false;
+
         private boolean files = true;
 
         private boolean itemizedTransfers = false;
 
         private boolean pendingReward = true;
 
+        /**
+         * If configured the entity state at the start of a staking period is maintained incrementally in memory from
+         * the record stream instead of being queried from the database
+         */
+        private boolean pendingRewardIncremental = false;
+
+        /**
+         * If configured the incrementally maintained entity state is verified against the database query, which is
+         * then used to calculate the pending reward
+         */
+        private boolean pendingRewardVerify = false;
+
         private boolean schedules = true;
 
         private boolean syntheticContractLogs = true;
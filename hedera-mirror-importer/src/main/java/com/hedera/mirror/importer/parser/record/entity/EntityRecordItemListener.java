@@ -33,6 +33,7 @@ import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.ErrataType;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
 import com.hedera.mirror.common.domain.transaction.ItemizedTransfer;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
@@ -90,6 +91,16 @@ public class EntityRecordItemListener implements RecordItemListener {
 
     @Override
     public void onItem(RecordItem recordItem) throws ImporterException {
+        process(recordItem, map(recordItem));
+    }
+
+    @Override
+    public Runnable prepare(RecordItem recordItem) {
+        var mappedItem = map(recordItem);
+        return () -> process(recordItem, mappedItem);
+    }
+
+    private void process(RecordItem recordItem, MappedItem mappedItem) {
         recordItem.setEntityTransactionPredicate(entityProperties.getPersist()::shouldPersistEntityTransaction);
 
         int transactionTypeValue = recordItem.getTransactionType();
@@ -121,12 +132,13 @@ public class EntityRecordItemListener implements RecordItemListener {
             return;
         }
 
-        Transaction transaction = buildTransaction(entityId, recordItem);
+        Transaction transaction = mappedItem.transaction();
+        transaction.setEntityId(entityId);
         transactionHandler.updateTransaction(transaction, recordItem);
 
         // Insert transfers even on failure
-        insertTransferList(recordItem);
-        insertStakingRewardTransfers(recordItem);
+        insertTransferList(recordItem, mappedItem);
+        insertStakingRewardTransfers(recordItem, mappedItem.stakingRewardTransfers());
 
         // handle scheduled transaction, even on failure
         if (transaction.isScheduled()) {
@@ -134,12 +146,7 @@ public class EntityRecordItemListener implements RecordItemListener {
         }
 
         if (recordItem.isSuccessful()) {
-            if (entityProperties.getPersist().getTransactionSignatures().contains(transactionType)) {
-                insertTransactionSignatures(
-                        transaction.getEntityId(),
-                        recordItem.getConsensusTimestamp(),
-                        recordItem.getSignatureMap().getSigPairList());
-            }
+            insertTransactionSignatures(transaction.getEntityId(), mappedItem.transactionSignatures());
 
             // Only add non-fee transfers on success as the data is assured to be valid
             processItemizedTransfers(recordItem, transaction);
@@ -150,7 +157,7 @@ public class EntityRecordItemListener implements RecordItemListener {
             insertAutomaticTokenAssociations(recordItem);
             // Record token transfers can be populated for multiple transaction types
             insertTokenTransfers(recordItem, transaction);
-            insertAssessedCustomFees(recordItem);
+            insertAssessedCustomFees(recordItem, mappedItem.assessedCustomFees());
         }
 
         contractResultService.process(recordItem, transaction);
@@ -164,7 +171,24 @@ public class EntityRecordItemListener implements RecordItemListener {
         log.debug("Storing transaction: {}", transaction);
     }
 
-    private Transaction buildTransaction(EntityId entityId, RecordItem recordItem) {
+    /**
+     * Builds the domain objects of the record item that only depend on the record item itself, which also forces the
+     * parsing of its transaction body and signature map. This is safe to call concurrently for different record items
+     * since it neither reads nor modifies state shared between them.
+     */
+    private MappedItem map(RecordItem recordItem) {
+        var cryptoTransfers = new ArrayList<CryptoTransfer>();
+        var feeTransfer = mapTransferList(recordItem, cryptoTransfers);
+        return new MappedItem(
+                buildTransaction(recordItem),
+                cryptoTransfers,
+                feeTransfer,
+                mapStakingRewardTransfers(recordItem),
+                mapTransactionSignatures(recordItem),
+                mapAssessedCustomFees(recordItem));
+    }
+
+    private Transaction buildTransaction(RecordItem recordItem) {
         TransactionBody body = recordItem.getTransactionBody();
         TransactionRecord txRecord = recordItem.getTransactionRecord();
 
@@ -179,7 +203,6 @@ public class EntityRecordItemListener implements RecordItemListener {
         Transaction transaction = new Transaction();
         transaction.setChargedTxFee(txRecord.getTransactionFee());
         transaction.setConsensusTimestamp(recordItem.getConsensusTimestamp());
-        transaction.setEntityId(entityId);
         transaction.setIndex(recordItem.getTransactionIndex());
         transaction.setInitialBalance(0L);
         transaction.setMaxFee(body.getTransactionFee());
@@ -255,33 +278,42 @@ public class EntityRecordItemListener implements RecordItemListener {
         }
     }
 
-    private void insertStakingRewardTransfers(RecordItem recordItem) {
+    private List<StakingRewardTransfer> mapStakingRewardTransfers(RecordItem recordItem) {
         long consensusTimestamp = recordItem.getConsensusTimestamp();
         var payerAccountId = recordItem.getPayerAccountId();
+        var paidStakingRewards = recordItem.getTransactionRecord().getPaidStakingRewardsList();
+        var stakingRewardTransfers = new ArrayList<StakingRewardTransfer>(paidStakingRewards.size());
 
-        for (var aa : recordItem.getTransactionRecord().getPaidStakingRewardsList()) {
-            var accountId = EntityId.of(aa.getAccountID());
+        for (var aa : paidStakingRewards) {
             var stakingRewardTransfer = new StakingRewardTransfer();
-            stakingRewardTransfer.setAccountId(accountId.getId());
+            stakingRewardTransfer.setAccountId(EntityId.of(aa.getAccountID()).getId());
             stakingRewardTransfer.setAmount(aa.getAmount());
             stakingRewardTransfer.setConsensusTimestamp(consensusTimestamp);
             stakingRewardTransfer.setPayerAccountId(payerAccountId);
+            stakingRewardTransfers.add(stakingRewardTransfer);
+        }
 
+        return stakingRewardTransfers;
+    }
+
+    private void insertStakingRewardTransfers(
+            RecordItem recordItem, List<StakingRewardTransfer> stakingRewardTransfers) {
+        for (var stakingRewardTransfer : stakingRewardTransfers) {
             entityListener.onStakingRewardTransfer(stakingRewardTransfer);
-            recordItem.addEntityId(accountId);
+            recordItem.addEntityId(EntityId.of(stakingRewardTransfer.getAccountId()));
         }
     }
 
     /*
      * Extracts crypto transfers from the record. The extra logic around 'failedTransfer' is to detect and remove
      * spurious non-fee transfers that occurred due to a services bug in the past as documented in
-     * ErrataMigration.spuriousTransfers().
+     * ErrataMigration.spuriousTransfers(). Fee credits are returned as a fee transfer if they're stored compactly.
      */
-    private void insertTransferList(RecordItem recordItem) {
+    private FeeTransfer mapTransferList(RecordItem recordItem, List<CryptoTransfer> cryptoTransfers) {
         var transactionRecord = recordItem.getTransactionRecord();
         if (!transactionRecord.hasTransferList()
                 || !entityProperties.getPersist().isCryptoTransferAmounts()) {
-            return;
+            return null;
         }
 
         long consensusTimestamp = recordItem.getConsensusTimestamp();
@@ -290,14 +322,21 @@ public class EntityRecordItemListener implements RecordItemListener {
         var body = recordItem.getTransactionBody();
         boolean failedTransfer =
                 !recordItem.isSuccessful() && body.hasCryptoTransfer() && consensusTimestamp < 1577836799000000000L;
+        var persist = entityProperties.getPersist();
+        var feeTransfer = persist.isFeeTransfers()
+                ? FeeTransfer.builder()
+                        .consensusTimestamp(consensusTimestamp)
+                        .payerAccountId(payerAccountId)
+                        .build()
+                : null;
+        long nodeAccountId = feeTransfer != null ? EntityId.of(body.getNodeAccountID()).getId() : 0L;
 
         for (int i = 0; i < transferList.getAccountAmountsCount(); ++i) {
             var aa = transferList.getAccountAmounts(i);
-            var account = EntityId.of(aa.getAccountID());
             CryptoTransfer cryptoTransfer = new CryptoTransfer();
             cryptoTransfer.setAmount(aa.getAmount());
             cryptoTransfer.setConsensusTimestamp(consensusTimestamp);
-            cryptoTransfer.setEntityId(account.getId());
+            cryptoTransfer.setEntityId(EntityId.of(aa.getAccountID()).getId());
             cryptoTransfer.setIsApproval(false);
             cryptoTransfer.setPayerAccountId(payerAccountId);
 
@@ -313,11 +352,42 @@ public class EntityRecordItemListener implements RecordItemListener {
                 }
             }
 
+            if (feeTransfer != null && isFeeTransfer(cryptoTransfer, nodeAccountId, persist.getFeeTransferAccounts())) {
+                feeTransfer.addTransfer(cryptoTransfer.getEntityId(), cryptoTransfer.getAmount());
+            } else {
+                cryptoTransfers.add(cryptoTransfer);
+            }
+        }
+
+        return feeTransfer != null && !feeTransfer.getEntityIds().isEmpty() ? feeTransfer : null;
+    }
+
+    private void insertTransferList(RecordItem recordItem, MappedItem mappedItem) {
+        for (var cryptoTransfer : mappedItem.cryptoTransfers()) {
             entityListener.onCryptoTransfer(cryptoTransfer);
-            recordItem.addEntityId(account);
+            recordItem.addEntityId(EntityId.of(cryptoTransfer.getEntityId()));
+        }
+
+        var feeTransfer = mappedItem.feeTransfer();
+        if (feeTransfer != null) {
+            feeTransfer.getEntityIds().forEach(id -> recordItem.addEntityId(EntityId.of(id)));
+            entityListener.onFeeTransfer(feeTransfer);
         }
     }
 
+    /**
+     * Fee credits to the node and the fee accounts are stored in a single compact fee transfer instead of as crypto
+     * transfers. Debits, approved transfers and errata are left as crypto transfers so they stay individually indexed.
+     */
+    private boolean isFeeTransfer(
+            CryptoTransfer cryptoTransfer, long nodeAccountId, Set<EntityId> feeTransferAccounts) {
+        long entityId = cryptoTransfer.getEntityId();
+        return cryptoTransfer.getAmount() > 0
+                && cryptoTransfer.getErrata() == null
+                && !Boolean.TRUE.equals(cryptoTransfer.getIsApproval())
+                && (entityId == nodeAccountId || feeTransferAccounts.contains(EntityId.of(entityId)));
+    }
+
     private AccountAmount findAccountAmount(AccountAmount aa, TransactionBody body) {
         if (!body.hasCryptoTransfer()) {
             return null;
@@ -629,8 +699,16 @@ public class EntityRecordItemListener implements RecordItemListener {
     }
 
     @SuppressWarnings("java:S135")
-    private void insertTransactionSignatures(
-            EntityId entityId, long consensusTimestamp, List<SignaturePair> signaturePairList) {
+    private List<TransactionSignature> mapTransactionSignatures(RecordItem recordItem) {
+        var transactionType = TransactionType.of(recordItem.getTransactionType());
+        if (!recordItem.isSuccessful()
+                || !entityProperties.getPersist().getTransactionSignatures().contains(transactionType)) {
+            return List.of();
+        }
+
+        long consensusTimestamp = recordItem.getConsensusTimestamp();
+        var signaturePairList = recordItem.getSignatureMap().getSigPairList();
+        var transactionSignatures = new ArrayList<TransactionSignature>(signaturePairList.size());
         Set<ByteString> publicKeyPrefixes = new HashSet<>();
         for (SignaturePair signaturePair : signaturePairList) {
             ByteString prefix = signaturePair.getPubKeyPrefix();
@@ -691,13 +769,22 @@ public class EntityRecordItemListener implements RecordItemListener {
             if (publicKeyPrefixes.add(prefix)) {
                 TransactionSignature transactionSignature = new TransactionSignature();
                 transactionSignature.setConsensusTimestamp(consensusTimestamp);
-                transactionSignature.setEntityId(entityId);
                 transactionSignature.setPublicKeyPrefix(DomainUtils.toBytes(prefix));
                 transactionSignature.setSignature(DomainUtils.toBytes(signature));
                 transactionSignature.setType(type);
-                entityListener.onTransactionSignature(transactionSignature);
+                transactionSignatures.add(transactionSignature);
             }
         }
+
+        return transactionSignatures;
+    }
+
+    // The entity ID is only known once the transaction handler has run, so it's set here instead of when mapping
+    private void insertTransactionSignatures(EntityId entityId, List<TransactionSignature> transactionSignatures) {
+        for (var transactionSignature : transactionSignatures) {
+            transactionSignature.setEntityId(entityId);
+            entityListener.onTransactionSignature(transactionSignature);
+        }
     }
 
     private void onScheduledTransaction(RecordItem recordItem) {
@@ -715,38 +802,46 @@ public class EntityRecordItemListener implements RecordItemListener {
         }
     }
 
-    private void insertAssessedCustomFees(RecordItem recordItem) {
-        if (entityProperties.getPersist().isTokens()) {
-            long consensusTimestamp = recordItem.getConsensusTimestamp();
-            var assessedCustomFeesList = recordItem.getTransactionRecord().getAssessedCustomFeesList();
-            for (int i = 0; i < assessedCustomFeesList.size(); i++) {
-                var protoAssessedCustomFee = assessedCustomFeesList.get(i);
-                var collectorAccountId = EntityId.of(protoAssessedCustomFee.getFeeCollectorAccountId());
-                // the effective payers must also appear in the *transfer lists of this transaction and the
-                // corresponding EntityIds should have been added to EntityListener, so skip it here.
-                var tokenId = EntityId.of(protoAssessedCustomFee.getTokenId());
-                var assessedCustomFee = new AssessedCustomFee();
-                assessedCustomFee.setAmount(protoAssessedCustomFee.getAmount());
-                assessedCustomFee.setCollectorAccountId(collectorAccountId.getId());
-                assessedCustomFee.setConsensusTimestamp(consensusTimestamp);
-                assessedCustomFee.setPayerAccountId(recordItem.getPayerAccountId());
-                assessedCustomFee.setTokenId(tokenId);
-
-                if (protoAssessedCustomFee.getEffectivePayerAccountIdCount() > 0) {
-                    var effectivePayerEntityIds = new ArrayList<Long>();
-                    for (var protoAccountId : protoAssessedCustomFee.getEffectivePayerAccountIdList()) {
-                        var effectivePayerAccountId = EntityId.of(protoAccountId);
-                        effectivePayerEntityIds.add(effectivePayerAccountId.getId());
-                        recordItem.addEntityId(effectivePayerAccountId);
-                    }
-                    assessedCustomFee.setEffectivePayerAccountIds(effectivePayerEntityIds);
+    private List<AssessedCustomFee> mapAssessedCustomFees(RecordItem recordItem) {
+        if (!entityProperties.getPersist().isTokens()) {
+            return List.of();
+        }
+
+        long consensusTimestamp = recordItem.getConsensusTimestamp();
+        var assessedCustomFeesList = recordItem.getTransactionRecord().getAssessedCustomFeesList();
+        var assessedCustomFees = new ArrayList<AssessedCustomFee>(assessedCustomFeesList.size());
+
+        for (var protoAssessedCustomFee : assessedCustomFeesList) {
+            var assessedCustomFee = new AssessedCustomFee();
+            assessedCustomFee.setAmount(protoAssessedCustomFee.getAmount());
+            assessedCustomFee.setCollectorAccountId(
+                    EntityId.of(protoAssessedCustomFee.getFeeCollectorAccountId()).getId());
+            assessedCustomFee.setConsensusTimestamp(consensusTimestamp);
+            assessedCustomFee.setPayerAccountId(recordItem.getPayerAccountId());
+            assessedCustomFee.setTokenId(EntityId.of(protoAssessedCustomFee.getTokenId()));
+
+            if (protoAssessedCustomFee.getEffectivePayerAccountIdCount() > 0) {
+                var effectivePayerEntityIds = new ArrayList<Long>();
+                for (var protoAccountId : protoAssessedCustomFee.getEffectivePayerAccountIdList()) {
+                    effectivePayerEntityIds.add(EntityId.of(protoAccountId).getId());
                 }
+                assessedCustomFee.setEffectivePayerAccountIds(effectivePayerEntityIds);
+            }
 
-                entityListener.onAssessedCustomFee(assessedCustomFee);
+            assessedCustomFees.add(assessedCustomFee);
+        }
 
-                recordItem.addEntityId(collectorAccountId);
-                recordItem.addEntityId(tokenId);
-            }
+        return assessedCustomFees;
+    }
+
+    private void insertAssessedCustomFees(RecordItem recordItem, List<AssessedCustomFee> assessedCustomFees) {
+        for (var assessedCustomFee : assessedCustomFees) {
+            assessedCustomFee.getEffectivePayerAccountIds().forEach(id -> recordItem.addEntityId(EntityId.of(id)));
+
+            entityListener.onAssessedCustomFee(assessedCustomFee);
+
+            recordItem.addEntityId(EntityId.of(assessedCustomFee.getCollectorAccountId()));
+            recordItem.addEntityId(assessedCustomFee.getTokenId());
         }
     }
 
@@ -781,4 +876,12 @@ public class EntityRecordItemListener implements RecordItemListener {
         entities.remove(null);
         return new TransactionFilterFields(entities, TransactionType.of(recordItem.getTransactionType()));
     }
+
+    private record MappedItem(
+            Transaction transaction,
+            List<CryptoTransfer> cryptoTransfers,
+            FeeTransfer feeTransfer,
+            List<StakingRewardTransfer> stakingRewardTransfers,
+            List<TransactionSignature> transactionSignatures,
+            List<AssessedCustomFee> assessedCustomFees) {}
 }
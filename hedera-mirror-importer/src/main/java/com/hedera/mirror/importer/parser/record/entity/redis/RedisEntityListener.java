@@ -26,24 +26,35 @@ import com.hedera.mirror.importer.parser.record.entity.BatchEntityListener;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.EntityBatchCleanupEvent;
 import com.hedera.mirror.importer.parser.record.entity.EntityBatchSaveEvent;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+/**
+ * Publishes topic messages to Redis once they're saved. Topics are sharded across parallel publishers so that the
+ * messages of a topic are always published in order by the same thread. Each publisher coalesces the batches that
+ * queue up while it's busy into one larger pipeline so it catches up instead of blocking the parser.
+ */
 @ConditionOnEntityRecordParser
 @CustomLog
 @Named
@@ -51,40 +62,58 @@ import org.springframework.data.redis.core.SessionCallback;
 @RequiredArgsConstructor
 public class RedisEntityListener implements BatchEntityListener {
 
-    private static final String TOPIC_FORMAT = "topic.%d";
-
     private final RedisProperties redisProperties;
     private final RedisOperations<String, StreamMessage> redisOperations;
+    private final RedisSerializer<StreamMessage> redisSerializer;
     private final MeterRegistry meterRegistry;
-    private final LoadingCache<Long, String> channelNames =
+    private final LoadingCache<Long, byte[]> channelNames =
             Caffeine.newBuilder().maximumSize(1000L).build(this::getChannelName);
 
+    private ExecutorService executor;
+    private AtomicLong lag;
     private AtomicLong lastConsensusTimestamp;
+    private AtomicLong queued;
+    private List<BlockingQueue<List<TopicMessage>>> shards;
     private Timer timer;
     private List<TopicMessage> topicMessages;
-    private BlockingQueue<List<TopicMessage>> topicMessagesQueue;
 
     @PostConstruct
     void init() {
+        lag = new AtomicLong(0);
         lastConsensusTimestamp = new AtomicLong(0);
+        queued = new AtomicLong(0);
         timer = Timer.builder("hedera.mirror.importer.publish.duration")
                 .description("The amount of time it took to publish the domain entity")
                 .tag("entity", TopicMessage.class.getSimpleName())
                 .tag("type", "redis")
                 .register(meterRegistry);
+        Gauge.builder("hedera.mirror.importer.publish.queue", queued, AtomicLong::get)
+                .description("The number of domain entities waiting to be published")
+                .tag("entity", TopicMessage.class.getSimpleName())
+                .tag("type", "redis")
+                .register(meterRegistry);
+        TimeGauge.builder("hedera.mirror.importer.publish.lag", lag, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("The difference between the consensus time of the last published domain entity and the "
+                        + "time it was published")
+                .tag("entity", TopicMessage.class.getSimpleName())
+                .tag("type", "redis")
+                .register(meterRegistry);
         topicMessages = new ArrayList<>();
-        topicMessagesQueue = new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
 
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                while (true) {
-                    publish(topicMessagesQueue.take());
-                }
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        });
+        int parallelism = redisProperties.getParallelism();
+        executor = Executors.newFixedThreadPool(parallelism);
+        shards = new ArrayList<>(parallelism);
+
+        for (int i = 0; i < parallelism; i++) {
+            BlockingQueue<List<TopicMessage>> shard = new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
+            shards.add(shard);
+            executor.execute(() -> drain(shard));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 
     @Override
@@ -112,9 +141,28 @@ public class RedisEntityListener implements BatchEntityListener {
 
         List<TopicMessage> latestMessageBatch = topicMessages;
         topicMessages = new ArrayList<>();
-        if (!topicMessagesQueue.offer(latestMessageBatch)) {
-            log.warn("topicMessagesQueue is full, will block until space is available");
-            topicMessagesQueue.put(latestMessageBatch);
+
+        int shardCount = shards.size();
+        if (shardCount == 1) {
+            enqueue(shards.get(0), latestMessageBatch);
+            return;
+        }
+
+        var batches = new ArrayList<List<TopicMessage>>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            batches.add(new ArrayList<>());
+        }
+
+        for (var topicMessage : latestMessageBatch) {
+            int shard = Math.floorMod(topicMessage.getTopicId().getId(), shardCount);
+            batches.get(shard).add(topicMessage);
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            var batch = batches.get(i);
+            if (!batch.isEmpty()) {
+                enqueue(shards.get(i), batch);
+            }
         }
     }
 
@@ -125,31 +173,71 @@ public class RedisEntityListener implements BatchEntityListener {
         topicMessages.clear();
     }
 
-    private void publish(List<TopicMessage> messages) {
+    private void enqueue(BlockingQueue<List<TopicMessage>> shard, List<TopicMessage> batch)
+            throws InterruptedException {
+        queued.addAndGet(batch.size());
+        if (!shard.offer(batch)) {
+            log.warn("topicMessagesQueue is full, will block until space is available");
+            shard.put(batch);
+        }
+    }
+
+    private void drain(BlockingQueue<List<TopicMessage>> shard) {
+        var batches = new ArrayList<List<TopicMessage>>();
+        int maxPipelineSize = redisProperties.getMaxPipelineSize();
+
+        try {
+            while (true) {
+                var batch = shard.take();
+                int count = batch.size();
+                batches.add(batch);
+
+                // Coalesce the batches that queued up while publishing the previous pipeline
+                var next = shard.peek();
+                while (next != null && count + next.size() <= maxPipelineSize) {
+                    batches.add(shard.poll());
+                    count += next.size();
+                    next = shard.peek();
+                }
+
+                publish(batches, count);
+                batches.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(List<List<TopicMessage>> batches, int count) {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            timer.record(() -> redisOperations.executePipelined(callback(messages)));
-            log.info("Finished notifying {} messages in {}", messages.size(), stopwatch);
+            timer.record(() -> redisOperations.executePipelined(callback(batches)));
+            log.info("Finished notifying {} messages in {}", count, stopwatch);
+
+            var lastBatch = batches.get(batches.size() - 1);
+            long consensusTimestamp = lastBatch.get(lastBatch.size() - 1).getConsensusTimestamp();
+            lag.set(System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(consensusTimestamp));
         } catch (Exception e) {
             log.error("Unable to publish to redis", e);
+        } finally {
+            queued.addAndGet(-count);
         }
     }
 
-    // Batch send using Redis pipelining
-    private SessionCallback<Object> callback(List<TopicMessage> messages) {
-        return new SessionCallback<>() {
-            @Override
-            public <K, V> Object execute(RedisOperations<K, V> operations) {
-                for (TopicMessage topicMessage : messages) {
-                    String channel = channelNames.get(topicMessage.getTopicId().getId());
-                    redisOperations.convertAndSend(channel, topicMessage);
+    // Batch send using Redis pipelining, serializing each message only once
+    private RedisCallback<Object> callback(List<List<TopicMessage>> batches) {
+        return connection -> {
+            for (var batch : batches) {
+                for (var topicMessage : batch) {
+                    byte[] channel = channelNames.get(topicMessage.getTopicId().getId());
+                    connection.publish(channel, redisSerializer.serialize(topicMessage));
                 }
-                return null;
             }
+            return null;
         };
     }
 
-    private String getChannelName(Long id) {
-        return String.format(TOPIC_FORMAT, id);
+    private byte[] getChannelName(Long id) {
+        return ("topic." + id).getBytes(StandardCharsets.UTF_8);
     }
 }
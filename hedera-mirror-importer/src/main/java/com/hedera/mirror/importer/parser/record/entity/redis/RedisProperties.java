@@ -29,6 +29,12 @@ public class RedisProperties implements EntityListenerProperties {
 
     private boolean enabled = true;
 
+    @Min(1)
+    private int maxPipelineSize = 10_000;
+
+    @Min(1)
+    private int parallelism = 4;
+
     @Min(1)
     private int queueCapacity = 8;
 }
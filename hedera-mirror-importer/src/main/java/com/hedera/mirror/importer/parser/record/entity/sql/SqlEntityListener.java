@@ -51,6 +51,8 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.EthereumTransaction;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
+import com.hedera.mirror.common.domain.transaction.FeeTransferRollup;
 import com.hedera.mirror.common.domain.transaction.LiveHash;
 import com.hedera.mirror.common.domain.transaction.NetworkFreeze;
 import com.hedera.mirror.common.domain.transaction.Prng;
@@ -117,6 +119,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final Collection<Entity> entities;
     private final Collection<EntityTransaction> entityTransactions;
     private final Collection<EthereumTransaction> ethereumTransactions;
+    private final Collection<FeeTransfer> feeTransfers;
     private final Collection<FileData> fileData;
     private final Collection<LiveHash> liveHashes;
     private final Collection<NetworkFreeze> networkFreezes;
@@ -146,6 +149,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final Map<Long, Token> tokenState;
     private final Map<AbstractTokenAllowance.Id, TokenAllowance> tokenAllowanceState;
 
+    // fee transfer sums by account for the whole record file, so they're kept across intermediate batch flushes
+    private final Map<Long, FeeTransferRollup> feeTransferRollups;
+
     // tracks the state of <token, account> relationships in a batch, the initial state before the batch is in db.
     // for each <token, account> update, merge the state and the update, save the merged state to the batch.
     // during batch upsert, the merged state at time T is again merged with the initial state before the batch to
@@ -186,6 +192,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         entities = new ArrayList<>();
         entityTransactions = new ArrayList<>();
         ethereumTransactions = new ArrayList<>();
+        feeTransfers = new ArrayList<>();
         fileData = new ArrayList<>();
         liveHashes = new ArrayList<>();
         networkFreezes = new ArrayList<>();
@@ -214,6 +221,8 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         tokenState = new HashMap<>();
         tokenAccountState = new HashMap<>();
         tokenAllowanceState = new HashMap<>();
+
+        feeTransferRollups = new HashMap<>();
     }
 
     @Override
@@ -224,12 +233,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onStart() {
         cleanup();
+        feeTransferRollups.clear();
     }
 
     @Override
     public void onEnd(RecordFile recordFile) {
         flush();
         if (recordFile != null) {
+            flushFeeTransferRollups(recordFile);
             var sidecars = recordFile.getSidecars();
             recordFileRepository.save(recordFile);
 
@@ -243,6 +254,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onError() {
         cleanup();
+        feeTransferRollups.clear();
     }
 
     @Override
@@ -342,6 +354,32 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         ethereumTransactions.add(ethereumTransaction);
     }
 
+    @Override
+    public void onFeeTransfer(FeeTransfer feeTransfer) throws ImporterException {
+        var amounts = feeTransfer.getAmounts();
+        var entityIds = feeTransfer.getEntityIds();
+
+        for (int i = 0; i < entityIds.size(); i++) {
+            long entityId = entityIds.get(i);
+            long amount = amounts.get(i);
+
+            if (entityProperties.getPersist().isTrackBalance()) {
+                var entity = new Entity();
+                entity.setId(entityId);
+                entity.setBalance(amount);
+                onEntity(entity);
+            }
+
+            feeTransferRollups
+                    .computeIfAbsent(entityId, id -> FeeTransferRollup.builder()
+                            .entityId(id)
+                            .build())
+                    .addTransfer(amount);
+        }
+
+        feeTransfers.add(feeTransfer);
+    }
+
     @Override
     public void onFileData(FileData fd) {
         fileData.add(fd);
@@ -506,6 +544,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             entityState.clear();
             entityTransactions.clear();
             ethereumTransactions.clear();
+            feeTransfers.clear();
             fileData.clear();
             liveHashes.clear();
             networkFreezes.clear();
@@ -553,6 +592,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             batchPersister.persist(customFees);
             batchPersister.persist(entityTransactions);
             batchPersister.persist(ethereumTransactions);
+            batchPersister.persist(feeTransfers);
             batchPersister.persist(fileData);
             batchPersister.persist(liveHashes);
             batchPersister.persist(networkFreezes);
@@ -594,6 +634,23 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    private void flushFeeTransferRollups(RecordFile recordFile) {
+        try {
+            for (var feeTransferRollup : feeTransferRollups.values()) {
+                feeTransferRollup.setConsensusEnd(recordFile.getConsensusEnd());
+                feeTransferRollup.setConsensusStart(recordFile.getConsensusStart());
+            }
+
+            batchPersister.persist(feeTransferRollups.values());
+        } catch (ParserException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ParserException(e);
+        } finally {
+            feeTransferRollups.clear();
+        }
+    }
+
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
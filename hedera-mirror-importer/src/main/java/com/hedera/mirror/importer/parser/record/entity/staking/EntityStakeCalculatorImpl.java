@@ -20,9 +20,21 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.repository.EntityStakeRepository;
 import jakarta.inject.Named;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @CustomLog
@@ -30,8 +42,19 @@ import org.springframework.transaction.support.TransactionOperations;
 @RequiredArgsConstructor
 public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
 
+    private static final String COPY_SQL =
+            """
+            copy entity_state_start (balance, decline_reward, id, staked_account_id, staked_node_id, stake_period_start)
+            from stdin with csv
+            """;
+    private static final String VERIFY_SQL =
+            "select balance, decline_reward, id, staked_account_id, staked_node_id, stake_period_start "
+                    + "from entity_state_start";
+
     private final EntityProperties entityProperties;
     private final EntityStakeRepository entityStakeRepository;
+    private final EntityStakeStateListener entityStakeStateListener;
+    private final JdbcTemplate jdbcTemplate;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final TransactionOperations transactionOperations;
 
@@ -58,8 +81,7 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
                         entityStakeRepository.getEndStakePeriod().orElse(0L);
                 transactionOperations.executeWithoutResult(s -> {
                     entityStakeRepository.lockFromConcurrentUpdates();
-                    entityStakeRepository.createEntityStateStart();
-                    log.info("Created entity_state_start in {}", stopwatch);
+                    createEntityStateStart(stopwatch);
                     entityStakeRepository.updateEntityStake();
                 });
 
@@ -87,4 +109,73 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
             running.set(false);
         }
     }
+
+    private void createEntityStateStart(Stopwatch stopwatch) {
+        var persist = entityProperties.getPersist();
+        var snapshot = persist.isPendingRewardIncremental()
+                ? entityStakeRepository.getEndPeriodTimestamp().flatMap(entityStakeStateListener::getSnapshot)
+                : Optional.<EntityStakeState>empty();
+
+        if (snapshot.isEmpty() || persist.isPendingRewardVerify()) {
+            entityStakeRepository.createEntityStateStart();
+            log.info("Created entity_state_start in {}", stopwatch);
+            snapshot.ifPresent(this::verify);
+            return;
+        }
+
+        var state = snapshot.get();
+        entityStakeRepository.createEntityStateStartTable();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try (var writer = new BufferedWriter(
+                    new OutputStreamWriter(new PGCopyOutputStream(copyIn), StandardCharsets.UTF_8))) {
+                state.write(writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            return null;
+        });
+        log.info(
+                "Created entity_state_start with {} entities from the snapshot at {} in {}",
+                state.size(),
+                state.getTimestamp(),
+                stopwatch);
+    }
+
+    private void verify(EntityStakeState state) {
+        var mismatches = new ArrayList<Long>();
+        var rows = new AtomicLong();
+        jdbcTemplate.query(VERIFY_SQL, rs -> {
+            long id = rs.getLong("id");
+            rows.incrementAndGet();
+            boolean matches = state.matches(
+                    id,
+                    rs.getLong("balance"),
+                    rs.getBoolean("decline_reward"),
+                    rs.getLong("staked_account_id"),
+                    rs.getLong("staked_node_id"),
+                    rs.getLong("stake_period_start"));
+            if (!matches) {
+                mismatches.add(id);
+            }
+        });
+
+        long expected = rows.get();
+        long actual = state.size();
+        if (mismatches.isEmpty() && expected == actual) {
+            log.info("Verified the entity stake state snapshot at {} with {} entities", state.getTimestamp(), actual);
+        } else {
+            log.warn(
+                    "Entity stake state snapshot at {} has {} entities and {} mismatches against {} rows, first mismatches: {}",
+                    state.getTimestamp(),
+                    actual,
+                    mismatches.size(),
+                    expected,
+                    mismatches.subList(0, Math.min(10, mismatches.size())));
+        }
+    }
 }
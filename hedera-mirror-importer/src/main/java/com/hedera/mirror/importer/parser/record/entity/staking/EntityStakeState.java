@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * A compact, primitive array backed state of the staking related fields of accounts and contracts. The entities are
+ * stored densely in the order they are first seen and an open addressing hash index maps an entity id to its position,
+ * so the memory used is proportional to the number of entities rather than the largest entity id. The values follow
+ * the column semantics of the entity_state_start table.
+ */
+class EntityStakeState {
+
+    private static final byte DECLINE_REWARD = 1;
+    private static final byte DELETED = 1 << 1;
+    private static final byte ENTITY = 1 << 2;
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] balance;
+    private byte[] flags;
+    private long[] ids;
+    private long[] stakedAccountId;
+    private int[] stakedNodeId;
+    private int[] stakePeriodStart;
+
+    // The hash index has at least twice the capacity of the arrays to keep the probe sequences short
+    private long[] keys;
+    private int[] positions;
+
+    private int count;
+
+    @Getter
+    private final long timestamp;
+
+    EntityStakeState() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private EntityStakeState(int capacity) {
+        this(
+                new long[capacity],
+                new byte[capacity],
+                new long[capacity],
+                new long[capacity],
+                new int[capacity],
+                new int[capacity],
+                emptyKeys(indexCapacity(capacity)),
+                new int[indexCapacity(capacity)],
+                0,
+                0L);
+    }
+
+    @SuppressWarnings("java:S107")
+    private EntityStakeState(
+            long[] balance,
+            byte[] flags,
+            long[] ids,
+            long[] stakedAccountId,
+            int[] stakedNodeId,
+            int[] stakePeriodStart,
+            long[] keys,
+            int[] positions,
+            int count,
+            long timestamp) {
+        this.balance = balance;
+        this.flags = flags;
+        this.ids = ids;
+        this.stakedAccountId = stakedAccountId;
+        this.stakedNodeId = stakedNodeId;
+        this.stakePeriodStart = stakePeriodStart;
+        this.keys = keys;
+        this.positions = positions;
+        this.count = count;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Adds the amount to the balance. The balance of an id not known to be an account or a contract is still tracked
+     * so that it's correct once the entity is seen, but the id isn't part of the state until then.
+     */
+    void addBalance(long id, long amount) {
+        int position = ensurePresent(id);
+        balance[position] += amount;
+    }
+
+    void load(
+            long id,
+            long balance,
+            boolean declineReward,
+            boolean deleted,
+            long stakedAccountId,
+            int stakedNodeId,
+            int stakePeriodStart) {
+        int position = ensurePresent(id);
+        this.balance[position] = balance;
+        this.stakedAccountId[position] = stakedAccountId;
+        this.stakedNodeId[position] = stakedNodeId;
+        this.stakePeriodStart[position] = stakePeriodStart;
+        setFlag(position, DECLINE_REWARD, declineReward);
+        setFlag(position, DELETED, deleted);
+        setFlag(position, ENTITY, true);
+    }
+
+    /**
+     * Applies the non-null staking related fields of a partial entity update. Updates to entities of other types are
+     * ignored and so are updates without a type to entities not yet in the state, since their type is unknown.
+     */
+    void update(Entity entity) {
+        var type = entity.getType();
+        if (type != null && type != EntityType.ACCOUNT && type != EntityType.CONTRACT) {
+            return;
+        }
+
+        long id = entity.getId();
+        if (type == null && !isEntity(indexOf(id))) {
+            return;
+        }
+
+        int position = ensurePresent(id);
+        setFlag(position, ENTITY, true);
+
+        if (entity.getDeclineReward() != null) {
+            setFlag(position, DECLINE_REWARD, entity.getDeclineReward());
+        }
+
+        if (entity.getDeleted() != null) {
+            setFlag(position, DELETED, entity.getDeleted());
+        }
+
+        if (entity.getStakedAccountId() != null) {
+            stakedAccountId[position] = entity.getStakedAccountId();
+        }
+
+        if (entity.getStakedNodeId() != null) {
+            stakedNodeId[position] = entity.getStakedNodeId().intValue();
+        }
+
+        if (entity.getStakePeriodStart() != null) {
+            stakePeriodStart[position] = entity.getStakePeriodStart().intValue();
+        }
+    }
+
+    /**
+     * Moves the stake period start forward as the result of a staking reward payout. An earlier value never replaces a
+     * later one.
+     */
+    void updateStakePeriodStart(long id, long value) {
+        int position = indexOf(id);
+        if (!isEntity(position)) {
+            return;
+        }
+
+        stakePeriodStart[position] = Math.max(stakePeriodStart[position], (int) value);
+    }
+
+    EntityStakeState copy(long timestamp) {
+        return new EntityStakeState(
+                Arrays.copyOf(balance, count),
+                Arrays.copyOf(flags, count),
+                Arrays.copyOf(ids, count),
+                Arrays.copyOf(stakedAccountId, count),
+                Arrays.copyOf(stakedNodeId, count),
+                Arrays.copyOf(stakePeriodStart, count),
+                keys.clone(),
+                positions.clone(),
+                count,
+                timestamp);
+    }
+
+    /**
+     * Checks if the row matches the state of the entity. A row for an entity not in the state, deleted, or any
+     * difference in the fields is a mismatch.
+     */
+    @SuppressWarnings("java:S107")
+    boolean matches(
+            long id,
+            long balance,
+            boolean declineReward,
+            long stakedAccountId,
+            long stakedNodeId,
+            long stakePeriodStart) {
+        int position = indexOf(id);
+        if (!isEntity(position) || hasFlag(position, DELETED)) {
+            return false;
+        }
+
+        return this.balance[position] == balance
+                && hasFlag(position, DECLINE_REWARD) == declineReward
+                && this.stakedAccountId[position] == stakedAccountId
+                && this.stakedNodeId[position] == stakedNodeId
+                && this.stakePeriodStart[position] == stakePeriodStart;
+    }
+
+    /**
+     * The number of entities which are not deleted, i.e., the number of rows in entity_state_start.
+     */
+    long size() {
+        long size = 0;
+        for (int i = 0; i < count; i++) {
+            if (isEntity(i) && !hasFlag(i, DELETED)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes the entities which are not deleted as csv rows in the column order of balance, decline_reward, id,
+     * staked_account_id, staked_node_id, and stake_period_start.
+     */
+    void write(Writer writer) throws IOException {
+        var line = new StringBuilder(64);
+        for (int i = 0; i < count; i++) {
+            if (!isEntity(i) || hasFlag(i, DELETED)) {
+                continue;
+            }
+
+            line.setLength(0);
+            line.append(balance[i])
+                    .append(',')
+                    .append(hasFlag(i, DECLINE_REWARD))
+                    .append(',')
+                    .append(ids[i])
+                    .append(',')
+                    .append(stakedAccountId[i])
+                    .append(',')
+                    .append(stakedNodeId[i])
+                    .append(',')
+                    .append(stakePeriodStart[i])
+                    .append('\n');
+            writer.append(line);
+        }
+    }
+
+    private int ensurePresent(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Invalid entity id " + id);
+        }
+
+        int slot = slotOf(id);
+        if (keys[slot] == id) {
+            return positions[slot];
+        }
+
+        if (count == ids.length) {
+            grow();
+            slot = slotOf(id);
+        }
+
+        int position = count++;
+        keys[slot] = id;
+        positions[slot] = position;
+        ids[position] = id;
+        stakedAccountId[position] = 0L;
+        stakedNodeId[position] = -1;
+        stakePeriodStart[position] = -1;
+        return position;
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, ids.length << 1);
+        balance = Arrays.copyOf(balance, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        stakedAccountId = Arrays.copyOf(stakedAccountId, capacity);
+        stakedNodeId = Arrays.copyOf(stakedNodeId, capacity);
+        stakePeriodStart = Arrays.copyOf(stakePeriodStart, capacity);
+
+        int indexCapacity = indexCapacity(capacity);
+        if (indexCapacity > keys.length) {
+            keys = emptyKeys(indexCapacity);
+            positions = new int[indexCapacity];
+            for (int i = 0; i < count; i++) {
+                int slot = slotOf(ids[i]);
+                keys[slot] = ids[i];
+                positions[slot] = i;
+            }
+        }
+    }
+
+    private boolean hasFlag(int position, byte flag) {
+        return (flags[position] & flag) != 0;
+    }
+
+    private int indexOf(long id) {
+        if (id < 0) {
+            return -1;
+        }
+
+        int slot = slotOf(id);
+        return keys[slot] == id ? positions[slot] : -1;
+    }
+
+    private boolean isEntity(int position) {
+        return position >= 0 && hasFlag(position, ENTITY);
+    }
+
+    private void setFlag(int position, byte flag, boolean value) {
+        flags[position] = (byte) (value ? flags[position] | flag : flags[position] & ~flag);
+    }
+
+    /**
+     * Finds the slot of the id with linear probing, either the slot holding the id or the empty slot to insert it.
+     */
+    private int slotOf(long id) {
+        int mask = keys.length - 1;
+        int slot = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (keys[slot] != id && keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long[] emptyKeys(int capacity) {
+        var keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    private static int indexCapacity(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 1) - 1) << 2;
+    }
+}
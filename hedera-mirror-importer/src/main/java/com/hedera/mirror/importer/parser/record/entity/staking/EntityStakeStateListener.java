@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.addressbook.NodeStake;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
+import com.hedera.mirror.importer.exception.ImporterException;
+import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.util.Utility;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maintains the staking state of accounts and contracts incrementally from the record stream. The state is bootstrapped
+ * once from the entity table and the latest account balance snapshot plus the transfers since, the same sources the
+ * entity stake sql uses, then updated with the changes of each record file after its transaction commits. When a
+ * node stake update is seen, a snapshot of the state as of its consensus timestamp is kept for the
+ * {@link EntityStakeCalculator}.
+ */
+@CustomLog
+@Named
+@Order(2)
+@RequiredArgsConstructor
+public class EntityStakeStateListener implements EntityListener, RecordStreamFileListener {
+
+    // Same as the entity stake sql, the balance is the latest account balance snapshot plus the transfers afterward
+    private static final String ENTITY_STATE_SQL =
+            """
+            with balance_timestamp as (
+              select consensus_timestamp, consensus_timestamp + time_offset as adjusted_consensus_timestamp
+              from account_balance_file
+              order by consensus_timestamp desc
+              limit 1
+            ), balance_snapshot as (
+              select account_id, balance
+              from account_balance ab
+              join balance_timestamp bt on bt.consensus_timestamp = ab.consensus_timestamp
+            ), balance_change as (
+              select entity_id, sum(amount) as change
+              from crypto_transfer_all
+              where consensus_timestamp > coalesce((select adjusted_consensus_timestamp from balance_timestamp), -1)
+              group by entity_id
+            )
+            select
+              id,
+              coalesce(bs.balance, 0) + coalesce(bc.change, 0) as balance,
+              coalesce(decline_reward, false) as decline_reward,
+              coalesce(deleted, false) as deleted,
+              coalesce(staked_account_id, 0) as staked_account_id,
+              coalesce(staked_node_id, -1) as staked_node_id,
+              coalesce(stake_period_start, -1) as stake_period_start
+            from entity
+            left join balance_snapshot bs on bs.account_id = id
+            left join balance_change bc on bc.entity_id = id
+            where type in ('ACCOUNT', 'CONTRACT')
+            """;
+
+    private final EntityProperties entityProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Change> changes = new ArrayList<>();
+
+    private Long nodeStakeTimestamp;
+    private volatile EntityStakeState snapshot;
+    private EntityStakeState state;
+
+    @Override
+    public boolean isEnabled() {
+        var persist = entityProperties.getPersist();
+        return persist.isPendingReward()
+                && persist.isPendingRewardIncremental()
+                && persist.isTrackBalance();
+    }
+
+    /**
+     * Gets the snapshot of the staking state as of the consensus timestamp of a node stake update
+     *
+     * @param timestamp The consensus timestamp of the node stake update
+     * @return The snapshot if it's available
+     */
+    Optional<EntityStakeState> getSnapshot(long timestamp) {
+        var current = snapshot;
+        return current != null && current.getTimestamp() == timestamp ? Optional.of(current) : Optional.empty();
+    }
+
+    @Override
+    public void onCryptoTransfer(CryptoTransfer cryptoTransfer) throws ImporterException {
+        long entityId = cryptoTransfer.getEntityId();
+        long amount = cryptoTransfer.getAmount();
+        addChange(cryptoTransfer.getConsensusTimestamp(), entityId, s -> s.addBalance(entityId, amount));
+    }
+
+    @Override
+    public void onFeeTransfer(FeeTransfer feeTransfer) throws ImporterException {
+        var amounts = feeTransfer.getAmounts();
+        var entityIds = feeTransfer.getEntityIds();
+        for (int i = 0; i < entityIds.size(); i++) {
+            long entityId = entityIds.get(i);
+            long amount = amounts.get(i);
+            addChange(feeTransfer.getConsensusTimestamp(), entityId, s -> s.addBalance(entityId, amount));
+        }
+    }
+
+    @Override
+    public void onEntity(Entity entity) throws ImporterException {
+        // Partial updates without a timestamp, e.g., nonce updates, don't create history and don't change the staking
+        // related fields
+        var timestamp = entity.getTimestampLower();
+        if (timestamp == null) {
+            return;
+        }
+
+        // Copy the staking fields since the entity may be merged with later updates by other listeners
+        var update = Entity.builder()
+                .declineReward(entity.getDeclineReward())
+                .deleted(entity.getDeleted())
+                .id(entity.getId())
+                .stakedAccountId(entity.getStakedAccountId())
+                .stakedNodeId(entity.getStakedNodeId())
+                .stakePeriodStart(entity.getStakePeriodStart())
+                .type(entity.getType())
+                .build();
+        addChange(timestamp, entity.getId(), s -> s.update(update));
+    }
+
+    @Override
+    public void onNodeStake(NodeStake nodeStake) throws ImporterException {
+        nodeStakeTimestamp = nodeStake.getConsensusTimestamp();
+    }
+
+    @Override
+    public void onStakingRewardTransfer(StakingRewardTransfer stakingRewardTransfer) {
+        // Same as the sql entity listener, the reward payout resets the stake period start to the day before
+        long accountId = stakingRewardTransfer.getAccountId();
+        long timestamp = stakingRewardTransfer.getConsensusTimestamp();
+        long stakePeriodStart = Utility.getEpochDay(timestamp) - 1;
+        addChange(timestamp, accountId, s -> s.updateStakePeriodStart(accountId, stakePeriodStart));
+    }
+
+    @Override
+    public void onStart() throws ImporterException {
+        cleanup();
+
+        if (state == null && isEnabled()) {
+            state = load();
+        }
+    }
+
+    @Override
+    public void onEnd(RecordFile recordFile) throws ImporterException {
+        try {
+            if (!isEnabled() || state == null || recordFile == null) {
+                return;
+            }
+
+            var pending = new ArrayList<>(changes);
+            var splitTimestamp = nodeStakeTimestamp;
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        apply(pending, splitTimestamp);
+                    }
+
+                    @Override
+                    public int getOrder() {
+                        // Take the snapshot before the node stake updated event triggers the calculation
+                        return Ordered.HIGHEST_PRECEDENCE;
+                    }
+                });
+            } else {
+                apply(pending, splitTimestamp);
+            }
+        } finally {
+            cleanup();
+        }
+    }
+
+    @Override
+    public void onError() {
+        cleanup();
+    }
+
+    private void addChange(long timestamp, long entityId, Consumer<EntityStakeState> action) {
+        if (!isEnabled() || state == null || entityId == EntityId.EMPTY.getId()) {
+            return;
+        }
+
+        changes.add(new Change(timestamp, action));
+    }
+
+    private void apply(List<Change> pending, Long splitTimestamp) {
+        if (splitTimestamp == null) {
+            pending.forEach(c -> c.action().accept(state));
+            return;
+        }
+
+        // Changes at the node stake update's consensus timestamp, e.g., its transaction fee, belong to the snapshot
+        pending.stream().filter(c -> c.timestamp() <= splitTimestamp).forEach(c -> c.action().accept(state));
+        var stopwatch = Stopwatch.createStarted();
+        snapshot = state.copy(splitTimestamp);
+        log.info("Took snapshot of entity stake state at {} in {}", splitTimestamp, stopwatch);
+        pending.stream().filter(c -> c.timestamp() > splitTimestamp).forEach(c -> c.action().accept(state));
+    }
+
+    private void cleanup() {
+        changes.clear();
+        nodeStakeTimestamp = null;
+    }
+
+    /**
+     * Discards the state so that it's loaded from the database again on the next record file
+     */
+    void reset() {
+        snapshot = null;
+        state = null;
+        cleanup();
+    }
+
+    private EntityStakeState load() {
+        var stopwatch = Stopwatch.createStarted();
+        var loaded = new EntityStakeState();
+        jdbcTemplate.query(ENTITY_STATE_SQL, rs -> {
+            loaded.load(
+                    rs.getLong("id"),
+                    rs.getLong("balance"),
+                    rs.getBoolean("decline_reward"),
+                    rs.getBoolean("deleted"),
+                    rs.getLong("staked_account_id"),
+                    rs.getInt("staked_node_id"),
+                    rs.getInt("stake_period_start"));
+        });
+        log.info("Loaded entity stake state of {} entities in {}", loaded.size(), stopwatch);
+        return loaded;
+    }
+
+    private record Change(long timestamp, Consumer<EntityStakeState> action) {}
+}
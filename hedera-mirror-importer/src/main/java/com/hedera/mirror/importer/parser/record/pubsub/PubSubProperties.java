@@ -16,8 +16,12 @@
 
 package com.hedera.mirror.importer.parser.record.pubsub;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -31,5 +35,15 @@ public class PubSubProperties {
     @NotBlank
     private String topicName;
 
+    @Min(1)
+    private int maxInFlight = 10_000;
+
     private int maxSendAttempts = 5;
+
+    // Requires spring.cloud.gcp.pubsub.publisher.enable-message-ordering to also be enabled
+    private boolean orderingKeys = false;
+
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration publishTimeout = Duration.ofMinutes(2);
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.CustomLog;
+
+/**
+ * Publishes the messages of a record file asynchronously, leaving the batching to the publisher's batching settings,
+ * and tracks their acknowledgements so the record file is only marked as processed once all of its messages are
+ * published. The number of unacknowledged messages is bounded to apply backpressure on the parser.
+ */
+@CustomLog
+@Named
+@ConditionalOnPubSubRecordParser
+public class PubSubPublisher {
+
+    private final Semaphore inFlight;
+    private final List<CompletableFuture<String>> pending;
+    private final PubSubProperties pubSubProperties;
+    private final PubSubTemplate pubSubTemplate;
+
+    public PubSubPublisher(PubSubProperties pubSubProperties, PubSubTemplate pubSubTemplate) {
+        this.inFlight = new Semaphore(pubSubProperties.getMaxInFlight());
+        this.pending = new ArrayList<>();
+        this.pubSubProperties = pubSubProperties;
+        this.pubSubTemplate = pubSubTemplate;
+    }
+
+    /**
+     * Waits until all the messages published since the last reset are acknowledged.
+     *
+     * @throws ParserException if a message fails to publish after all attempts or isn't acknowledged in time
+     */
+    public void awaitPublished() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        int count = pending.size();
+
+        try {
+            // Send the last partial batch without waiting for the publisher's delay threshold
+            getPublisher().publishAllOutstanding();
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                    .get(pubSubProperties.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            log.debug("Published {} messages in {}", count, stopwatch);
+        } catch (ExecutionException e) {
+            throw new ParserException("Error sending transaction to pubsub", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ParserException("Timed out waiting for " + count + " messages to be published to pubsub", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted waiting for messages to be published to pubsub", e);
+        } finally {
+            pending.clear();
+        }
+    }
+
+    /**
+     * Publishes the message asynchronously, blocking while too many messages are unacknowledged.
+     *
+     * @param message The message to publish
+     * @param headers The message attributes
+     */
+    public void publish(PubSubMessage message, Map<String, String> headers) {
+        var entityId = message.getEntity();
+        if (pubSubProperties.isOrderingKeys() && !EntityId.isEmpty(entityId)) {
+            headers = new HashMap<>(headers);
+            headers.put(GcpPubSubHeaders.ORDERING_KEY, entityId.toString());
+        }
+
+        acquire();
+
+        var result = new CompletableFuture<String>();
+        result.whenComplete((r, e) -> inFlight.release());
+        pending.add(result);
+
+        try {
+            send(message, headers, result, 0);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Forgets the messages published since the last reset. Messages already in flight still count against the
+     * in-flight limit until they complete.
+     */
+    public void reset() {
+        pending.clear();
+    }
+
+    private void acquire() {
+        try {
+            if (!inFlight.tryAcquire(pubSubProperties.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ParserException("Timed out waiting to publish to pubsub with "
+                        + pubSubProperties.getMaxInFlight() + " messages in flight");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted waiting to publish to pubsub", e);
+        }
+    }
+
+    private Publisher getPublisher() {
+        return pubSubTemplate
+                .getPubSubPublisherTemplate()
+                .getPublisherFactory()
+                .createPublisher(pubSubProperties.getTopicName());
+    }
+
+    private void send(PubSubMessage message, Map<String, String> headers, CompletableFuture<String> result, int retry) {
+        pubSubTemplate
+                .publish(pubSubProperties.getTopicName(), message, headers)
+                .whenComplete((messageId, ex) -> {
+                    if (ex == null) {
+                        log.debug("Published transaction : {}", message.getConsensusTimestamp());
+                        result.complete(messageId);
+                        return;
+                    }
+
+                    // A failed publish pauses its ordering key and rejects all its later messages until it's resumed
+                    var orderingKey = headers.get(GcpPubSubHeaders.ORDERING_KEY);
+                    if (orderingKey != null) {
+                        getPublisher().resumePublish(orderingKey);
+                    }
+
+                    if (retry + 1 > pubSubProperties.getMaxSendAttempts()) {
+                        log.error("Failed to send message to PubSub after {} attempts: {}", retry, ex);
+                        result.completeExceptionally(ex);
+                    } else {
+                        log.warn("Attempt {} to send message to PubSub failed: {}", retry + 1, ex);
+                        try {
+                            send(message, headers, result, retry + 1);
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+    }
+}
@@ -18,7 +18,6 @@ package com.hedera.mirror.importer.parser.record.pubsub;
 
 import static com.hedera.mirror.importer.util.Utility.RECOVERABLE_ERROR;
 
-import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.file.FileData;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -39,7 +38,6 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 
@@ -49,8 +47,7 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordItemListener implements RecordItemListener {
 
-    private final PubSubProperties pubSubProperties;
-    private final PubSubTemplate pubSubTemplate;
+    private final PubSubPublisher pubSubPublisher;
     private final AddressBookService addressBookService;
     private final TransactionHandlerFactory transactionHandlerFactory;
 
@@ -78,7 +75,7 @@ public class PubSubRecordItemListener implements RecordItemListener {
         Map<String, String> header = Map.of(
                 "consensusTimestamp", pubSubMessage.getConsensusTimestamp().toString());
         try {
-            sendPubSubMessage(pubSubMessage, header, 0);
+            pubSubPublisher.publish(pubSubMessage, header);
         } catch (Exception e) {
             // This will make RecordFileParser to retry whole file, thus sending duplicates of previous transactions
             // in this file. In needed in future, this can be optimized to resend only the txns with consensusTimestamp
@@ -107,11 +104,6 @@ public class PubSubRecordItemListener implements RecordItemListener {
         }
     }
 
-    private void sendPubSubMessage(PubSubMessage message, Map<String, String> header, int retryCount) {
-        var publishResult = pubSubTemplate.publish(pubSubProperties.getTopicName(), message, header);
-        setPublishCallback(publishResult, message, header, retryCount);
-    }
-
     private PubSubMessage buildPubSubMessage(long consensusTimestamp, EntityId entity, RecordItem recordItem) {
         var nonFeeTransfers = addNonFeeTransfers(recordItem.getTransactionBody());
         return new PubSubMessage(
@@ -133,24 +125,4 @@ public class PubSubRecordItemListener implements RecordItemListener {
         }
         return nonFeeTransfers;
     }
-
-    private void setPublishCallback(
-            CompletableFuture<String> publishResult,
-            PubSubMessage message,
-            Map<String, String> header,
-            int retryCount) {
-        int retry = retryCount + 1;
-        publishResult.whenComplete((result, ex) -> {
-            if (ex != null) {
-                if (retry > pubSubProperties.getMaxSendAttempts()) {
-                    log.error("Failed to send message to PubSub after {} attempts: {}", retry - 1, ex);
-                } else {
-                    log.warn("Attempt {} to send message to PubSub failed: {}", retry, ex);
-                    sendPubSubMessage(message, header, retry);
-                }
-            } else {
-                log.debug("Published transaction : {}", message.getConsensusTimestamp());
-            }
-        });
-    }
 }
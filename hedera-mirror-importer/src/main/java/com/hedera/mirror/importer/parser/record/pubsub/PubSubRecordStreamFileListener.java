@@ -29,16 +29,20 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordStreamFileListener implements RecordStreamFileListener {
 
+    private final PubSubPublisher pubSubPublisher;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
 
     @Override
     public void onStart() throws ImporterException {
-        // Do nothing
+        pubSubPublisher.reset();
     }
 
     @Override
     public void onEnd(RecordFile recordFile) throws ImporterException {
+        // Only mark the record file as processed once all of its transactions are published
+        pubSubPublisher.awaitPublished();
+
         if (recordFile != null) {
             recordFileRepository.save(recordFile);
             sidecarFileRepository.saveAll(recordFile.getSidecars());
@@ -47,6 +51,6 @@ public class PubSubRecordStreamFileListener implements RecordStreamFileListener
 
     @Override
     public void onError() {
-        // Do nothing
+        pubSubPublisher.reset();
     }
 }
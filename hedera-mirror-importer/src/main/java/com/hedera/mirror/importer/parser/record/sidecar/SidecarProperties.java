@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.parser.record.sidecar;
 
 import com.hedera.services.stream.proto.SidecarType;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.Collections;
 import java.util.Set;
@@ -27,6 +28,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties("hedera.mirror.importer.parser.record.sidecar")
 public class SidecarProperties {
 
+    @Min(1)
+    private int concurrency = 4;
+
     private boolean enabled = false;
 
     private boolean persistBytes = false;
@@ -34,6 +34,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -53,12 +54,16 @@ public class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    // The only supported algorithm, so the file hash can be computed while the file is decompressed and parsed
+    private static final DigestAlgorithm FILE_HASH_ALGORITHM = DigestAlgorithm.SHA_384;
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = Instant.now().getEpochSecond();
+        var fileDigest = createMessageDigest(FILE_HASH_ALGORITHM);
 
-        try (var inputStream = streamFileData.getInputStream()) {
+        try (var inputStream = new DigestInputStream(streamFileData.getInputStream(), fileDigest)) {
             var recordStreamFile = readRecordStreamFile(filename, inputStream);
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
@@ -87,7 +92,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(digestAlgorithm, streamFileData.getDecompressedBytes()))
+                    .fileHash(getFileHash(digestAlgorithm, fileDigest, streamFileData))
                     .hapiVersionMajor(hapiProtoVersion.getMajor())
                     .hapiVersionMinor(hapiProtoVersion.getMinor())
                     .hapiVersionPatch(hapiProtoVersion.getPatch())
@@ -136,9 +141,13 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(DigestAlgorithm algorithm, byte[] fileData) {
+    private String getFileHash(DigestAlgorithm algorithm, MessageDigest fileDigest, StreamFileData streamFileData) {
+        if (algorithm == FILE_HASH_ALGORITHM) {
+            return DomainUtils.bytesToHex(fileDigest.digest());
+        }
+
         var messageDigest = createMessageDigest(algorithm);
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
+        return DomainUtils.bytesToHex(messageDigest.digest(streamFileData.getDecompressedBytes()));
     }
 
     private String getMetadataHash(DigestAlgorithm algorithm, RecordStreamFile recordStreamFile) throws IOException {
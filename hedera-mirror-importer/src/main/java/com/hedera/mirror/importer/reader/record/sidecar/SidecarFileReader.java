@@ -18,8 +18,21 @@ package com.hedera.mirror.importer.reader.record.sidecar;
 
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import java.util.function.Consumer;
 
 public interface SidecarFileReader {
 
     void read(SidecarFile sidecarFile, StreamFileData streamFileData);
+
+    /**
+     * Reads the sidecar file and passes each transaction sidecar record to the consumer as soon as it's decoded instead
+     * of collecting them in the sidecar file. The actual hash is computed incrementally while decoding and is only
+     * available after all records have been consumed.
+     *
+     * @param sidecarFile    the sidecar file to populate
+     * @param streamFileData the sidecar file data
+     * @param consumer       the consumer of the decoded transaction sidecar records
+     */
+    void read(SidecarFile sidecarFile, StreamFileData streamFileData, Consumer<TransactionSidecarRecord> consumer);
 }
@@ -16,27 +16,59 @@
 
 package com.hedera.mirror.importer.reader.record.sidecar;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import jakarta.inject.Named;
+import java.io.OutputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.function.Consumer;
 
 @Named
 public class SidecarFileReaderImpl implements SidecarFileReader {
 
+    private static final int SIDECAR_RECORDS_TAG =
+            com.hedera.services.stream.proto.SidecarFile.SIDECAR_RECORDS_FIELD_NUMBER << 3
+                    | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
     @Override
     public void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
+        var records = new ArrayList<TransactionSidecarRecord>();
+        read(sidecarFile, streamFileData, records::add);
+        sidecarFile.setRecords(records);
+    }
+
+    @Override
+    public void read(
+            SidecarFile sidecarFile, StreamFileData streamFileData, Consumer<TransactionSidecarRecord> consumer) {
         try (var digestInputStream = new DigestInputStream(
                 streamFileData.getInputStream(),
                 MessageDigest.getInstance(sidecarFile.getHashAlgorithm().getName()))) {
-            var protoSidecarFile = com.hedera.services.stream.proto.SidecarFile.parseFrom(digestInputStream);
+            // Decode the repeated sidecar_records field one message at a time so the records are never all held
+            var input = CodedInputStream.newInstance(digestInputStream);
+            var registry = ExtensionRegistryLite.getEmptyRegistry();
+            int count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == SIDECAR_RECORDS_TAG) {
+                    consumer.accept(input.readMessage(TransactionSidecarRecord.parser(), registry));
+                    count++;
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+
+            digestInputStream.transferTo(OutputStream.nullOutputStream());
             var bytes = streamFileData.getBytes();
             sidecarFile.setActualHash(digestInputStream.getMessageDigest().digest());
             sidecarFile.setBytes(bytes);
-            sidecarFile.setCount(protoSidecarFile.getSidecarRecordsCount());
-            sidecarFile.setRecords(protoSidecarFile.getSidecarRecordsList());
+            sidecarFile.setCount(count);
             sidecarFile.setSize(bytes.length);
         } catch (InvalidStreamFileException e) {
             throw e;
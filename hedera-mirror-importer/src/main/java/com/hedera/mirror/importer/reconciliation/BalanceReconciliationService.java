@@ -68,7 +68,7 @@ class BalanceReconciliationService {
 
     private static final String CRYPTO_TRANSFER_QUERY =
             """
-            select entity_id, sum(amount) balance from crypto_transfer
+            select entity_id, sum(amount) balance from crypto_transfer_all
             where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE')
             group by entity_id""";
 
@@ -88,19 +88,23 @@ class BalanceReconciliationService {
     private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
+    private final StreamingBalanceReconciler streamingBalanceReconciler;
 
+    @SuppressWarnings("java:S107")
     BalanceReconciliationService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
             RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
-            ReconciliationJobRepository reconciliationJobRepository) {
+            ReconciliationJobRepository reconciliationJobRepository,
+            StreamingBalanceReconciler streamingBalanceReconciler) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
         this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
         this.reconciliationJobRepository = reconciliationJobRepository;
+        this.streamingBalanceReconciler = streamingBalanceReconciler;
         this.status = meterRegistry.gauge(
                 METRIC, new AtomicReference<>(UNKNOWN), s -> s.get().ordinal());
     }
@@ -114,6 +118,7 @@ class BalanceReconciliationService {
 
         var stopwatch = Stopwatch.createStarted();
         var reconciliationJob = getLatestJob();
+        streamingBalanceReconciler.reset();
 
         try {
             log.info(
@@ -174,6 +179,7 @@ class BalanceReconciliationService {
                     stopwatch,
                     e.getMessage());
         } finally {
+            streamingBalanceReconciler.reset();
             reconciliationJob.setTimestampEnd(Instant.now());
             reconciliationJobRepository.save(reconciliationJob);
             status.set(reconciliationJob.getStatus());
@@ -201,7 +207,9 @@ class BalanceReconciliationService {
     }
 
     private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
-        reconcileCryptoTransfers(previous, current);
+        long balances = isStreaming()
+                ? reconcileCryptoTransfersStreaming(previous, current)
+                : reconcileCryptoTransfers(previous, current);
         reconcileTokenTransfers(previous, current);
 
         long elapsed = System.currentTimeMillis() - current.getStartTime();
@@ -209,7 +217,7 @@ class BalanceReconciliationService {
         log.info(
                 "Reconciled balance file {} with {} balances and {} token balances in {} ms",
                 name,
-                current.getBalances().size(),
+                balances,
                 current.getTokenBalances().size(),
                 elapsed);
 
@@ -218,7 +226,7 @@ class BalanceReconciliationService {
         }
     }
 
-    private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
+    private long reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
         var transfersBalance = previous.getBalances();
 
         jdbcOperations.query(
@@ -232,6 +240,24 @@ class BalanceReconciliationService {
                 current.getTimestamp());
 
         reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
+        return current.getBalances().size();
+    }
+
+    private long reconcileCryptoTransfersStreaming(BalanceSnapshot previous, BalanceSnapshot current) {
+        var result = streamingBalanceReconciler.reconcile(
+                previous.getAccountBalanceFile(), current.getAccountBalanceFile());
+
+        if (result.previousTotal() != null) {
+            checkTotal(previous.getAccountBalanceFile(), result.previousTotal());
+        }
+
+        checkTotal(current.getAccountBalanceFile(), result.currentTotal());
+
+        if (!result.mismatches().isEmpty()) {
+            onFailure(FAILURE_CRYPTO_TRANSFERS, previous, current, result.mismatches());
+        }
+
+        return result.accounts();
     }
 
     private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
@@ -265,21 +291,25 @@ class BalanceReconciliationService {
         var currentBalances = mapper.apply(current);
 
         if (!equals(transfersBalance, currentBalances)) {
-            long fromTimestamp = previous.getTimestamp();
-            long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
-
-            if (reconciliationProperties.getRemediationStrategy() == FAIL) {
-                throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
-            }
+            onFailure(failureStatus, previous, current, Maps.difference(transfersBalance, currentBalances));
+        }
+    }
 
-            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
-            log.warn(error);
+    private void onFailure(
+            ReconciliationStatus failureStatus, BalanceSnapshot previous, BalanceSnapshot current, Object difference) {
+        long fromTimestamp = previous.getTimestamp();
+        long toTimestamp = current.getTimestamp();
 
-            var reconciliationJob = previous.getReconciliationJob();
-            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
-            reconciliationJob.setStatus(failureStatus);
+        if (reconciliationProperties.getRemediationStrategy() == FAIL) {
+            throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
         }
+
+        var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
+        log.warn(error);
+
+        var reconciliationJob = previous.getReconciliationJob();
+        reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
+        reconciliationJob.setStatus(failureStatus);
     }
 
     private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
@@ -312,7 +342,9 @@ class BalanceReconciliationService {
                 .findNextInRange(fromTimestamp, toTimestamp)
                 .map(accountBalanceFile -> {
                     var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
+                    // The streaming reconciliation queries the balances by account id range instead
+                    var balances =
+                            isStreaming() ? Collections.<Long, Long>emptyMap() : getAccountBalances(accountBalanceFile);
                     var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
                     var tokenBalances = getTokenBalances(accountBalanceFile);
                     return new BalanceSnapshot(
@@ -335,12 +367,19 @@ class BalanceReconciliationService {
                 },
                 consensusTimestamp);
 
-        if (total.get() != FIFTY_BILLION_HBARS) {
+        checkTotal(accountBalanceFile, total.get());
+        return balances;
+    }
+
+    private void checkTotal(AccountBalanceFile accountBalanceFile, long total) {
+        if (total != FIFTY_BILLION_HBARS) {
             String name = accountBalanceFile.getName();
-            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.get());
+            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total);
         }
+    }
 
-        return balances;
+    private boolean isStreaming() {
+        return reconciliationProperties.getStreaming().isEnabled();
     }
 
     private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.reconciliation;
 
 import com.hedera.mirror.importer.util.Utility;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -47,6 +48,9 @@ class ReconciliationProperties {
     @NotNull
     private Instant startDate = Instant.EPOCH;
 
+    @NotNull
+    private StreamingProperties streaming = new StreamingProperties();
+
     // We can't rely upon the NFT count in the balance file and there's not an easy way to just reconcile fungible
     private boolean token = false;
 
@@ -59,6 +63,21 @@ class ReconciliationProperties {
         this.startDate = startDate;
     }
 
+    @Data
+    static class StreamingProperties {
+
+        // Keep the balances of the last balance file in memory so the next pass only queries the transfer delta
+        private boolean checkpoint = false;
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int parallelism = 4;
+
+        @Min(1)
+        private long rangeSize = 1_000_000L;
+    }
+
     public enum RemediationStrategy {
         ACCUMULATE, // Continue processing after transfer failures without resetting balances for the next iteration
         FAIL, // Halt processing on any reconciliation failure
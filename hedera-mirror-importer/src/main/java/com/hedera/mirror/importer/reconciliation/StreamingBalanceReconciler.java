@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.METRIC;
+import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.ACCUMULATE;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.springframework.jdbc.core.JdbcOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reconciles the crypto transfers between two balance files by streaming both balance snapshots and the transfer sums
+ * in account id order and merge joining them in primitive arrays one account id range at a time. The ranges are
+ * reconciled concurrently and only a bounded number of ranges are held in memory unless checkpointing is enabled, in
+ * which case the balances of the last balance file are kept so the next pass only has to query the transfer delta and
+ * the next balance file.
+ */
+@CustomLog
+@Named
+class StreamingBalanceReconciler {
+
+    private static final String BALANCE_QUERY =
+            """
+            select account_id, balance from account_balance
+            where consensus_timestamp = ? and account_id >= ? and account_id < ?
+            order by account_id""";
+
+    private static final String CRYPTO_TRANSFER_QUERY =
+            """
+            select entity_id, sum(amount) balance from crypto_transfer_all
+            where consensus_timestamp > ? and consensus_timestamp <= ? and entity_id >= ? and entity_id < ?
+              and (errata is null or errata <> 'DELETE')
+            group by entity_id
+            order by entity_id""";
+
+    private static final String NEXT_ACCOUNT_QUERY =
+            """
+            select least(
+              (select min(account_id) from account_balance where consensus_timestamp = ? and account_id >= ?),
+              (select min(account_id) from account_balance where consensus_timestamp = ? and account_id >= ?),
+              (select min(entity_id) from crypto_transfer_all
+               where consensus_timestamp > ? and consensus_timestamp <= ? and entity_id >= ?)
+            )""";
+
+    private static final int MAX_MISMATCHES = 100;
+
+    private final Counter accountsCounter;
+    private final JdbcOperations jdbcOperations;
+    private final AtomicLong memory = new AtomicLong(0L);
+    private final AtomicLong peakMemory = new AtomicLong(0L);
+    private final ReconciliationProperties reconciliationProperties;
+    private Map<Long, BalanceRange> checkpoint = Collections.emptyMap();
+
+    StreamingBalanceReconciler(
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry,
+            ReconciliationProperties reconciliationProperties) {
+        this.jdbcOperations = jdbcOperations;
+        this.reconciliationProperties = reconciliationProperties;
+        accountsCounter = Counter.builder(METRIC + ".accounts")
+                .description("The number of account balances reconciled")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".memory", peakMemory, AtomicLong::get)
+                .description("The peak memory used by the balances of the last streaming reconciliation")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clears the balances kept from the previous pass
+     */
+    synchronized void reset() {
+        checkpoint.values().forEach(this::release);
+        checkpoint = Collections.emptyMap();
+    }
+
+    synchronized Result reconcile(AccountBalanceFile previous, AccountBalanceFile current) {
+        var stopwatch = Stopwatch.createStarted();
+        var properties = reconciliationProperties.getStreaming();
+        long fromTimestamp = previous.getConsensusTimestamp() + previous.getTimeOffset();
+        long toTimestamp = current.getConsensusTimestamp() + current.getTimeOffset();
+        long rangeSize = properties.getRangeSize();
+        var ranges = getRanges(previous, current, fromTimestamp, toTimestamp, rangeSize);
+        boolean retain = properties.isCheckpoint() || reconciliationProperties.getRemediationStrategy() == ACCUMULATE;
+        boolean previousFromDatabase = checkpoint.isEmpty();
+        var nextCheckpoint = new ConcurrentHashMap<Long, BalanceRange>();
+        peakMemory.set(memory.get());
+
+        var results = Flux.fromIterable(ranges)
+                .flatMap(
+                        index -> Mono.fromCallable(() -> {
+                                    long lowerBound = index * rangeSize;
+                                    long upperBound = lowerBound + Math.min(rangeSize, Long.MAX_VALUE - lowerBound);
+                                    var previousBalances = checkpoint.get(index);
+                                    var previousLoaded = previousBalances == null;
+                                    if (previousLoaded) {
+                                        previousBalances =
+                                                load(previous.getConsensusTimestamp(), lowerBound, upperBound);
+                                    }
+
+                                    var transfers = query(
+                                            CRYPTO_TRANSFER_QUERY,
+                                            fromTimestamp,
+                                            toTimestamp,
+                                            lowerBound,
+                                            upperBound);
+                                    var expected = previousBalances.add(transfers);
+                                    allocate(expected);
+                                    var currentBalances = load(current.getConsensusTimestamp(), lowerBound, upperBound);
+                                    var mismatches = expected.difference(currentBalances, MAX_MISMATCHES);
+                                    var rangeResult = new Result(
+                                            mismatches,
+                                            currentBalances.size,
+                                            previousLoaded ? previousBalances.total() : 0L,
+                                            currentBalances.total());
+
+                                    // Accumulate continues from the expected balances instead of the actual ones
+                                    var next = reconciliationProperties.getRemediationStrategy() == ACCUMULATE
+                                            ? expected
+                                            : currentBalances;
+                                    if (retain) {
+                                        nextCheckpoint.put(index, next);
+                                    } else {
+                                        release(next);
+                                    }
+
+                                    release(previousBalances);
+                                    release(transfers);
+                                    release(next == expected ? currentBalances : expected);
+                                    return rangeResult;
+                                })
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        properties.getParallelism())
+                .collectList()
+                .block();
+
+        checkpoint = nextCheckpoint;
+        var result = Result.merge(results, previousFromDatabase);
+        accountsCounter.increment(result.accounts());
+
+        long elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        long rate = elapsed > 0 ? result.accounts() * 1000L / elapsed : 0L;
+        log.info(
+                "Streamed {} account balances in {} ranges in {} at {}/s with peak memory of {} bytes",
+                result.accounts(),
+                ranges.size(),
+                stopwatch,
+                rate,
+                peakMemory.get());
+        return result;
+    }
+
+    /**
+     * Finds the indexes of the account id ranges with any balance or transfer by seeking to the next account id after
+     * each range, so ids with a non-zero shard or realm don't turn into a huge number of empty ranges. The ranges kept
+     * from the previous pass are always included.
+     */
+    private SortedSet<Long> getRanges(
+            AccountBalanceFile previous, AccountBalanceFile current, long fromTimestamp, long toTimestamp, long size) {
+        var ranges = new TreeSet<>(checkpoint.keySet());
+        long lowerBound = 0L;
+
+        while (true) {
+            var accountId = jdbcOperations.queryForObject(
+                    NEXT_ACCOUNT_QUERY,
+                    Long.class,
+                    previous.getConsensusTimestamp(),
+                    lowerBound,
+                    current.getConsensusTimestamp(),
+                    lowerBound,
+                    fromTimestamp,
+                    toTimestamp,
+                    lowerBound);
+            if (accountId == null) {
+                return ranges;
+            }
+
+            long index = accountId / size;
+            ranges.add(index);
+
+            if (index >= Long.MAX_VALUE / size - 1) {
+                return ranges;
+            }
+
+            lowerBound = (index + 1) * size;
+        }
+    }
+
+    private BalanceRange load(long consensusTimestamp, long lowerBound, long upperBound) {
+        return query(BALANCE_QUERY, consensusTimestamp, lowerBound, upperBound);
+    }
+
+    private BalanceRange query(String sql, Object... arguments) {
+        var range = new BalanceRange();
+        jdbcOperations.query(sql, rs -> range.add(rs.getLong(1), rs.getLong(2)), arguments);
+        allocate(range);
+        return range;
+    }
+
+    private void allocate(BalanceRange range) {
+        long used = memory.addAndGet(range.bytes());
+        peakMemory.accumulateAndGet(used, Math::max);
+    }
+
+    private void release(BalanceRange range) {
+        memory.addAndGet(-range.bytes());
+    }
+
+    /**
+     * The result of the reconciliation of a pair of balance files.
+     *
+     * @param mismatches    The accounts whose expected balance differs from the actual balance in the form of
+     *                      account=(expected, actual)
+     * @param accounts      The number of accounts in the current balance file
+     * @param previousTotal The total balance of the previous balance file, or null if it was not queried
+     * @param currentTotal  The total balance of the current balance file
+     */
+    record Result(List<String> mismatches, long accounts, Long previousTotal, long currentTotal) {
+
+        private static Result merge(List<Result> results, boolean previousFromDatabase) {
+            var mismatches = new ArrayList<String>();
+            long accounts = 0L;
+            long previousTotal = 0L;
+            long currentTotal = 0L;
+
+            for (var result : results) {
+                if (mismatches.size() < MAX_MISMATCHES) {
+                    int limit = Math.min(result.mismatches().size(), MAX_MISMATCHES - mismatches.size());
+                    mismatches.addAll(result.mismatches().subList(0, limit));
+                }
+
+                accounts += result.accounts();
+                previousTotal += result.previousTotal();
+                currentTotal += result.currentTotal();
+            }
+
+            return new Result(mismatches, accounts, previousFromDatabase ? previousTotal : null, currentTotal);
+        }
+    }
+
+    /**
+     * The balances of an account id range sorted by account id
+     */
+    private static final class BalanceRange {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] accountIds = new long[INITIAL_CAPACITY];
+        private long[] balances = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(long accountId, long balance) {
+            if (size == accountIds.length) {
+                int capacity = size + (size >> 1);
+                accountIds = Arrays.copyOf(accountIds, capacity);
+                balances = Arrays.copyOf(balances, capacity);
+            }
+
+            accountIds[size] = accountId;
+            balances[size] = balance;
+            size++;
+        }
+
+        /**
+         * Merge joins the two ranges, summing the balances of the same account
+         */
+        private BalanceRange add(BalanceRange other) {
+            var sum = new BalanceRange();
+            int i = 0;
+            int j = 0;
+
+            while (i < size || j < other.size) {
+                long accountId = Math.min(
+                        i < size ? accountIds[i] : Long.MAX_VALUE,
+                        j < other.size ? other.accountIds[j] : Long.MAX_VALUE);
+                long balance = 0L;
+
+                if (i < size && accountIds[i] == accountId) {
+                    balance = balances[i++];
+                }
+
+                if (j < other.size && other.accountIds[j] == accountId) {
+                    balance = Math.addExact(balance, other.balances[j++]);
+                }
+
+                sum.add(accountId, balance);
+            }
+
+            return sum;
+        }
+
+        private long bytes() {
+            return 2L * Long.BYTES * accountIds.length;
+        }
+
+        /**
+         * Merge joins the expected and actual ranges and returns the accounts with different balances. An account
+         * missing from either side has a balance of zero.
+         */
+        private List<String> difference(BalanceRange actual, int limit) {
+            var mismatches = new ArrayList<String>();
+            int i = 0;
+            int j = 0;
+
+            while ((i < size || j < actual.size) && mismatches.size() < limit) {
+                long accountId = Math.min(
+                        i < size ? accountIds[i] : Long.MAX_VALUE,
+                        j < actual.size ? actual.accountIds[j] : Long.MAX_VALUE);
+                long expectedBalance = i < size && accountIds[i] == accountId ? balances[i++] : 0L;
+                long actualBalance = j < actual.size && actual.accountIds[j] == accountId ? actual.balances[j++] : 0L;
+
+                if (expectedBalance != actualBalance) {
+                    mismatches.add(String.format("%d=(%d, %d)", accountId, expectedBalance, actualBalance));
+                }
+            }
+
+            return mismatches;
+        }
+
+        private long total() {
+            long total = 0L;
+            for (int i = 0; i < size; i++) {
+                total += balances[i];
+            }
+            return total;
+        }
+    }
+}
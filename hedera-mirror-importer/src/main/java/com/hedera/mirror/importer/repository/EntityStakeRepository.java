@@ -105,7 +105,7 @@ public interface EntityStakeRepository extends CrudRepository<EntityStake, Long>
         left join balance_snapshot on account_id = id
         left join (
           select entity_id, sum(amount) as change
-          from crypto_transfer ct, balance_timestamp bt, end_period ep
+          from crypto_transfer_all ct, balance_timestamp bt, end_period ep
           where ct.consensus_timestamp <= ep.consensus_timestamp
             and ct.consensus_timestamp > bt.adjusted_consensus_timestamp
           group by entity_id
@@ -122,9 +122,64 @@ public interface EntityStakeRepository extends CrudRepository<EntityStake, Long>
     @Transactional
     void createEntityStateStart();
 
+    /**
+     * Creates the empty entity_state_start temp table to be populated with the entity state maintained incrementally
+     * from the record stream.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+        create temp table entity_state_start (
+          balance            bigint not null,
+          decline_reward     boolean not null,
+          id                 bigint not null,
+          staked_account_id  bigint not null,
+          staked_node_id     bigint not null,
+          stake_period_start bigint not null
+        ) on commit drop;
+
+        create index if not exists entity_state_start__id on entity_state_start (id);
+        create index if not exists entity_state_start__staked_account_id
+          on entity_state_start (staked_account_id) where staked_account_id <> 0;
+        """,
+            nativeQuery = true)
+    @Transactional
+    void createEntityStateStartTable();
+
     @Query(value = "select endStakePeriod from EntityStake where id = 800")
     Optional<Long> getEndStakePeriod();
 
+    /**
+     * Gets the consensus timestamp of the node stake update which ends the next staking period to calculate.
+     */
+    @Query(
+            value =
+                    """
+            select consensus_timestamp
+            from node_stake
+            where epoch_day >= coalesce(
+              (select end_stake_period + 1 from entity_stake where id = 800),
+              (
+                select epoch_day
+                from node_stake
+                where consensus_timestamp > (
+                  select lower(timestamp_range) as timestamp from entity where id = 800
+                  union all
+                  select lower(timestamp_range) as timestamp from entity_history where id = 800
+                  order by timestamp
+                  limit 1
+                )
+                order by consensus_timestamp
+                limit 1
+              )
+            )
+            order by epoch_day
+            limit 1
+            """,
+            nativeQuery = true)
+    Optional<Long> getEndPeriodTimestamp();
+
     @Modifying
     @Query(value = "lock table entity_stake in share row exclusive mode nowait", nativeQuery = true)
     @Transactional
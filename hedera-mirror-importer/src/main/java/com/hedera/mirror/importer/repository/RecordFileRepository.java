@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.repository;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -41,10 +42,10 @@ public interface RecordFileRepository extends StreamFileRepository<RecordFile, L
     Optional<RecordFile> findLatestBefore(long offset);
 
     @Query(
-            value = "select * from record_file where consensus_end < ?1 and gas_used = -1 order by consensus_end desc "
-                    + "limit 1",
+            value = "select * from record_file where consensus_end > ?1 and consensus_end <= ?2 and gas_used = -1 "
+                    + "order by consensus_end asc",
             nativeQuery = true)
-    Optional<RecordFile> findLatestMissingGasUsedBefore(long consensusTimestamp);
+    List<RecordFile> findMissingGasUsedBetween(long minTimestampExclusive, long maxTimestampInclusive);
 
     @Query(
             value = "select * from record_file where consensus_end > ?1 and consensus_end <= ?2 "
@@ -52,6 +53,25 @@ public interface RecordFileRepository extends StreamFileRepository<RecordFile, L
             nativeQuery = true)
     Optional<RecordFile> findNextBetween(long minTimestampExclusive, long maxTimestampInclusive);
 
+    @Query(
+            value =
+                    """
+        select * from record_file where consensus_end = (
+          select consensus_end
+          from (
+            select consensus_end, sum(count) over (order by consensus_end) as total
+            from record_file
+            where consensus_end > ?1 and consensus_end <= ?2
+          ) as r
+          where total >= ?3
+          order by consensus_end
+          limit 1
+        )
+        """,
+            nativeQuery = true)
+    Optional<RecordFile> findNextWithTotalCount(
+            long minTimestampExclusive, long maxTimestampInclusive, long totalCount);
+
     @Modifying
     @Override
     @Query("delete from RecordFile where consensusEnd <= ?1")
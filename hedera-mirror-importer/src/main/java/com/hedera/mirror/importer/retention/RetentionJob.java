@@ -17,34 +17,57 @@
 package com.hedera.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.TreeMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
 @RequiredArgsConstructor
 public class RetentionJob {
 
+    // Pruned together and only after every other table so no data is left behind without its record file
+    private static final Set<String> RECORD_FILE_TABLES = Set.of("record_file", "sidecar_file");
+    private static final String SELECT_CHECKPOINT_SQL =
+            "select consensus_timestamp from retention_checkpoint where table_name = ?";
+    private static final String UPSERT_CHECKPOINT_SQL =
+            """
+            insert into retention_checkpoint (consensus_timestamp, table_name) values (?, ?)
+            on conflict (table_name) do update set consensus_timestamp = excluded.consensus_timestamp
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -67,8 +90,39 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
-            while (iterator.hasNext()) {
-                prune(iterator);
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp);
+            }
+
+            var batches = new ArrayList<Long>();
+            iterator.forEachRemaining(r -> batches.add(r.getConsensusEnd()));
+
+            var recordFileRepositories = new ArrayList<RetentionRepository>();
+            var repositories = new ArrayList<RetentionRepository>();
+            for (var repository : retentionRepositories) {
+                String table = getTableName(repository);
+                if (!retentionProperties.shouldPrune(table)) {
+                    continue;
+                }
+
+                if (RECORD_FILE_TABLES.contains(table)) {
+                    recordFileRepositories.add(repository);
+                } else {
+                    repositories.add(repository);
+                }
+            }
+
+            // Errors are delayed until all tables finish so one failing table doesn't abort the others
+            Flux.fromIterable(repositories)
+                    .flatMapDelayError(
+                            r -> Mono.fromRunnable(() -> prune(List.of(r), batches, iterator.getCounters()))
+                                    .subscribeOn(Schedulers.boundedElastic()),
+                            retentionProperties.getParallelism(),
+                            1)
+                    .blockLast();
+
+            if (!recordFileRepositories.isEmpty()) {
+                prune(recordFileRepositories, batches, iterator.getCounters());
             }
 
             log.info("Finished pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters());
@@ -77,27 +131,98 @@ public class RetentionJob {
         }
     }
 
-    private void prune(RecordFileIterator iterator) {
-        var counters = iterator.getCounters();
-        long countBefore = counters.values().stream().reduce(0L, Long::sum);
-        var stopwatch = iterator.getStopwatch();
-        var next = iterator.next();
-        long endTimestamp = next.getConsensusEnd();
-
-        transactionOperations.executeWithoutResult(t -> retentionRepositories.forEach(repository -> {
+    /**
+     * Drops the time partitions that only contain data on or before the max timestamp. This reclaims the space
+     * immediately without the row level deletes and the vacuum afterward. Any partition straddling the max timestamp
+     * is left for the row level pruning.
+     */
+    private void dropPartitions(long maxTimestamp) {
+        for (var repository : retentionRepositories) {
             String table = getTableName(repository);
 
-            if (retentionProperties.shouldPrune(table)) {
-                long count = repository.prune(endTimestamp);
-                counters.merge(table, count, Long::sum);
+            if (!retentionProperties.shouldPrune(table)) {
+                continue;
+            }
+
+            var stopwatch = Stopwatch.createStarted();
+            long size = 0L;
+            int count = 0;
+
+            for (var partition : timePartitionService.getTimePartitions(table)) {
+                // Partitions are sorted so the rest will also have data after the max timestamp
+                if (partition.getEnd() > maxTimestamp) {
+                    break;
+                }
+
+                size += timePartitionService.dropTimePartition(partition);
+                count++;
+            }
+
+            if (count > 0) {
+                log.info(
+                        "Dropped {} partitions of table {} reclaiming {} in {}",
+                        count,
+                        table,
+                        FileUtils.byteCountToDisplaySize(size),
+                        stopwatch);
+            }
+        }
+    }
+
+    /**
+     * Prunes the tables in their own transaction per batch so they progress independently of the other tables. The
+     * checkpoint of the last pruned batch is saved per table in the same transaction so a later run, even after a
+     * restart, skips the batches it already completed.
+     */
+    private void prune(List<RetentionRepository> repositories, List<Long> batches, Map<String, Long> counters) {
+        var batchDelay = retentionProperties.getBatchDelay();
+        var stopwatch = Stopwatch.createStarted();
+        var tables = repositories.stream().map(this::getTableName).toList();
+        String name = String.join(", ", tables);
+        long checkpoint = tables.stream().mapToLong(this::getCheckpoint).min().orElse(Long.MIN_VALUE);
+        long total = 0L;
+
+        try {
+            for (long endTimestamp : batches) {
+                if (endTimestamp <= checkpoint) {
+                    continue;
+                }
+
+                var count = transactionOperations.execute(t -> {
+                    long pruned = 0L;
+
+                    for (int i = 0; i < repositories.size(); i++) {
+                        String table = tables.get(i);
+                        long tableCount = repositories.get(i).prune(endTimestamp);
+                        pruned += tableCount;
+                        counters.merge(table, tableCount, Long::sum);
+                        jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, endTimestamp, table);
+                    }
+
+                    return pruned;
+                });
+
+                long pruned = count != null ? count : 0L;
+                total += pruned;
+                log.debug("Pruned {} {} entries on or before {}", pruned, name, toInstant(endTimestamp));
+
+                if (!batchDelay.isZero()) {
+                    Uninterruptibles.sleepUninterruptibly(batchDelay);
+                }
             }
-        }));
 
-        long countAfter = counters.values().stream().reduce(0L, Long::sum);
-        long count = countAfter - countBefore;
-        long elapsed = stopwatch.elapsed(TimeUnit.SECONDS);
-        long rate = elapsed > 0 ? countAfter / elapsed : 0L;
-        log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
+            long elapsed = stopwatch.elapsed(TimeUnit.SECONDS);
+            long rate = elapsed > 0 ? total / elapsed : 0L;
+            log.info("Pruned {} {} entries in {} at {}/s", total, name, stopwatch, rate);
+        } catch (Exception e) {
+            log.error("Error pruning {} after {} entries in {}", name, total, stopwatch);
+            throw e;
+        }
+    }
+
+    private long getCheckpoint(String table) {
+        var checkpoint = jdbcTemplate.queryForList(SELECT_CHECKPOINT_SQL, Long.class, table);
+        return checkpoint.isEmpty() ? Long.MIN_VALUE : checkpoint.get(0);
     }
 
     private String getTableName(RetentionRepository repository) {
@@ -113,7 +238,7 @@ public class RetentionJob {
     @Data
     private class RecordFileIterator implements Iterator<RecordFile> {
 
-        private final Map<String, Long> counters = new TreeMap<>();
+        private final Map<String, Long> counters = new ConcurrentSkipListMap<>();
         private final RecordFile max;
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private RecordFile current;
@@ -132,7 +257,7 @@ public class RetentionJob {
             }
 
             // We pruned max in the last iteration, so skip it now
-            if (current == max) {
+            if (current.getConsensusEnd() == max.getConsensusEnd()) {
                 current = null;
                 return false;
             }
@@ -140,20 +265,23 @@ public class RetentionJob {
             long batchPeriod = retentionProperties.getBatchPeriod().toNanos();
             long endTimestamp = current.getConsensusEnd() + batchPeriod;
 
-            // Ignore batchPeriod if it would put us past the max and just use max instead
-            if (endTimestamp >= max.getConsensusEnd()) {
-                current = max;
-                return true;
-            }
-
-            // Next record file is in between min and max
-            var next = recordFileRepository.findNextBetween(endTimestamp, max.getConsensusEnd());
+            // Ignore batchPeriod if it would put us past the max and just use max instead. Otherwise, the next record
+            // file is in between min and max
+            var next = endTimestamp >= max.getConsensusEnd()
+                    ? Optional.of(max)
+                    : recordFileRepository.findNextBetween(endTimestamp, max.getConsensusEnd());
             if (next.isEmpty()) {
                 current = null;
                 return false;
             }
 
-            current = next.get();
+            // End the batch early if it would contain more than batchSize transactions
+            long batchSize = retentionProperties.getBatchSize();
+            long nextTimestamp = next.get().getConsensusEnd();
+            current = recordFileRepository
+                    .findNextWithTotalCount(current.getConsensusEnd(), nextTimestamp, batchSize)
+                    .filter(r -> r.getConsensusEnd() < nextTimestamp)
+                    .orElse(next.get());
             return true;
         }
 
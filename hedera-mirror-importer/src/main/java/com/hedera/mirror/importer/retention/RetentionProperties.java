@@ -16,11 +16,13 @@
 
 package com.hedera.mirror.importer.retention;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -31,9 +33,18 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class RetentionProperties {
 
+    @DurationMin(millis = 0L)
+    @NotNull
+    private Duration batchDelay = Duration.ZERO;
+
     @NotNull
     private Duration batchPeriod = Duration.ofDays(1L);
 
+    @Min(1)
+    private long batchSize = 1_000_000L;
+
+    private boolean dropPartitions = false;
+
     private boolean enabled = false;
 
     @NotNull
@@ -45,6 +56,9 @@ public class RetentionProperties {
     @NotNull
     private Set<String> include = Collections.emptySet();
 
+    @Min(1)
+    private int parallelism = 4;
+
     @NotNull
     private Duration period = Duration.ofDays(90L);
 
@@ -0,0 +1,9 @@
+create table if not exists node_stream_path
+(
+    node_id           bigint      not null,
+    path_type         varchar(10) not null,
+    stream_type       varchar(10) not null,
+    updated_timestamp bigint      not null,
+    primary key (node_id, stream_type)
+);
+comment on table node_stream_path is 'The bucket path type detected for each node and stream type';
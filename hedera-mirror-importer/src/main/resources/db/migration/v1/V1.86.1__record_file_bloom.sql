@@ -0,0 +1,8 @@
+create table if not exists record_file_bloom
+(
+    block_count integer not null,
+    logs_bloom  bytea   not null,
+    start_index bigint  not null,
+    primary key (block_count, start_index)
+);
+comment on table record_file_bloom is 'Logs blooms aggregated over ranges of record files';
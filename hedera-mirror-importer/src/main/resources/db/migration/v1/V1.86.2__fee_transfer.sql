@@ -0,0 +1,32 @@
+create table if not exists fee_transfer
+(
+    amounts             bigint[] not null,
+    consensus_timestamp bigint   not null,
+    entity_ids          bigint[] not null,
+    payer_account_id    bigint   not null,
+    primary key (consensus_timestamp)
+);
+comment on table fee_transfer is 'Hbar fee credits to the node and the fee accounts of each transaction';
+
+create index if not exists fee_transfer__entity_ids
+    on fee_transfer using gin (entity_ids);
+
+create table if not exists fee_transfer_rollup
+(
+    amount          bigint  not null,
+    consensus_end   bigint  not null,
+    consensus_start bigint  not null,
+    entity_id       bigint  not null,
+    transfer_count  integer not null,
+    primary key (entity_id, consensus_end)
+);
+comment on table fee_transfer_rollup is 'Hbar fee credits to an account summed per record file';
+
+-- Individual crypto transfers including the fee credits stored compactly in fee_transfer
+create or replace view crypto_transfer_all as
+select amount, consensus_timestamp, entity_id, errata, is_approval, payer_account_id
+from crypto_transfer
+union all
+select t.amount, f.consensus_timestamp, t.entity_id, null::errata_type, false, f.payer_account_id
+from fee_transfer f,
+     unnest(f.entity_ids, f.amounts) as t(entity_id, amount);
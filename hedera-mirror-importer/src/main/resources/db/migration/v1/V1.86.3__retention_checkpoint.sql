@@ -0,0 +1,7 @@
+create table if not exists retention_checkpoint
+(
+    consensus_timestamp bigint      not null,
+    table_name          varchar(64) not null,
+    primary key (table_name)
+);
+comment on table retention_checkpoint is 'Timestamp of the last batch each table was pruned to by the retention job';
@@ -0,0 +1,9 @@
+create table if not exists async_migration_checkpoint
+(
+    checksum    int          not null,
+    class_name  varchar(255) not null,
+    lower_bound bigint       not null,
+    upper_bound bigint       not null,
+    primary key (class_name, lower_bound)
+);
+comment on table async_migration_checkpoint is 'Key ranges migrated by chunked asynchronous migrations that are not yet complete';
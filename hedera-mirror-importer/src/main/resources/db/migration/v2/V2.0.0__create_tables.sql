@@ -80,6 +80,16 @@ create table if not exists assessed_custom_fee
 ) partition by range (consensus_timestamp);
 comment on table assessed_custom_fee is 'Assessed custom fees for HTS transactions';
 
+-- async_migration_checkpoint
+create table if not exists async_migration_checkpoint
+(
+    checksum    int          not null,
+    class_name  varchar(255) not null,
+    lower_bound bigint       not null,
+    upper_bound bigint       not null
+);
+comment on table async_migration_checkpoint is 'Key ranges migrated by chunked asynchronous migrations that are not yet complete';
+
 -- contract
 create table if not exists contract
 (
@@ -338,6 +348,27 @@ create table if not exists event_file
     version          integer                not null
 ) partition by range (consensus_end);
 
+-- fee_transfer
+create table if not exists fee_transfer
+(
+    amounts             bigint[] not null,
+    consensus_timestamp bigint   not null,
+    entity_ids          bigint[] not null,
+    payer_account_id    bigint   not null
+) partition by range (consensus_timestamp);
+comment on table fee_transfer is 'Hbar fee credits to the node and the fee accounts of each transaction';
+
+-- fee_transfer_rollup
+create table if not exists fee_transfer_rollup
+(
+    amount          bigint  not null,
+    consensus_end   bigint  not null,
+    consensus_start bigint  not null,
+    entity_id       bigint  not null,
+    transfer_count  integer not null
+);
+comment on table fee_transfer_rollup is 'Hbar fee credits to an account summed per record file';
+
 -- file_data
 create table if not exists file_data
 (
@@ -438,6 +469,15 @@ create table if not exists node_stake
 );
 comment on table node_stake is 'Node staking information';
 
+create table if not exists node_stream_path
+(
+    node_id           bigint      not null,
+    path_type         varchar(10) not null,
+    stream_type       varchar(10) not null,
+    updated_timestamp bigint      not null
+);
+comment on table node_stream_path is 'The bucket path type detected for each node and stream type';
+
 -- prng
 create table if not exists prng
 (
@@ -487,6 +527,22 @@ create table if not exists record_file
 ) partition by range (consensus_end);
 comment on table record_file is 'Network record file stream entries';
 
+create table if not exists record_file_bloom
+(
+    block_count integer not null,
+    logs_bloom  bytea   not null,
+    start_index bigint  not null
+);
+comment on table record_file_bloom is 'Logs blooms aggregated over ranges of record files';
+
+-- retention_checkpoint
+create table if not exists retention_checkpoint
+(
+    consensus_timestamp bigint      not null,
+    table_name          varchar(64) not null
+);
+comment on table retention_checkpoint is 'Timestamp of the last batch each table was pruned to by the retention job';
+
 -- schedule
 create table if not exists schedule
 (
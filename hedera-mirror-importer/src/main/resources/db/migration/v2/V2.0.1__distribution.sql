@@ -47,6 +47,10 @@ select create_distributed_table('entity_transaction', 'entity_id', colocate_with
 
 select create_distributed_table('ethereum_transaction', 'payer_account_id', colocate_with => 'entity');
 
+select create_distributed_table('fee_transfer', 'payer_account_id', colocate_with => 'entity');
+
+select create_distributed_table('fee_transfer_rollup', 'entity_id', colocate_with => 'entity');
+
 select create_distributed_table('file_data', 'entity_id', colocate_with => 'entity');
 
 select create_distributed_table('network_freeze', 'payer_account_id', colocate_with => 'entity');
@@ -91,3 +95,12 @@ select create_distributed_table('transaction_signature', 'entity_id', colocate_w
 
 -- Reference tables
 select create_reference_table('account_balance_file');
+
+-- Individual crypto transfers including the fee credits stored compactly in fee_transfer
+create or replace view crypto_transfer_all as
+select amount, consensus_timestamp, entity_id, errata, is_approval, payer_account_id
+from crypto_transfer
+union all
+select t.amount, f.consensus_timestamp, t.entity_id, null::errata_type, false, f.payer_account_id
+from fee_transfer f,
+     unnest(f.entity_ids, f.amounts) as t(entity_id, amount);
@@ -376,6 +376,10 @@ select create_time_partitions(table_name :='public.ethereum_transaction',
 select create_time_partitions(table_name :='public.event_file', partition_interval := interval ${partitionTimeInterval},
                               start_from := CURRENT_TIMESTAMP - ${partitionStartDate}:: interval,
                               end_at := CURRENT_TIMESTAMP + ${partitionTimeInterval});
+select create_time_partitions(table_name :='public.fee_transfer',
+                              partition_interval := interval ${partitionTimeInterval},
+                              start_from := CURRENT_TIMESTAMP - ${partitionStartDate}:: interval,
+                              end_at := CURRENT_TIMESTAMP + ${partitionTimeInterval});
 select create_time_partitions(table_name :='public.file_data', partition_interval := interval ${partitionTimeInterval},
                               start_from := CURRENT_TIMESTAMP - ${partitionStartDate}:: interval,
                               end_at := CURRENT_TIMESTAMP + ${partitionTimeInterval});
@@ -29,6 +29,10 @@ alter table if exists address_book_entry
 alter table if exists address_book_service_endpoint
     add constraint address_book_service_endpoint__pk primary key (consensus_timestamp, node_id, ip_address_v4, port);
 
+-- async_migration_checkpoint
+alter table if exists async_migration_checkpoint
+    add constraint async_migration_checkpoint__pk primary key (class_name, lower_bound);
+
 -- contract
 alter table if exists contract
     add constraint contract__pk primary key (id);
@@ -137,6 +141,16 @@ alter table if exists event_file
 create index if not exists event_file__hash
     on event_file using hash (hash);
 
+-- fee_transfer
+alter table if exists fee_transfer
+    add constraint fee_transfer__pk primary key (consensus_timestamp, payer_account_id);
+create index if not exists fee_transfer__entity_ids
+    on fee_transfer using gin (entity_ids);
+
+-- fee_transfer_rollup
+alter table if exists fee_transfer_rollup
+    add constraint fee_transfer_rollup__pk primary key (entity_id, consensus_end);
+
 -- file_data
 alter table if exists file_data
     add constraint file_data__pk primary key (consensus_timestamp, entity_id);
@@ -179,6 +193,10 @@ alter table if exists node_stake
     add constraint node_stake__pk primary key (consensus_timestamp, node_id);
 create index if not exists node_stake__epoch_day on node_stake (epoch_day);
 
+-- node_stream_path
+alter table if exists node_stream_path
+    add constraint node_stream_path__pk primary key (node_id, stream_type);
+
 -- prng
 alter table if exists prng
     add constraint prng__pk primary key (consensus_timestamp, payer_account_id);
@@ -195,6 +213,14 @@ create index if not exists record_file__index_node
 create index if not exists record_file__hash
     on record_file (hash collate "C");
 
+-- record_file_bloom
+alter table if exists record_file_bloom
+    add constraint record_file_bloom__pk primary key (block_count, start_index);
+
+-- retention_checkpoint
+alter table if exists retention_checkpoint
+    add constraint retention_checkpoint__pk primary key (table_name);
+
 -- schedule
 alter table if exists schedule
     add constraint schedule__pk primary key (schedule_id);
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.bloom;
+
+import static com.hedera.mirror.importer.bloom.LogsBloomIndexServiceImplTest.couldContain;
+import static com.hedera.mirror.importer.bloom.LogsBloomIndexServiceImplTest.createBloom;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
+import com.hedera.mirror.importer.IntegrationTest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Measures the false positive rate and the reduction in blocks to scan of the 1,000 block aggregated logs blooms using
+ * a block distribution modeled after mainnet, where only a small fraction of blocks contain contract logs.
+ */
+@Tag("performance")
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class LogsBloomIndexPerformanceTest extends IntegrationTest {
+
+    private static final int BLOCKS = 20_000;
+    private static final int CONTRACTS = 500;
+    private static final double CONTRACT_BLOCK_RATIO = 0.05;
+    private static final int QUERIES = 50;
+    private static final long RANGE_SIZE = 1_000L;
+
+    private final LogsBloomIndexProperties properties;
+    private final LogsBloomIndexService logsBloomIndexService;
+
+    @AfterEach
+    void cleanup() {
+        properties.setEnabled(false);
+    }
+
+    @Test
+    void falsePositiveRate() {
+        properties.setEnabled(true);
+        var random = new Random(0);
+        var addresses = new ArrayList<byte[]>();
+        for (int i = 0; i < CONTRACTS; i++) {
+            addresses.add(domainBuilder.evmAddress());
+        }
+
+        var blocksByAddress = new HashMap<Integer, TreeSet<Long>>();
+        var stopwatch = Stopwatch.createStarted();
+        for (long index = 0; index < BLOCKS; index++) {
+            var aggregator = new LogsBloomAggregator();
+            if (random.nextDouble() < CONTRACT_BLOCK_RATIO) {
+                int logs = 1 + random.nextInt(5);
+                for (int i = 0; i < logs; i++) {
+                    int contract = random.nextInt(CONTRACTS);
+                    var topics = List.of(domainBuilder.bytes(32), domainBuilder.bytes(32));
+                    aggregator.aggregate(createBloom(addresses.get(contract), topics));
+                    blocksByAddress.computeIfAbsent(contract, k -> new TreeSet<>()).add(index);
+                }
+            }
+
+            long blockIndex = index;
+            var logsBloom = aggregator.getBloom();
+            var recordFile = domainBuilder
+                    .recordFile()
+                    .customize(r -> r.index(blockIndex).logsBloom(logsBloom))
+                    .persist();
+            logsBloomIndexService.index(recordFile);
+        }
+        log.info("Indexed {} blocks in {}", BLOCKS, stopwatch);
+
+        var rangeBlooms = new HashMap<Long, byte[]>();
+        jdbcOperations.query(
+                "select start_index, logs_bloom from record_file_bloom where block_count = ?",
+                rs -> {
+                    rangeBlooms.put(rs.getLong(1), rs.getBytes(2));
+                },
+                RANGE_SIZE);
+
+        long candidateRanges = 0;
+        long falsePositives = 0;
+        long matchingRanges = 0;
+        stopwatch.reset().start();
+
+        var queries = sample(blocksByAddress, random);
+        for (var entry : queries.entrySet()) {
+            var bloom = createBloom(addresses.get(entry.getKey()), List.of());
+            var expected = entry.getValue();
+
+            for (var rangeBloom : rangeBlooms.entrySet()) {
+                long start = rangeBloom.getKey();
+                boolean matches = !expected.subSet(start, start + RANGE_SIZE).isEmpty();
+                boolean candidate = couldContain(rangeBloom.getValue(), bloom);
+
+                // A range with a matching block must never be skipped
+                assertThat(candidate || !matches).isTrue();
+                candidateRanges += candidate ? 1 : 0;
+                falsePositives += candidate && !matches ? 1 : 0;
+                matchingRanges += matches ? 1 : 0;
+            }
+        }
+
+        long totalRanges = (long) queries.size() * rangeBlooms.size();
+        log.info(
+                "{} queries took {}: false positive rate {}%, scanned {}% of blocks instead of all, {} matching ranges",
+                queries.size(),
+                stopwatch,
+                String.format("%.4f", 100.0 * falsePositives / (totalRanges - matchingRanges)),
+                String.format("%.4f", 100.0 * candidateRanges / totalRanges),
+                matchingRanges);
+        assertThat(rangeBlooms).hasSize(BLOCKS / (int) RANGE_SIZE);
+    }
+
+    private Map<Integer, TreeSet<Long>> sample(Map<Integer, TreeSet<Long>> blocksByAddress, Random random) {
+        var contracts = new ArrayList<>(blocksByAddress.keySet());
+        var sample = new HashMap<Integer, TreeSet<Long>>();
+        while (sample.size() < QUERIES && sample.size() < contracts.size()) {
+            int contract = contracts.get(random.nextInt(contracts.size()));
+            sample.put(contract, blocksByAddress.get(contract));
+        }
+        return sample;
+    }
+}
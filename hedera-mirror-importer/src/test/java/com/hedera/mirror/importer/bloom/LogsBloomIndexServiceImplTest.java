@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.aggregator.LogsBloomAggregator;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.IntegrationTest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class LogsBloomIndexServiceImplTest extends IntegrationTest {
+
+    private static final byte[] ADDRESS = new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 4, 1};
+    private static final byte[] OTHER_ADDRESS = new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 4, 2};
+    private static final byte[] TOPIC = new byte[] {1, 2, 3};
+
+    private final LogsBloomIndexProperties properties;
+    private final LogsBloomIndexService logsBloomIndexService;
+
+    @BeforeEach
+    void setup() {
+        properties.setEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        properties.setEnabled(false);
+    }
+
+    @Test
+    void index() {
+        var recordFile1 = recordFile(5L, ArrayUtils.EMPTY_BYTE_ARRAY);
+        var recordFile2 = recordFile(1_500L, createBloom(ADDRESS, List.of(TOPIC)));
+        var recordFile3 = recordFile(1_501L, createBloom(ADDRESS, List.of()));
+        var recordFile4 = recordFile(2_500L, createBloom(OTHER_ADDRESS, List.of(TOPIC)));
+        var recordFile5 = recordFile(150_000L, createBloom(ADDRESS, List.of()));
+        List.of(recordFile1, recordFile2, recordFile3, recordFile4, recordFile5)
+                .forEach(logsBloomIndexService::index);
+
+        var address = createBloom(ADDRESS, List.of());
+        var addressAndTopic = createBloom(ADDRESS, List.of(TOPIC));
+        var otherAddress = createBloom(OTHER_ADDRESS, List.of());
+        assertThat(countBlooms()).isEqualTo(6);
+        assertThat(findBloom(1_000L, 0L)).hasSize(LogsBloomAggregator.BYTE_SIZE).containsOnly((byte) 0);
+        assertThat(couldContain(findBloom(1_000L, 1_000L), addressAndTopic)).isTrue();
+        assertThat(couldContain(findBloom(1_000L, 1_000L), otherAddress)).isFalse();
+        assertThat(couldContain(findBloom(1_000L, 2_000L), otherAddress)).isTrue();
+        assertThat(couldContain(findBloom(1_000L, 2_000L), address)).isFalse();
+        assertThat(couldContain(findBloom(1_000L, 150_000L), address)).isTrue();
+        assertThat(couldContain(findBloom(1_000L, 150_000L), addressAndTopic)).isFalse();
+        assertThat(couldContain(findBloom(100_000L, 0L), addressAndTopic)).isTrue();
+        assertThat(couldContain(findBloom(100_000L, 0L), otherAddress)).isTrue();
+        assertThat(findBloom(100_000L, 100_000L)).isEqualTo(address);
+    }
+
+    @Test
+    void indexIncludesPreviousBlocks() {
+        recordFile(1_000L, createBloom(ADDRESS, List.of()));
+        recordFile(1_001L, null);
+        var recordFile = recordFile(1_002L, ArrayUtils.EMPTY_BYTE_ARRAY);
+
+        logsBloomIndexService.index(recordFile);
+
+        assertThat(findBloom(1_000L, 1_000L)).hasSize(LogsBloomAggregator.BYTE_SIZE).containsOnly((byte) 0xFF);
+        assertThat(findBloom(100_000L, 0L)).hasSize(LogsBloomAggregator.BYTE_SIZE).containsOnly((byte) 0xFF);
+    }
+
+    @Test
+    void indexUnchanged() {
+        var bloom = createBloom(ADDRESS, List.of());
+        logsBloomIndexService.index(recordFile(1L, bloom));
+        logsBloomIndexService.index(recordFile(2L, ArrayUtils.EMPTY_BYTE_ARRAY));
+
+        assertThat(findBloom(1_000L, 0L)).isEqualTo(bloom);
+        assertThat(findBloom(100_000L, 0L)).isEqualTo(bloom);
+    }
+
+    @Test
+    void indexDisabled() {
+        properties.setEnabled(false);
+        logsBloomIndexService.index(recordFile(1L, createBloom(ADDRESS, List.of())));
+        assertThat(countBlooms()).isZero();
+    }
+
+    @Test
+    void resetBlooms() {
+        logsBloomIndexService.index(recordFile(1L, createBloom(ADDRESS, List.of())));
+        assertThat(countBlooms()).isEqualTo(2);
+
+        logsBloomIndexService.reset();
+        assertThat(countBlooms()).isZero();
+    }
+
+    /**
+     * Creates the Ethereum logs bloom that has the 3 bits of each of the address and topics set.
+     */
+    static byte[] createBloom(byte[] address, List<byte[]> topics) {
+        var bloom = new byte[LogsBloomAggregator.BYTE_SIZE];
+        addToBloom(bloom, address);
+        topics.forEach(topic -> addToBloom(bloom, DomainUtils.leftPadBytes(topic, 32)));
+        return bloom;
+    }
+
+    private static void addToBloom(byte[] bloom, byte[] value) {
+        if (value == null) {
+            return;
+        }
+
+        var hash = new Keccak.Digest256().digest(value);
+        for (int i = 0; i < 6; i += 2) {
+            int bit = ((hash[i] & 0x07) << 8) | (hash[i + 1] & 0xFF);
+            bloom[bloom.length - 1 - bit / 8] |= (byte) (1 << (bit % 8));
+        }
+    }
+
+    static boolean couldContain(byte[] aggregatedBloom, byte[] bloom) {
+        return new LogsBloomAggregator().aggregate(aggregatedBloom).couldContain(bloom);
+    }
+
+    private int countBlooms() {
+        return jdbcOperations.queryForObject("select count(*) from record_file_bloom", Integer.class);
+    }
+
+    private byte[] findBloom(long blockCount, long startIndex) {
+        return jdbcOperations.queryForObject(
+                "select logs_bloom from record_file_bloom where block_count = ? and start_index = ?",
+                byte[].class,
+                blockCount,
+                startIndex);
+    }
+
+    private RecordFile recordFile(long index, byte[] logsBloom) {
+        return domainBuilder
+                .recordFile()
+                .customize(r -> r.index(index).logsBloom(logsBloom))
+                .persist();
+    }
+}
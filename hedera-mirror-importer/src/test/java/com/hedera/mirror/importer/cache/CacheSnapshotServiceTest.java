@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.cache;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_ALIAS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.MirrorProperties;
+import com.hedera.mirror.importer.addressbook.AddressBookService;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class CacheSnapshotServiceTest extends IntegrationTest {
+
+    private final AddressBookService addressBookService;
+
+    @Qualifier(CACHE_MANAGER_ALIAS)
+    private final CacheManager cacheManager;
+
+    private final EntityIdService entityIdService;
+    private final RecordFileRepository recordFileRepository;
+
+    @TempDir
+    private Path dataPath;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheSnapshotService cacheSnapshotService;
+
+    @BeforeEach
+    void setup() {
+        var mirrorProperties = new MirrorProperties();
+        mirrorProperties.setDataPath(dataPath);
+        var properties = new CacheSnapshotProperties();
+        properties.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheSnapshotService = new CacheSnapshotService(
+                addressBookService, cacheManager, properties, meterRegistry, mirrorProperties, recordFileRepository);
+    }
+
+    @Test
+    void snapshotAndRestore() {
+        // given
+        domainBuilder.recordFile().persist();
+        var account = domainBuilder.entity().get();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .get();
+        entityIdService.notify(account);
+        entityIdService.notify(contract);
+
+        // when
+        cacheSnapshotService.snapshot();
+        clearCache();
+        cacheSnapshotService.restore();
+
+        // then the entities aren't in the database so they can only come from the snapshot
+        assertThat(entityIdService.lookup(accountId(account))).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId(contract))).hasValue(contract.toEntityId());
+        assertThat(dataPath.resolve(CacheSnapshotService.FILE_NAME)).exists();
+        assertThat(warmupCount("success")).isOne();
+    }
+
+    @Test
+    void restoreMismatchedRecordFile() {
+        // given
+        var recordFile = domainBuilder.recordFile().persist();
+        var account = domainBuilder.entity().get();
+        entityIdService.notify(account);
+        cacheSnapshotService.snapshot();
+        clearCache();
+        jdbcOperations.update(
+                "update record_file set hash = 'other' where consensus_end = ?", recordFile.getConsensusEnd());
+
+        // when
+        cacheSnapshotService.restore();
+
+        // then
+        assertThat(cacheManager.getCache("entityId").get(accountId(account))).isNull();
+        assertThat(warmupCount("skipped")).isOne();
+    }
+
+    @Test
+    void restoreNoSnapshot() {
+        cacheSnapshotService.restore();
+        assertThat(warmupCount("skipped")).isOne();
+    }
+
+    @Test
+    void snapshotEmptyCache() {
+        domainBuilder.recordFile().persist();
+        entityIdService.notify(domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).evmAddress(null))
+                .get());
+        cacheSnapshotService.snapshot();
+        assertThat(dataPath.resolve(CacheSnapshotService.FILE_NAME)).doesNotExist();
+    }
+
+    @Test
+    void snapshotMaxEntries() {
+        // given
+        var properties = new CacheSnapshotProperties();
+        properties.setEnabled(true);
+        properties.setMaxEntries(1);
+        var mirrorProperties = new MirrorProperties();
+        mirrorProperties.setDataPath(dataPath);
+        cacheSnapshotService = new CacheSnapshotService(
+                addressBookService, cacheManager, properties, meterRegistry, mirrorProperties, recordFileRepository);
+        domainBuilder.recordFile().persist();
+        var account1 = domainBuilder.entity().get();
+        var account2 = domainBuilder.entity().get();
+        entityIdService.notify(account1);
+        entityIdService.notify(account2);
+
+        // when
+        cacheSnapshotService.snapshot();
+        clearCache();
+        cacheSnapshotService.restore();
+
+        // then
+        var cache = cacheManager.getCache("entityId");
+        assertThat(cache.get(accountId(account1)) == null)
+                .isNotEqualTo(cache.get(accountId(account2)) == null);
+    }
+
+    private AccountID accountId(Entity account) {
+        return AccountID.newBuilder()
+                .setShardNum(account.getShard())
+                .setRealmNum(account.getRealm())
+                .setAlias(DomainUtils.fromBytes(account.getAlias()))
+                .build();
+    }
+
+    private void clearCache() {
+        cacheManager.getCache("entityId").clear();
+    }
+
+    private ContractID contractId(Entity contract) {
+        return ContractID.newBuilder()
+                .setShardNum(contract.getShard())
+                .setRealmNum(contract.getRealm())
+                .setEvmAddress(DomainUtils.fromBytes(contract.getEvmAddress()))
+                .build();
+    }
+
+    private long warmupCount(String result) {
+        return meterRegistry
+                .find("hedera.mirror.importer.cache.warmup")
+                .tag("result", result)
+                .timer()
+                .count();
+    }
+}
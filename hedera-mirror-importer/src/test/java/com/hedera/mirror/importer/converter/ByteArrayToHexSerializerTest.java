@@ -17,10 +17,13 @@
 package com.hedera.mirror.importer.converter;
 
 import static com.hedera.mirror.importer.converter.ByteArrayToHexSerializer.PREFIX;
-import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -42,13 +45,26 @@ class ByteArrayToHexSerializerTest {
 
     @Test
     void testEmptyBytes() throws Exception {
-        byteArrayToHexSerializer.serialize(new byte[0], jsonGenerator, null);
-        verify(jsonGenerator).writeString(PREFIX);
+        assertThat(serialize(new byte[0])).isEqualTo(PREFIX);
     }
 
     @Test
     void testBytes() throws Exception {
-        byteArrayToHexSerializer.serialize(new byte[] {0b0, 0b1, 0b10, 0b01111111}, jsonGenerator, null);
-        verify(jsonGenerator).writeString(PREFIX + "0001027f");
+        assertThat(serialize(new byte[] {0b0, 0b1, 0b10, 0b01111111, -1})).isEqualTo(PREFIX + "0001027fff");
+    }
+
+    @Test
+    void testLargeBytes() throws Exception {
+        var bytes = new byte[100_000];
+        bytes[bytes.length - 1] = 1;
+        assertThat(serialize(bytes)).isEqualTo(PREFIX + StringUtils.repeat('0', 199_999) + "1");
+        assertThat(serialize(new byte[] {2})).isEqualTo(PREFIX + "02");
+    }
+
+    private String serialize(byte[] value) throws Exception {
+        var module = new SimpleModule();
+        module.addSerializer(byte[].class, byteArrayToHexSerializer);
+        var objectMapper = new ObjectMapper().registerModule(module);
+        return objectMapper.readValue(objectMapper.writeValueAsString(value), String.class);
     }
 }
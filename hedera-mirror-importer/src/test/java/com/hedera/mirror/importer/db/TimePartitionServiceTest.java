@@ -101,6 +101,30 @@ class TimePartitionServiceTest extends IntegrationTest {
                 .containsExactlyElementsOf(expected);
     }
 
+    @Test
+    void dropTimePartition() {
+        // given
+        jdbcTemplate.execute(
+                """
+                create table archive (timestamp bigint not null) partition by range (timestamp);
+                create table archive_00 partition of archive for values from ('1000000000') to ('2000000000');
+                create table archive_01 partition of archive for values from ('2000000000') to ('3000000000');
+                insert into archive (timestamp) values (1000000001), (2000000001);
+                """);
+        var partitions = timePartitionService.getTimePartitions("archive");
+        assertThat(partitions).hasSize(2);
+
+        // when
+        long size = timePartitionService.dropTimePartition(partitions.get(0));
+
+        // then
+        assertThat(size).isPositive();
+        assertThat(timePartitionService.getTimePartitions("archive")).containsExactly(partitions.get(1));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from archive", Long.class))
+                .isOne();
+        jdbcTemplate.execute("drop table archive cascade");
+    }
+
     @Test
     void getTimePartitions() {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
@@ -28,6 +28,7 @@ import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -323,6 +324,52 @@ class EntityIdServiceImplTest extends IntegrationTest {
         assertThat(entityIdService.lookup(accountId)).hasValue(EntityId.of(100));
     }
 
+    @Test
+    void preload() {
+        var account = domainBuilder.entity().persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var accountId = getProtoAccountId(account);
+        var accountIdEvmAddress = AccountID.newBuilder()
+                .setAlias(DomainUtils.fromBytes(account.getEvmAddress()))
+                .build();
+        var contractId = getProtoContractId(contract);
+
+        entityIdService.preload(List.of(accountId, accountIdEvmAddress), List.of(contractId));
+
+        // cache hit even after they are removed from the database
+        entityRepository.deleteAll();
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(accountIdEvmAddress)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+    }
+
+    @Test
+    void preloadNotFound() {
+        var account = domainBuilder.entity().get();
+        var accountId = getProtoAccountId(account);
+
+        entityIdService.preload(List.of(accountId), List.of());
+
+        // not found is not cached so an entity created later is still resolved
+        entityRepository.save(account);
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+    }
+
+    @Test
+    void preloadSkipsResolvable() {
+        var accountNum = AccountID.newBuilder().setAccountNum(100).build();
+        var parsable = ContractID.newBuilder()
+                .setEvmAddress(DomainUtils.fromBytes(PARSABLE_EVM_ADDRESS))
+                .build();
+
+        assertDoesNotThrow(() -> entityIdService.preload(List.of(accountNum), List.of(parsable)));
+        assertThat(entityIdService.lookup(accountNum)).hasValue(EntityId.of(100));
+        assertThat(entityIdService.lookup(parsable)).hasValue(EntityId.of(100));
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
@@ -96,6 +96,27 @@ class StreamFileDataTest {
         }
     }
 
+    @Test
+    void getInputStreamDecompressesOnEachCall() throws IOException {
+        String filename = "2021-03-10T16_00_00Z.rcd.gz";
+        byte[] uncompressedBytes = {1, 2, 3};
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (OutputStream os = new GZIPOutputStream(baos)) {
+                os.write(uncompressedBytes);
+            }
+
+            StreamFileData streamFileData = StreamFileData.from(filename, baos.toByteArray());
+
+            try (InputStream is1 = streamFileData.getInputStream();
+                    InputStream is2 = streamFileData.getInputStream()) {
+                assertThat(is1.read()).isEqualTo(1);
+                assertThat(is2.readAllBytes()).isEqualTo(uncompressedBytes);
+                assertThat(is1.readAllBytes()).isEqualTo(new byte[] {2, 3});
+            }
+        }
+    }
+
     @Test
     void createWithCompressorAndUncompressedData() {
         String filename = "2021-03-10T16_00_00Z.rcd.gz";
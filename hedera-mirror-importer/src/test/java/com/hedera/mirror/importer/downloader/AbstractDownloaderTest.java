@@ -43,6 +43,7 @@ import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.domain.ConsensusNodeStub;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import com.hedera.mirror.importer.downloader.provider.PathTypeService;
 import com.hedera.mirror.importer.reader.signature.CompositeSignatureFileReader;
 import com.hedera.mirror.importer.reader.signature.ProtoSignatureFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
@@ -117,6 +118,9 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
     @Mock
     protected MirrorDateRangePropertiesProcessor dateRangeProcessor;
 
+    @Mock(strictness = LENIENT)
+    protected PathTypeService pathTypeService;
+
     @TempDir
     protected Path s3Path;
 
@@ -579,6 +583,49 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         verifyForSuccess();
     }
 
+    @Test
+    void backfill() {
+        commonDownloaderProperties.getBackfill().setEnabled(true);
+        commonDownloaderProperties.getBackfill().setParallelism(2);
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    void backfillSingleNodeStreamFileCorrupted() throws Exception {
+        commonDownloaderProperties.getBackfill().setEnabled(true);
+        corruptedNodeAccountId = nodes.iterator().next().getNodeAccountId();
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(Predicate.not(this::isSigFile))
+                .filter(p -> p.toString().contains(corruptedNodeAccountId.toString()))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    void backfillEndDate() {
+        commonDownloaderProperties.getBackfill().setEnabled(true);
+        mirrorProperties.setEndDate(chooseFileInstant("file1"));
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+
+        downloader.download();
+
+        verifyForSuccess(List.of(file1), false);
+    }
+
     @Test
     @DisplayName("Max download items reached")
     void maxDownloadItemsReached() {
@@ -49,7 +49,7 @@ class AccountBalancesDownloaderTest extends AbstractDownloaderTest<AccountBalanc
     protected Downloader<AccountBalanceFile, AccountBalance> getDownloader() {
         BalanceFileReader balanceFileReader = new BalanceFileReaderImplV1(
                 new BalanceParserProperties(), new AccountBalanceLineParserV1(mirrorProperties));
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, pathTypeService, s3AsyncClient);
         return new AccountBalancesDownloader(
                 consensusNodeService,
                 (BalanceDownloaderProperties) downloaderProperties,
@@ -86,7 +86,7 @@ class AccountBalancesDownloaderTest extends AbstractDownloaderTest<AccountBalanc
         // .csv_sig files are intentionally made empty so if two account balance files are processed, they must be
         // the .pb.gz files
         ProtoBalanceFileReader protoBalanceFileReader = new ProtoBalanceFileReader();
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, pathTypeService, s3AsyncClient);
         downloader = new AccountBalancesDownloader(
                 consensusNodeService,
                 (BalanceDownloaderProperties) downloaderProperties,
@@ -16,6 +16,9 @@
 
 package com.hedera.mirror.importer.downloader.provider;
 
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.FileCopier;
 import com.hedera.mirror.importer.TestUtils;
@@ -26,6 +29,7 @@ import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import reactor.test.StepVerifier;
 
@@ -140,6 +144,19 @@ class AutoS3StreamFileProviderTest extends S3StreamFileProviderTest {
                 .expectNext(nodeIdData2)
                 .expectComplete()
                 .verify(Duration.ofSeconds(10L));
+
+        verify(pathTypeService).save(node, StreamType.RECORD, PathType.NODE_ID);
+    }
+
+    @SuppressWarnings("java:S2699")
+    @Test
+    void listNodeIdSavedPathType() {
+        var node = node("0.0.4");
+        var fileCopier = getFileCopier(node);
+        // Without the saved path type, the node ID path would not be probed until the refresh interval elapses
+        properties.setPathRefreshInterval(Duration.ofHours(1L));
+        when(pathTypeService.get(node, StreamType.RECORD)).thenReturn(Optional.of(PathType.NODE_ID));
+        list(fileCopier, node);
     }
 
     @SuppressWarnings("java:S2699")
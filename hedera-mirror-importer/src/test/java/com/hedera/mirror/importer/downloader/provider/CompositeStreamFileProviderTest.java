@@ -18,6 +18,8 @@ package com.hedera.mirror.importer.downloader.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.importer.MirrorProperties;
@@ -27,11 +29,14 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -76,6 +81,68 @@ class CompositeStreamFileProviderTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void getCached(@TempDir Path dataPath) {
+        properties.getMirrorProperties().setDataPath(dataPath);
+        properties.getCache().setEnabled(true);
+        compositeStreamFileProvider =
+                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1, streamFileProvider2));
+        when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.just(DATA));
+
+        for (int i = 0; i < 2; ++i) {
+            StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                    .thenAwait(WAIT)
+                    .expectNextMatches(d -> Arrays.equals(d.getBytes(), DATA.getBytes()))
+                    .expectComplete()
+                    .verify(WAIT);
+            compositeStreamFileProvider.onVerified(DATA);
+        }
+
+        verify(streamFileProvider1, times(1)).get(NODE, FILENAME);
+    }
+
+    @Test
+    void getSidecarCached(@TempDir Path dataPath) {
+        properties.getMirrorProperties().setDataPath(dataPath);
+        properties.getCache().setEnabled(true);
+        compositeStreamFileProvider =
+                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1, streamFileProvider2));
+        var sidecarPath = "recordstreams/record0.0.3/sidecar/2022-07-13T08_46_11.304284003Z_01.rcd.gz";
+        var sidecarData = StreamFileData.from(sidecarPath, new byte[] {1, 2, 3});
+        var sidecarFilename = sidecarData.getStreamFilename();
+        when(streamFileProvider1.get(NODE, sidecarFilename)).thenReturn(Mono.just(sidecarData));
+
+        for (int i = 0; i < 2; ++i) {
+            StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, sidecarFilename))
+                    .thenAwait(WAIT)
+                    .expectNextMatches(d -> Arrays.equals(d.getBytes(), sidecarData.getBytes()))
+                    .expectComplete()
+                    .verify(WAIT);
+            compositeStreamFileProvider.onVerified(sidecarData);
+        }
+
+        verify(streamFileProvider1, times(1)).get(NODE, sidecarFilename);
+    }
+
+    @Test
+    void getNotCachedUntilVerified(@TempDir Path dataPath) {
+        properties.getMirrorProperties().setDataPath(dataPath);
+        properties.getCache().setEnabled(true);
+        compositeStreamFileProvider =
+                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1, streamFileProvider2));
+        when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.just(DATA));
+
+        for (int i = 0; i < 2; ++i) {
+            StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                    .thenAwait(WAIT)
+                    .expectNext(DATA)
+                    .expectComplete()
+                    .verify(WAIT);
+        }
+
+        verify(streamFileProvider1, times(2)).get(NODE, FILENAME);
+    }
+
     @Test
     void getRecovers() {
         when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.error(new IllegalStateException("error")));
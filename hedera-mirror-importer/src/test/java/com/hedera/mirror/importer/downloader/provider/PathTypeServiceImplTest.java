@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.MirrorProperties;
+import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class PathTypeServiceImplTest extends IntegrationTest {
+
+    private final JdbcOperations jdbcOperations;
+
+    private CommonDownloaderProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new CommonDownloaderProperties(new MirrorProperties());
+    }
+
+    @Test
+    void getEmpty() {
+        var pathTypeService = new PathTypeServiceImpl(properties, jdbcOperations);
+        assertThat(pathTypeService.get(TestUtils.nodeFromAccountId("0.0.3"), StreamType.RECORD))
+                .isEmpty();
+    }
+
+    @Test
+    void save() {
+        var node = TestUtils.nodeFromAccountId("0.0.3");
+        var pathTypeService = new PathTypeServiceImpl(properties, jdbcOperations);
+
+        pathTypeService.save(node, StreamType.RECORD, PathType.NODE_ID);
+        pathTypeService.save(node, StreamType.RECORD, PathType.NODE_ID);
+
+        assertThat(pathTypeService.get(node, StreamType.RECORD)).contains(PathType.NODE_ID);
+        assertThat(pathTypeService.get(node, StreamType.BALANCE)).isEmpty();
+        assertThat(jdbcOperations.queryForObject("select count(*) from node_stream_path", Integer.class))
+                .isOne();
+    }
+
+    @Test
+    void load() {
+        var node = TestUtils.nodeFromAccountId("0.0.3");
+        new PathTypeServiceImpl(properties, jdbcOperations).save(node, StreamType.RECORD, PathType.NODE_ID);
+
+        // A new instance such as a standby replica after failover reads the saved state
+        var pathTypeService = new PathTypeServiceImpl(properties, jdbcOperations);
+
+        assertThat(pathTypeService.get(node, StreamType.RECORD)).contains(PathType.NODE_ID);
+        assertThat(pathTypeService.get(TestUtils.nodeFromAccountId("0.0.4"), StreamType.RECORD))
+                .isEmpty();
+    }
+
+    @Test
+    void refresh() {
+        var node = TestUtils.nodeFromAccountId("0.0.3");
+        properties.setPathRefreshInterval(Duration.ofMillis(100L));
+        var pathTypeService = new PathTypeServiceImpl(properties, jdbcOperations);
+        assertThat(pathTypeService.get(node, StreamType.RECORD)).isEmpty();
+
+        // Another importer such as the leader saves the path type after this instance has loaded
+        new PathTypeServiceImpl(properties, jdbcOperations).save(node, StreamType.RECORD, PathType.NODE_ID);
+
+        await().atMost(Duration.ofSeconds(2))
+                .pollInterval(Duration.ofMillis(50))
+                .untilAsserted(() -> assertThat(pathTypeService.get(node, StreamType.RECORD))
+                        .contains(PathType.NODE_ID));
+    }
+}
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.downloader.provider;
 
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 
 import com.hedera.mirror.common.domain.StreamType;
@@ -42,6 +43,8 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
 
     private static final int S3_PROXY_PORT = 8001;
 
+    protected PathTypeService pathTypeService;
+
     private S3Proxy s3Proxy;
 
     @Override
@@ -64,7 +67,8 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
                 .forcePathStyle(true)
                 .region(Region.of(properties.getRegion()))
                 .build();
-        streamFileProvider = new S3StreamFileProvider(properties, s3AsyncClient);
+        pathTypeService = mock(PathTypeService.class);
+        streamFileProvider = new S3StreamFileProvider(properties, pathTypeService, s3AsyncClient);
         startS3Proxy();
     }
 
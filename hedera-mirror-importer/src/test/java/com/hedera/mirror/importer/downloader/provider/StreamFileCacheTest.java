@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.CacheProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class StreamFileCacheTest {
+
+    private static final String FILENAME1 = "recordstreams/record0.0.3/2022-07-13T08_46_08.041986003Z.rcd_sig";
+    private static final String FILENAME2 = "recordstreams/record0.0.3/2022-07-13T08_46_11.304284003Z.rcd_sig";
+    private static final String FILENAME3 = "recordstreams/record0.0.3/2022-07-13T08_46_14.183870003Z.rcd_sig";
+
+    @TempDir
+    private Path dataPath;
+
+    private CacheProperties properties;
+    private StreamFileCache cache;
+
+    @BeforeEach
+    void setup() {
+        properties = new CacheProperties();
+        properties.setEnabled(true);
+        cache = new StreamFileCache(properties, dataPath);
+    }
+
+    @Test
+    void get() {
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+
+        var cached = cache.get(streamFileData.getStreamFilename());
+        assertThat(cached).get().satisfies(d -> {
+            assertThat(d.getStreamFilename()).isEqualTo(streamFileData.getStreamFilename());
+            assertThat(d.getBytes()).isEqualTo(streamFileData.getBytes());
+            assertThat(d.getLastModified())
+                    .isEqualTo(streamFileData.getLastModified().truncatedTo(ChronoUnit.MILLIS));
+        });
+        assertThat(dataPath.resolve(StreamFileCache.CACHE).resolve(FILENAME1)).exists();
+    }
+
+    @Test
+    void getMissing() {
+        assertThat(cache.get(StreamFilename.from(FILENAME1))).isEmpty();
+    }
+
+    @Test
+    void getCorrupted() throws IOException {
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+        var path = dataPath.resolve(StreamFileCache.CACHE).resolve(FILENAME1);
+        Files.write(path, new byte[] {1}, StandardOpenOption.WRITE);
+
+        assertThat(cache.get(streamFileData.getStreamFilename())).isEmpty();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void getTruncated() throws IOException {
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+        var path = dataPath.resolve(StreamFileCache.CACHE).resolve(FILENAME1);
+        Files.write(path, new byte[] {1});
+
+        assertThat(cache.get(streamFileData.getStreamFilename())).isEmpty();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void disabled() {
+        properties.setEnabled(false);
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+
+        assertThat(cache.get(streamFileData.getStreamFilename())).isEmpty();
+        assertThat(dataPath.resolve(StreamFileCache.CACHE)).doesNotExist();
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        var data1 = StreamFileData.from(FILENAME1, "data1");
+        var data2 = StreamFileData.from(FILENAME2, "data2");
+        var data3 = StreamFileData.from(FILENAME3, "data3");
+        cache.put(data1);
+        long fileSize = dataPath.resolve(StreamFileCache.CACHE).resolve(FILENAME1).toFile().length();
+        properties.setMaxSize(DataSize.ofBytes(fileSize * 2));
+
+        cache.put(data2);
+        assertThat(cache.get(data1.getStreamFilename())).isPresent();
+        cache.put(data3);
+
+        assertThat(cache.get(data1.getStreamFilename())).isPresent();
+        assertThat(cache.get(data2.getStreamFilename())).isEmpty();
+        assertThat(cache.get(data3.getStreamFilename())).isPresent();
+        assertThat(dataPath.resolve(StreamFileCache.CACHE).resolve(FILENAME2)).doesNotExist();
+    }
+
+    @Test
+    void putTooLarge() {
+        properties.setMaxSize(DataSize.ofBytes(1L));
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+        assertThat(cache.get(streamFileData.getStreamFilename())).isEmpty();
+    }
+
+    @Test
+    void putPathTraversal() {
+        var streamFilename = StreamFilename.from("../../2022-07-13T08_46_08.041986003Z.rcd_sig");
+        cache.put(new StreamFileData(streamFilename, new byte[] {1}, null));
+        assertThat(cache.get(streamFilename)).isEmpty();
+        assertThat(dataPath.getParent().resolve("2022-07-13T08_46_08.041986003Z.rcd_sig")).doesNotExist();
+    }
+
+    @Test
+    void reload() throws IOException {
+        var streamFileData = StreamFileData.from(FILENAME1, "data");
+        cache.put(streamFileData);
+        var temp = dataPath.resolve(StreamFileCache.CACHE).resolve("leftover.tmp");
+        Files.write(temp, new byte[] {1});
+
+        var reloaded = new StreamFileCache(properties, dataPath);
+
+        assertThat(reloaded.get(streamFileData.getStreamFilename()))
+                .get()
+                .extracting(StreamFileData::getBytes)
+                .isEqualTo(streamFileData.getBytes());
+        assertThat(temp).doesNotExist();
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
@@ -28,6 +29,7 @@ import com.hedera.mirror.importer.downloader.AbstractLinkedStreamDownloaderTest;
 import com.hedera.mirror.importer.downloader.Downloader;
 import com.hedera.mirror.importer.downloader.DownloaderProperties;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.parser.record.sidecar.SidecarProperties;
 import com.hedera.mirror.importer.reader.record.CompositeRecordFileReader;
 import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
@@ -37,6 +39,7 @@ import com.hedera.mirror.importer.reader.record.RecordFileReaderImplV5;
 import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReaderImpl;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +56,8 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
 
     protected SidecarProperties sidecarProperties;
 
+    protected StreamFileProvider streamFileProvider;
+
     @Override
     @BeforeEach
     protected void beforeEach() {
@@ -81,7 +86,8 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
                 new ProtoRecordFileReader());
         sidecarProperties = new SidecarProperties();
         sidecarProperties.setEnabled(true);
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        streamFileProvider =
+                spy(new S3StreamFileProvider(commonDownloaderProperties, pathTypeService, s3AsyncClient));
         return new RecordFileDownloader(
                 consensusNodeService,
                 (RecordDownloaderProperties) downloaderProperties,
@@ -110,7 +116,10 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
                             .returns(expected.getSidecarCount(), RecordFile::getSidecarCount)
                             .returns(expected.getSize(), RecordFile::getSize),
                     () -> assertThat(recordFile.getSidecars())
-                            .containsExactlyInAnyOrderElementsOf(expected.getSidecars())
+                            // Sidecar records are attached to record items and not retained in the sidecar file
+                            .containsExactlyInAnyOrderElementsOf(expected.getSidecars().stream()
+                                    .map(s -> s.toBuilder().records(Collections.emptyList()).build())
+                                    .toList())
                             .allMatch(sidecar -> sidecarProperties.isPersistBytes() ^ (sidecar.getBytes() == null)));
         };
         super.verifyStreamFiles(files, recordAssert.andThen(extraAssert));
@@ -17,6 +17,9 @@
 package com.hedera.mirror.importer.downloader.record;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -75,6 +78,32 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
         assertThat(mirrorProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @Test
+    void backfillSingleNodeSidecarFileCorrupted() throws IOException {
+        commonDownloaderProperties.getBackfill().setEnabled(true);
+        var corruptedNode = nodes.iterator().next().getNodeAccountId().toString();
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(p -> p.endsWith(SIDECAR_FILENAME))
+                .filter(p -> p.toString().contains(corruptedNode))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    void sidecarVerified() {
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        verify(streamFileProvider).onVerified(argThat(d -> d.getFilename().equals(SIDECAR_FILENAME)));
+    }
+
     @Test
     void sidecarTypesFilter() {
         // The test sidecar file has CONTRACT_BYTECODE and CONTRACT_STATE_CHANGE
@@ -157,6 +186,7 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
 
             verifyForSuccess(List.of(file1));
             assertThat(mirrorProperties.getDataPath()).isEmptyDirectory();
+            verify(streamFileProvider, never()).onVerified(argThat(d -> d.getFilename().equals(SIDECAR_FILENAME)));
         }
     }
 
@@ -23,10 +23,8 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.importer.EnabledIfV1;
 import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.db.DBProperties;
-import jakarta.annotation.Nonnull;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
@@ -40,7 +38,6 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.transaction.support.TransactionOperations;
 
 @EnabledIfV1
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -52,7 +49,6 @@ class AsyncJavaMigrationTest extends IntegrationTest {
 
     private final DBProperties dbProperties;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final TransactionOperations transactionOperations;
     private final String script = TestAsyncJavaMigration.class.getName();
 
     @AfterEach
@@ -147,7 +143,7 @@ class AsyncJavaMigrationTest extends IntegrationTest {
                 });
     }
 
-    private void migrateSync(AsyncJavaMigration<?> migration) throws Exception {
+    private void migrateSync(AsyncJavaMigration migration) throws Exception {
         migration.doMigrate();
 
         while (!migration.isComplete()) {
@@ -163,7 +159,7 @@ class AsyncJavaMigrationTest extends IntegrationTest {
     }
 
     @Value
-    private class TestAsyncJavaMigration extends AsyncJavaMigration<Long> {
+    private class TestAsyncJavaMigration extends AsyncJavaMigration {
 
         private final boolean error;
         private final long sleep;
@@ -182,9 +178,8 @@ class AsyncJavaMigrationTest extends IntegrationTest {
             return TEST_MIGRATION_DESCRIPTION;
         }
 
-        @Nonnull
         @Override
-        protected Optional<Long> migratePartial(final Long last) {
+        protected void migrateAsync() {
             if (sleep > 0) {
                 Uninterruptibles.sleepUninterruptibly(sleep, TimeUnit.SECONDS);
             }
@@ -192,18 +187,6 @@ class AsyncJavaMigrationTest extends IntegrationTest {
             if (error) {
                 throw new RuntimeException();
             }
-
-            return Optional.empty();
-        }
-
-        @Override
-        protected TransactionOperations getTransactionOperations() {
-            return transactionOperations;
-        }
-
-        @Override
-        protected Long getInitial() {
-            return Long.MAX_VALUE;
         }
     }
 }
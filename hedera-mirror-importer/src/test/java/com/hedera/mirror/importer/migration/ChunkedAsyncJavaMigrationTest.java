@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.db.DBProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@EnabledIfV1
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Tag("migration")
+class ChunkedAsyncJavaMigrationTest extends IntegrationTest {
+
+    private static final String TEST_MIGRATION_DESCRIPTION = "Chunked async java migration for testing";
+
+    private final DBProperties dbProperties;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final String className = TestChunkedAsyncJavaMigration.class.getName();
+
+    private MigrationProperties migrationProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    @BeforeEach
+    void cleanup() {
+        migrationProperties = new MigrationProperties();
+        migrationProperties.setChunkSize(3L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void migrate(int parallelism) {
+        migrationProperties.setParallelism(parallelism);
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), -1L);
+
+        migration.migrateAsync();
+
+        assertThat(migration.chunks)
+                .containsExactlyInAnyOrder(
+                        Range.openClosed(0L, 3L),
+                        Range.openClosed(3L, 6L),
+                        Range.openClosed(6L, 9L),
+                        Range.openClosed(9L, 10L));
+        assertThat(migration.migrated).isTrue();
+        assertThat(getCheckpoints()).isEmpty();
+        assertThat(meterRegistry
+                        .get("hedera.mirror.importer.migration.progress")
+                        .tag("migration", TestChunkedAsyncJavaMigration.class.getSimpleName())
+                        .gauge()
+                        .value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void migrateEmptyKeySpace() {
+        var migration = new TestChunkedAsyncJavaMigration(null, -1L);
+        migration.migrateAsync();
+        assertThat(migration.chunks).isEmpty();
+        assertThat(migration.migrated).isFalse();
+    }
+
+    @Test
+    void migrateError() {
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), 6L);
+
+        assertThatThrownBy(migration::migrateAsync).isInstanceOf(IllegalStateException.class);
+
+        assertThat(migration.chunks).containsExactly(Range.openClosed(0L, 3L), Range.openClosed(3L, 6L));
+        assertThat(migration.migrated).isFalse();
+        assertThat(getCheckpoints()).containsExactly(Range.openClosed(0L, 3L), Range.openClosed(3L, 6L));
+    }
+
+    @Test
+    void migrateFromCheckpoint() {
+        addCheckpoint(1, 0L, 3L);
+        addCheckpoint(1, 6L, 9L);
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), -1L);
+
+        migration.migrateAsync();
+
+        assertThat(migration.chunks).containsExactly(Range.openClosed(3L, 6L), Range.openClosed(9L, 10L));
+        assertThat(migration.migrated).isTrue();
+        assertThat(getCheckpoints()).isEmpty();
+    }
+
+    @Test
+    void migrateFromCheckpointWithDifferentChunkSize() {
+        addCheckpoint(1, 0L, 3L);
+        migrationProperties.setChunkSize(5L);
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), -1L);
+
+        migration.migrateAsync();
+
+        assertThat(migration.chunks).containsExactly(Range.openClosed(3L, 8L), Range.openClosed(8L, 10L));
+    }
+
+    @Test
+    void migrateIgnoresCheckpointOutsideKeySpace() {
+        addCheckpoint(1, 20L, 23L);
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), -1L);
+
+        migration.migrateAsync();
+
+        assertThat(migration.chunks).hasSize(4);
+        assertThat(getCheckpoints()).isEmpty();
+    }
+
+    @Test
+    void migrateIgnoresStaleCheckpoint() {
+        addCheckpoint(1, 0L, 3L);
+        migrationProperties.setChecksum(2);
+        var migration = new TestChunkedAsyncJavaMigration(Range.openClosed(0L, 10L), 3L);
+
+        assertThatThrownBy(migration::migrateAsync).isInstanceOf(IllegalStateException.class);
+
+        assertThat(migration.chunks).containsExactly(Range.openClosed(0L, 3L));
+        assertThat(getCheckpoints()).containsExactly(Range.openClosed(0L, 3L));
+        assertThat(namedParameterJdbcTemplate.queryForObject(
+                        "select checksum from async_migration_checkpoint", Map.of(), Integer.class))
+                .isEqualTo(2);
+    }
+
+    private void addCheckpoint(int checksum, long lower, long upper) {
+        var paramSource = new MapSqlParameterSource()
+                .addValue("checksum", checksum)
+                .addValue("className", className)
+                .addValue("lower", lower)
+                .addValue("upper", upper);
+        var sql =
+                """
+                insert into async_migration_checkpoint (checksum, class_name, lower_bound, upper_bound)
+                values (:checksum, :className, :lower, :upper)
+                """;
+        namedParameterJdbcTemplate.update(sql, paramSource);
+    }
+
+    private List<Range<Long>> getCheckpoints() {
+        return namedParameterJdbcTemplate.query(
+                "select * from async_migration_checkpoint where class_name = :className order by lower_bound",
+                Map.of("className", className),
+                (rs, rowNum) -> Range.openClosed(rs.getLong("lower_bound"), rs.getLong("upper_bound")));
+    }
+
+    private class TestChunkedAsyncJavaMigration extends ChunkedAsyncJavaMigration {
+
+        private final Collection<Range<Long>> chunks = new ConcurrentLinkedQueue<>();
+        private final long errorAt;
+        private final Range<Long> keySpace;
+        private boolean migrated;
+
+        public TestChunkedAsyncJavaMigration(Range<Long> keySpace, long errorAt) {
+            super(
+                    Map.of("testChunkedAsyncJavaMigration", ChunkedAsyncJavaMigrationTest.this.migrationProperties),
+                    ChunkedAsyncJavaMigrationTest.this.meterRegistry,
+                    ChunkedAsyncJavaMigrationTest.this.namedParameterJdbcTemplate,
+                    dbProperties.getSchema());
+            this.errorAt = errorAt;
+            this.keySpace = keySpace;
+        }
+
+        @Override
+        public String getDescription() {
+            return TEST_MIGRATION_DESCRIPTION;
+        }
+
+        @Override
+        protected long getDefaultChunkSize() {
+            return 1L;
+        }
+
+        @Override
+        protected Optional<Range<Long>> getKeySpace() {
+            return Optional.ofNullable(keySpace);
+        }
+
+        @Override
+        protected void migrateChunk(long lower, long upper) {
+            if (lower == errorAt) {
+                throw new IllegalStateException("Failed to migrate chunk");
+            }
+
+            chunks.add(Range.openClosed(lower, upper));
+        }
+
+        @Override
+        protected void onMigrated() {
+            migrated = true;
+        }
+
+        @Override
+        protected TransactionOperations getTransactionOperations() {
+            return transactionOperations;
+        }
+    }
+}
@@ -38,6 +38,7 @@ import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransferList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -73,10 +74,9 @@ class FixCryptoAllowanceAmountMigrationTest extends IntegrationTest {
 
     @BeforeEach
     void setup() {
-        // Create migration object for each test case due to the cached earliestTimestamp
         var mirrorProperties = new MirrorProperties();
-        migration =
-                new FixCryptoAllowanceAmountMigration(dbProperties, entityProperties, mirrorProperties, jdbcTemplate);
+        migration = new FixCryptoAllowanceAmountMigration(
+                dbProperties, entityProperties, new SimpleMeterRegistry(), mirrorProperties, jdbcTemplate);
     }
 
     @AfterEach
@@ -289,7 +289,7 @@ class FixCryptoAllowanceAmountMigrationTest extends IntegrationTest {
         var entityProperties = new EntityProperties();
         entityProperties.getPersist().setTrackAllowance(trackAllowance);
         var migration = new FixCryptoAllowanceAmountMigration(
-                dbProperties, entityProperties, new MirrorProperties(), jdbcTemplate);
+                dbProperties, entityProperties, new SimpleMeterRegistry(), new MirrorProperties(), jdbcTemplate);
         var configuration = new FluentConfiguration().target(migration.getMinimumVersion());
 
         // when, then
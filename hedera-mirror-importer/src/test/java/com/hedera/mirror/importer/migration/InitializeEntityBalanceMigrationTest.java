@@ -37,6 +37,7 @@ import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
@@ -119,6 +120,25 @@ class InitializeEntityBalanceMigrationTest extends IntegrationTest {
         assertThat(entityRepository.findAll()).containsExactlyInAnyOrder(account, accountDeleted, contract, topic);
     }
 
+    @Test
+    void migrateWithFeeTransfers() {
+        // given
+        setup();
+        domainBuilder
+                .feeTransfer()
+                .customize(f -> f.amounts(List.of(40L))
+                        .consensusTimestamp(recordFile2.getConsensusStart() + 20L)
+                        .entityIds(List.of(account.getId())))
+                .persist();
+        account.setBalance(545L);
+
+        // when
+        migration.doMigrate();
+
+        // then
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrder(account, accountDeleted, contract, topic);
+    }
+
     @Test
     void migrateWhenNoAccountBalance() {
         // given
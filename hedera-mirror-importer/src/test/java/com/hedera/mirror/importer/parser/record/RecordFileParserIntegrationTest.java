@@ -20,9 +20,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.RecordFileBuilder;
 import com.hedera.mirror.importer.reader.record.RecordFileReader;
 import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
@@ -31,19 +34,36 @@ import com.hedera.mirror.importer.repository.TransactionRepository;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import reactor.core.publisher.Flux;
 
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 class RecordFileParserIntegrationTest extends IntegrationTest {
 
+    private static final String TABLES_SQL =
+            """
+            select table_name from information_schema.tables
+            where table_schema = current_schema() and table_type = 'BASE TABLE'
+              and table_name <> 'flyway_schema_history'
+            order by table_name
+            """;
+    private static final String TABLE_ROWS_SQL =
+            "select (to_jsonb(t) - 'load_end' - 'load_start')::text from %s t order by 1";
+
     private final CryptoTransferRepository cryptoTransferRepository;
     private final EntityRepository entityRepository;
+    private final RecordFileBuilder recordFileBuilder;
     private final RecordFileParser recordFileParser;
+    private final RecordParserProperties recordParserProperties;
     private final RecordFileReader recordFileReader;
     private final RecordFileRepository recordFileRepository;
     private final TransactionRepository transactionRepository;
@@ -57,6 +77,11 @@ class RecordFileParserIntegrationTest extends IntegrationTest {
     private RecordFileDescriptor recordFileDescriptor1;
     private RecordFileDescriptor recordFileDescriptor2;
 
+    @AfterEach
+    void after() {
+        recordParserProperties.setParallelism(1);
+    }
+
     @BeforeEach
     void before() {
         RecordFile recordFile1 = recordFile(recordFilePath1.toFile(), 0L);
@@ -80,6 +105,54 @@ class RecordFileParserIntegrationTest extends IntegrationTest {
         verifyFinalDatabaseState(recordFileDescriptor1, recordFileDescriptor2);
     }
 
+    @Test
+    void parseInParallel() {
+        // given the result of parsing serially
+        recordFileParser.parse(recordFileDescriptor1.recordFile());
+        recordFileParser.parse(recordFileDescriptor2.recordFile());
+        var expected = snapshot();
+        reset();
+        before();
+
+        // when
+        recordParserProperties.setParallelism(4);
+        recordFileParser.parse(recordFileDescriptor1.recordFile());
+        recordFileParser.parse(recordFileDescriptor2.recordFile());
+
+        // then
+        verifyFinalDatabaseState(recordFileDescriptor1, recordFileDescriptor2);
+        assertThat(snapshot()).containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    void parseInParallelMixedTransactions() {
+        // given the result of parsing serially
+        var builder = recordFileBuilder.recordFile();
+        List.of(
+                        TransactionType.CONSENSUSSUBMITMESSAGE,
+                        TransactionType.CONTRACTCALL,
+                        TransactionType.CONTRACTCREATEINSTANCE,
+                        TransactionType.CRYPTOAPPROVEALLOWANCE,
+                        TransactionType.CRYPTOCREATEACCOUNT,
+                        TransactionType.CRYPTOTRANSFER,
+                        TransactionType.SCHEDULECREATE,
+                        TransactionType.TOKENCREATION,
+                        TransactionType.TOKENMINT)
+                .forEach(type -> builder.recordItems(i -> i.count(100).entities(100).type(type)));
+        var recordFile = builder.build();
+        var recordFileCopy = copy(recordFile);
+        recordFileParser.parse(recordFile);
+        var expected = snapshot();
+        reset();
+
+        // when
+        recordParserProperties.setParallelism(4);
+        recordFileParser.parse(recordFileCopy);
+
+        // then
+        assertThat(snapshot()).containsExactlyEntriesOf(expected);
+    }
+
     @Test
     void rollback() {
         // when
@@ -124,6 +197,32 @@ class RecordFileParserIntegrationTest extends IntegrationTest {
                 });
     }
 
+    // Record items are mutated while they're parsed, so parse a copy built from the same protobuf messages
+    private RecordFile copy(RecordFile recordFile) {
+        var recordItems = new ArrayList<RecordItem>();
+        recordFile
+                .getItems()
+                .doOnNext(r -> recordItems.add(RecordItem.builder()
+                        .hapiVersion(r.getHapiVersion())
+                        .previous(recordItems.isEmpty() ? null : recordItems.get(recordItems.size() - 1))
+                        .sidecarRecords(r.getSidecarRecords())
+                        .transaction(r.getTransaction())
+                        .transactionIndex(r.getTransactionIndex())
+                        .transactionRecord(r.getTransactionRecord())
+                        .build()))
+                .blockLast();
+        return recordFile.toBuilder().items(Flux.fromIterable(recordItems)).build();
+    }
+
+    // The rows of every table, so parsing in parallel is compared against parsing serially for all of them
+    private Map<String, List<String>> snapshot() {
+        var snapshot = new TreeMap<String, List<String>>();
+        for (var table : jdbcOperations.queryForList(TABLES_SQL, String.class)) {
+            snapshot.put(table, jdbcOperations.queryForList(String.format(TABLE_ROWS_SQL, table), String.class));
+        }
+        return snapshot;
+    }
+
     RecordFile recordFile(File file, long index) {
         RecordFile recordFile = recordFileReader.read(StreamFileData.from(file));
         recordFile.setIndex(index);
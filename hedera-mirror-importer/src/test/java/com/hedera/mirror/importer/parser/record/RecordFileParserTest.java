@@ -20,9 +20,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,15 +35,21 @@ import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.bloom.LogsBloomIndexService;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
 import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
+import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
@@ -53,6 +61,7 @@ import com.hederahashgraph.api.proto.java.TransactionRecord;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -64,6 +73,12 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     private final DomainBuilder domainBuilder = new DomainBuilder();
     private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
 
+    @Mock(strictness = LENIENT)
+    private EntityIdService entityIdService;
+
+    @Mock(strictness = LENIENT)
+    private LogsBloomIndexService logsBloomIndexService;
+
     @Mock
     private RecordFileRepository recordFileRepository;
 
@@ -105,6 +120,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         when(mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType()))
                 .thenReturn(DateRangeFilter.all());
         return new RecordFileParser(
+                entityIdService,
+                logsBloomIndexService,
                 new SimpleMeterRegistry(),
                 parserProperties,
                 recordFileRepository,
@@ -161,6 +178,61 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         verify(recordStreamFileListener).onEnd(recordFile);
     }
 
+    @Test
+    void preloadEntityIds() {
+        // given
+        var alias = AccountID.newBuilder()
+                .setAlias(recordItemBuilder.bytes(DomainUtils.EVM_ADDRESS_LENGTH))
+                .build();
+        var contractId = ContractID.newBuilder()
+                .setEvmAddress(recordItemBuilder.bytes(DomainUtils.EVM_ADDRESS_LENGTH))
+                .build();
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(alias)
+                                .setAmount(100L)))
+                .build();
+        var contractCall = recordItemBuilder.contractCall(contractId).build();
+        var recordFile = getStreamFile(Flux.just(cryptoTransfer, contractCall), ++count * 100);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        var inOrder = inOrder(entityIdService, recordItemListener);
+        inOrder.verify(entityIdService)
+                .preload(argThat(accountIds -> accountIds.contains(alias)), argThat(c -> c.contains(contractId)));
+        inOrder.verify(recordItemListener).onItem(cryptoTransfer);
+        inOrder.verify(recordItemListener).onItem(contractCall);
+    }
+
+    @Test
+    void parseInParallel() {
+        // given
+        ((RecordParserProperties) parserProperties).setParallelism(4);
+        when(recordItemListener.prepare(any())).thenAnswer(invocation -> {
+            RecordItem item = invocation.getArgument(0);
+            return (Runnable) () -> recordItemListener.onItem(item);
+        });
+        long timestamp = ++count * 1000;
+        var recordItems = LongStream.range(0, 600)
+                .mapToObj(i -> cryptoTransferRecordItem(timestamp + i))
+                .toList();
+        var recordFile = getStreamFile(Flux.fromIterable(recordItems), timestamp);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        var inOrder = inOrder(recordItemListener);
+        recordItems.forEach(r -> inOrder.verify(recordItemListener).onItem(r));
+        verify(recordItemListener, times(recordItems.size())).prepare(any());
+        verify(recordStreamFileListener).onEnd(recordFile);
+        assertEquals(recordItems.size(), recordFile.getCount());
+    }
+
     @Test
     void totalGasUsedMustBeCorrect() {
         when(mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType()))
@@ -246,6 +318,9 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         assertParsed(streamFile1, true, false);
         assertParsed(streamFile2, true, false);
         verify(recordFileRepository).updateIndex(offset - 1);
+        verify(logsBloomIndexService).reset();
+        verify(logsBloomIndexService).index(streamFile1);
+        verify(logsBloomIndexService).index(streamFile2);
     }
 
     @Test
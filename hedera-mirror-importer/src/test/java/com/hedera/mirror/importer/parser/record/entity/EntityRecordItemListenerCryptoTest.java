@@ -45,11 +45,15 @@ import com.hedera.mirror.common.domain.transaction.ErrataType;
 import com.hedera.mirror.common.domain.transaction.ItemizedTransfer;
 import com.hedera.mirror.common.domain.transaction.LiveHash;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
+import com.hedera.mirror.common.domain.transaction.FeeTransferRollup;
 import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.repository.ContractRepository;
 import com.hedera.mirror.importer.repository.CryptoAllowanceRepository;
+import com.hedera.mirror.importer.repository.FeeTransferRepository;
+import com.hedera.mirror.importer.repository.FeeTransferRollupRepository;
 import com.hedera.mirror.importer.repository.NftAllowanceRepository;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.repository.TokenAllowanceRepository;
@@ -110,6 +114,8 @@ class EntityRecordItemListenerCryptoTest extends AbstractEntityRecordItemListene
 
     private final ContractRepository contractRepository;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
+    private final FeeTransferRepository feeTransferRepository;
+    private final FeeTransferRollupRepository feeTransferRollupRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
     private final NftRepository nftRepository;
     private final TokenAllowanceRepository tokenAllowanceRepository;
@@ -128,6 +134,7 @@ class EntityRecordItemListenerCryptoTest extends AbstractEntityRecordItemListene
     @AfterEach
     void after() {
         entityProperties.getPersist().setEntityTransactions(false);
+        entityProperties.getPersist().setFeeTransfers(false);
         entityProperties.getPersist().setItemizedTransfers(false);
     }
 
@@ -472,6 +479,54 @@ class EntityRecordItemListenerCryptoTest extends AbstractEntityRecordItemListene
                         dbAccountEntity.getStakePeriodStart()));
     }
 
+    @Test
+    void cryptoTransferWithFeeTransfers() {
+        // given
+        entityProperties.getPersist().setFeeTransfers(true);
+        var recordItem = recordItemBuilder
+                .cryptoTransfer()
+                .record(r -> r.getTransferListBuilder()
+                        .addAccountAmounts(accountAmount(STAKING_REWARD_ACCOUNT, 100L))
+                        .addAccountAmounts(accountAmount(STAKING_REWARD_ACCOUNT + 1, 200L)))
+                .build();
+        var transfers = recordItem.getTransactionRecord().getTransferList().getAccountAmountsList();
+
+        // when
+        parseRecordItemAndCommit(recordItem);
+
+        // then
+        long consensusTimestamp = recordItem.getConsensusTimestamp();
+        var expectedFeeTransfer = FeeTransfer.builder()
+                .amounts(List.of(1000L, 2000L, 100L, 200L))
+                .consensusTimestamp(consensusTimestamp)
+                .entityIds(List.of(3L, 98L, 800L, 801L))
+                .payerAccountId(recordItem.getPayerAccountId())
+                .build();
+        var expectedRollups = new ArrayList<FeeTransferRollup>();
+        for (int i = 0; i < expectedFeeTransfer.getEntityIds().size(); i++) {
+            expectedRollups.add(FeeTransferRollup.builder()
+                    .amount(expectedFeeTransfer.getAmounts().get(i))
+                    .consensusEnd(consensusTimestamp + 1)
+                    .consensusStart(consensusTimestamp)
+                    .entityId(expectedFeeTransfer.getEntityIds().get(i))
+                    .transferCount(1)
+                    .build());
+        }
+        var allTransfers = jdbcOperations.queryForObject(
+                "select count(*) from crypto_transfer_all where consensus_timestamp = ?",
+                Integer.class,
+                consensusTimestamp);
+
+        assertAll(
+                () -> assertThat(cryptoTransferRepository.findAll())
+                        .hasSize(transfers.size() - 4)
+                        .allSatisfy(t -> assertThat(t.getAmount()).isNegative()),
+                () -> assertThat(feeTransferRepository.findAll()).containsExactly(expectedFeeTransfer),
+                () -> assertThat(feeTransferRollupRepository.findAll())
+                        .containsExactlyInAnyOrderElementsOf(expectedRollups),
+                () -> assertThat(allTransfers).isEqualTo(transfers.size()));
+    }
+
     @Test
     void cryptoTransferWithPaidStakingRewards() {
         // given
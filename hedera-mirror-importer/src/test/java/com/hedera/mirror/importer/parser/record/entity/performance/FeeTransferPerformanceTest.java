@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.performance;
+
+import static com.hedera.mirror.importer.parser.domain.RecordItemBuilder.STAKING_REWARD_ACCOUNT;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.parser.record.entity.AbstractEntityRecordItemListenerTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmarks the storage per transaction and the ingest throughput of persisting the fee credits to the node, 0.0.98
+ * and 0.0.800 as individual crypto transfers (today's schema) versus as compact fee transfers with per record file
+ * rollups. Both runs go through the record item listener so the cost of building and rolling up the fee transfers is
+ * included.
+ */
+@Tag("performance")
+class FeeTransferPerformanceTest extends AbstractEntityRecordItemListenerTest {
+
+    private static final int RECORD_FILES = 20;
+    private static final int RECORD_FILE_SIZE = 5_000;
+    private static final String TABLE_SIZE_SQL =
+            """
+            select coalesce(sum(pg_total_relation_size(c.oid)), 0)
+            from pg_class c
+            where c.oid = ?::regclass or c.oid in (select inhrelid from pg_inherits where inhparent = ?::regclass)
+            """;
+    private static final int TRANSACTIONS = RECORD_FILES * RECORD_FILE_SIZE;
+
+    @AfterEach
+    void after() {
+        entityProperties.getPersist().setFeeTransfers(false);
+    }
+
+    @Test
+    void compare() {
+        var rows = ingest(false);
+        jdbcOperations.execute("truncate crypto_transfer, fee_transfer, fee_transfer_rollup");
+        var compact = ingest(true);
+
+        log.info(
+                "Individual rows: {} transfers, {} bytes/transaction, {} transactions/s",
+                rows.transfers(),
+                rows.bytesPerTransaction(),
+                rows.rate());
+        log.info(
+                "Compact fee transfers: {} transfers, {} bytes/transaction, {} transactions/s",
+                compact.transfers(),
+                compact.bytesPerTransaction(),
+                compact.rate());
+    }
+
+    private Result ingest(boolean feeTransfers) {
+        entityProperties.getPersist().setFeeTransfers(feeTransfers);
+        long elapsed = 0L;
+
+        for (int i = 0; i < RECORD_FILES; i++) {
+            var recordItems = recordItems();
+            var stopwatch = Stopwatch.createStarted();
+            parseRecordItemsAndCommit(recordItems);
+            elapsed += stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        }
+
+        long bytes = tableSize("crypto_transfer") + tableSize("fee_transfer") + tableSize("fee_transfer_rollup");
+        long transfers = jdbcOperations.queryForObject("select count(*) from crypto_transfer_all", Long.class);
+        return new Result(bytes, elapsed, transfers);
+    }
+
+    private List<RecordItem> recordItems() {
+        var recordItems = new ArrayList<RecordItem>(RECORD_FILE_SIZE);
+        for (int i = 0; i < RECORD_FILE_SIZE; i++) {
+            recordItems.add(recordItemBuilder
+                    .cryptoTransfer()
+                    .record(r -> r.getTransferListBuilder()
+                            .addAccountAmounts(accountAmount(STAKING_REWARD_ACCOUNT, 80L)))
+                    .build());
+        }
+        return recordItems;
+    }
+
+    private long tableSize(String table) {
+        jdbcOperations.execute("vacuum analyze " + table);
+        return jdbcOperations.queryForObject(TABLE_SIZE_SQL, Long.class, table, table);
+    }
+
+    private record Result(long bytes, long elapsedMillis, long transfers) {
+
+        long bytesPerTransaction() {
+            return bytes / TRANSACTIONS;
+        }
+
+        long rate() {
+            return TRANSACTIONS * 1000L / Math.max(elapsedMillis, 1L);
+        }
+    }
+}
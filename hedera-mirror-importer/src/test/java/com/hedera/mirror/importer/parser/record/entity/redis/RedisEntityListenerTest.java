@@ -16,11 +16,16 @@
 
 package com.hedera.mirror.importer.parser.record.entity.redis;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.primitives.Longs;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
@@ -28,16 +33,24 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.importer.parser.record.entity.EntityBatchCleanupEvent;
 import com.hedera.mirror.importer.parser.record.entity.EntityBatchSaveEvent;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
@@ -46,9 +59,15 @@ class RedisEntityListenerTest {
 
     private static final Duration TIMEOUT = Duration.ofSeconds(2L);
 
-    @Mock
+    @Mock(strictness = LENIENT)
+    private RedisConnection redisConnection;
+
+    @Mock(strictness = LENIENT)
     private RedisOperations<String, StreamMessage> redisOperations;
 
+    private final Map<String, List<Long>> published = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private RedisEntityListener entityListener;
 
     private long consensusTimestamp = 1;
@@ -57,36 +76,42 @@ class RedisEntityListenerTest {
 
     @BeforeEach
     void setup() {
+        when(redisConnection.publish(any(), any())).then(invocation -> {
+            String channel = new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+            long timestamp = Longs.fromByteArray(invocation.getArgument(1));
+            published.computeIfAbsent(channel, k -> new ArrayList<>()).add(timestamp);
+            return 1L;
+        });
+        when(redisOperations.executePipelined(any(RedisCallback.class)))
+                .then(invocation -> publish(invocation.getArgument(0)));
         redisProperties = new RedisProperties();
-        entityListener = new RedisEntityListener(redisProperties, redisOperations, new SimpleMeterRegistry());
+        entityListener = new RedisEntityListener(redisProperties, redisOperations, new TestSerializer(), meterRegistry);
         entityListener.init();
     }
 
+    @AfterEach
+    void teardown() {
+        entityListener.shutdown();
+    }
+
     @Test
     void onSlowPublish() {
         // given
-        int publishCount = redisProperties.getQueueCapacity() + 2;
-        Sinks.Many<Object> sink = Sinks.many().multicast().directBestEffort();
+        int publishCount = redisProperties.getQueueCapacity() * redisProperties.getParallelism() + 2;
         Flux<Integer> publisher = Flux.range(1, publishCount).doOnNext(i -> {
-            submitAndSave(topicMessage());
+            submitAndSave(topicMessage(i));
             entityListener.onCleanup(new EntityBatchCleanupEvent(this));
         });
 
         // when
-        when(redisOperations.executePipelined(any(SessionCallback.class))).then((callback) -> {
-            Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(50L));
-            sink.tryEmitNext(callback);
-            return null;
-        });
+        doAnswer(invocation -> {
+                    Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(50L));
+                    return publish(invocation.getArgument(0));
+                })
+                .when(redisOperations)
+                .executePipelined(any(RedisCallback.class));
 
         // then
-        StepVerifier redisVerifier = sink.asFlux()
-                .subscribeOn(Schedulers.parallel())
-                .as(StepVerifier::create)
-                .expectNextCount(publishCount)
-                .thenCancel()
-                .verifyLater();
-
         publisher
                 .publishOn(Schedulers.parallel())
                 .as(StepVerifier::create)
@@ -94,9 +119,10 @@ class RedisEntityListenerTest {
                 .expectComplete()
                 .verify(TIMEOUT);
 
-        redisVerifier.verify(TIMEOUT);
-        verify(redisOperations, timeout(TIMEOUT.toMillis() * 5).times(publishCount))
-                .executePipelined(any(SessionCallback.class));
+        await().atMost(TIMEOUT.multipliedBy(5))
+                .untilAsserted(() -> assertThat(publishedCount()).isEqualTo(publishCount));
+        assertThat(meterRegistry.get("hedera.mirror.importer.publish.queue").gauge().value())
+                .isZero();
     }
 
     @Test
@@ -107,7 +133,7 @@ class RedisEntityListenerTest {
         // submitAndSave two messages, verify publish logic called twice
         submitAndSave(topicMessage1);
         submitAndSave(topicMessage2);
-        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
+        verify(redisConnection, timeout(TIMEOUT.toMillis()).times(2)).publish(any(), any());
     }
 
     @Test
@@ -121,7 +147,7 @@ class RedisEntityListenerTest {
         submitAndSave(topicMessage2);
         submitAndSave(topicMessage1);
         submitAndSave(topicMessage2);
-        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
+        verify(redisConnection, timeout(TIMEOUT.toMillis()).times(2)).publish(any(), any());
     }
 
     @Test
@@ -137,10 +163,68 @@ class RedisEntityListenerTest {
         submitAndSave(topicMessage2);
         submitAndSave(topicMessage3);
         // verify publish was only attempted three times (duplicates are skipped over)
-        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(3)).executePipelined(any(SessionCallback.class));
+        verify(redisConnection, timeout(TIMEOUT.toMillis()).times(3)).publish(any(), any());
+    }
+
+    @Test
+    void preservesOrderPerTopic() throws InterruptedException {
+        // given
+        int topics = redisProperties.getParallelism() * 2;
+        int count = 200;
+
+        // when
+        for (int i = 0; i < count; i++) {
+            entityListener.onTopicMessage(topicMessage(1000 + i % topics));
+            if (i % 7 == 0) {
+                entityListener.onSave(new EntityBatchSaveEvent(this));
+            }
+        }
+        entityListener.onSave(new EntityBatchSaveEvent(this));
+
+        // then
+        await().atMost(TIMEOUT).untilAsserted(() -> assertThat(publishedCount()).isEqualTo(count));
+        assertThat(published).hasSize(topics);
+        published.values().forEach(timestamps -> assertThat(timestamps).isSorted());
+    }
+
+    @Test
+    void coalescesBatches() throws InterruptedException {
+        // given
+        redisProperties.setParallelism(1);
+        entityListener.shutdown();
+        entityListener = new RedisEntityListener(redisProperties, redisOperations, new TestSerializer(), meterRegistry);
+        entityListener.init();
+        var pipelineSizes = new ArrayList<Integer>();
+        doAnswer(invocation -> {
+                    int before = publishedCount();
+                    Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(100L));
+                    publish(invocation.getArgument(0));
+                    synchronized (pipelineSizes) {
+                        pipelineSizes.add(publishedCount() - before);
+                    }
+                    return List.of();
+                })
+                .when(redisOperations)
+                .executePipelined(any(RedisCallback.class));
+
+        // when
+        for (int i = 0; i < redisProperties.getQueueCapacity(); i++) {
+            submitAndSave(topicMessage());
+        }
+
+        // then
+        await().atMost(TIMEOUT)
+                .untilAsserted(() -> assertThat(publishedCount()).isEqualTo(redisProperties.getQueueCapacity()));
+        synchronized (pipelineSizes) {
+            assertThat(pipelineSizes).hasSizeLessThan(redisProperties.getQueueCapacity());
+        }
     }
 
     protected TopicMessage topicMessage() {
+        return topicMessage(1001L);
+    }
+
+    protected TopicMessage topicMessage(long topicNum) {
         TopicMessage topicMessage = new TopicMessage();
         topicMessage.setChunkNum(1);
         topicMessage.setChunkTotal(2);
@@ -150,11 +234,20 @@ class RedisEntityListenerTest {
         topicMessage.setRunningHash("running hash".getBytes());
         topicMessage.setRunningHashVersion(2);
         topicMessage.setSequenceNumber(1);
-        topicMessage.setTopicId(EntityId.of("0.0.1001"));
+        topicMessage.setTopicId(EntityId.of(0L, 0L, topicNum));
         topicMessage.setValidStartTimestamp(4L);
         return topicMessage;
     }
 
+    private Object publish(RedisCallback<?> callback) {
+        callback.doInRedis(redisConnection);
+        return List.of();
+    }
+
+    private int publishedCount() {
+        return published.values().stream().mapToInt(Collection::size).sum();
+    }
+
     private void submitAndSave(TopicMessage topicMessage) {
         try {
             entityListener.onTopicMessage(topicMessage);
@@ -163,4 +256,17 @@ class RedisEntityListenerTest {
             Thread.currentThread().interrupt();
         }
     }
+
+    private static class TestSerializer implements RedisSerializer<StreamMessage> {
+
+        @Override
+        public byte[] serialize(StreamMessage message) {
+            return Longs.toByteArray(((TopicMessage) message).getConsensusTimestamp());
+        }
+
+        @Override
+        public StreamMessage deserialize(byte[] bytes) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
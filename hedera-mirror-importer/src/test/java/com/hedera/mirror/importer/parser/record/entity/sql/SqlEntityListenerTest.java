@@ -47,6 +47,7 @@ import com.hedera.mirror.common.domain.token.TokenSupplyTypeEnum;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.token.TokenTypeEnum;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.transaction.FeeTransferRollup;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionSignature;
@@ -67,6 +68,8 @@ import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.repository.EntityTransactionRepository;
 import com.hedera.mirror.importer.repository.EthereumTransactionRepository;
+import com.hedera.mirror.importer.repository.FeeTransferRepository;
+import com.hedera.mirror.importer.repository.FeeTransferRollupRepository;
 import com.hedera.mirror.importer.repository.FileDataRepository;
 import com.hedera.mirror.importer.repository.LiveHashRepository;
 import com.hedera.mirror.importer.repository.NetworkFreezeRepository;
@@ -125,6 +128,8 @@ class SqlEntityListenerTest extends IntegrationTest {
     private final EntityRepository entityRepository;
     private final EntityTransactionRepository entityTransactionRepository;
     private final EthereumTransactionRepository ethereumTransactionRepository;
+    private final FeeTransferRepository feeTransferRepository;
+    private final FeeTransferRollupRepository feeTransferRollupRepository;
     private final FileDataRepository fileDataRepository;
     private final LiveHashRepository liveHashRepository;
     private final NetworkFreezeRepository networkFreezeRepository;
@@ -576,6 +581,43 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(entityRepository.count()).isZero();
     }
 
+    @Test
+    void onFeeTransfer() {
+        // given
+        var feeTransfer1 = domainBuilder.feeTransfer().get();
+        var feeTransfer2 = domainBuilder
+                .feeTransfer()
+                .customize(f -> f.amounts(new ArrayList<>(List.of(3L))).entityIds(new ArrayList<>(List.of(98L))))
+                .get();
+        var recordFile = domainBuilder.recordFile().customize(r -> r.sidecars(List.of())).get();
+
+        // when
+        sqlEntityListener.onFeeTransfer(feeTransfer1);
+        sqlEntityListener.onFeeTransfer(feeTransfer2);
+        transactionTemplate.executeWithoutResult(status -> sqlEntityListener.onEnd(recordFile));
+
+        // then
+        long nodeAmount = feeTransfer1.getAmounts().get(0) + 3L;
+        long stakingAmount = feeTransfer1.getAmounts().get(1);
+        assertThat(feeTransferRepository.findAll()).containsExactlyInAnyOrder(feeTransfer1, feeTransfer2);
+        assertThat(feeTransferRollupRepository.findAll())
+                .containsExactlyInAnyOrder(
+                        FeeTransferRollup.builder()
+                                .amount(nodeAmount)
+                                .consensusEnd(recordFile.getConsensusEnd())
+                                .consensusStart(recordFile.getConsensusStart())
+                                .entityId(98L)
+                                .transferCount(2)
+                                .build(),
+                        FeeTransferRollup.builder()
+                                .amount(stakingAmount)
+                                .consensusEnd(recordFile.getConsensusEnd())
+                                .consensusStart(recordFile.getConsensusStart())
+                                .entityId(800L)
+                                .transferCount(1)
+                                .build());
+    }
+
     @ParameterizedTest
     @CsvSource({"true, 95, 225", "false, 100, 200"})
     void onCryptoTransferWhenEntitiesExist(
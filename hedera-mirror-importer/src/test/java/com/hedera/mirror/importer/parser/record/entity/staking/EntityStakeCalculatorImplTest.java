@@ -38,8 +38,11 @@ import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,13 +53,23 @@ class EntityStakeCalculatorImplTest {
     @Mock(strictness = LENIENT)
     private EntityStakeRepository entityStakeRepository;
 
+    @Mock
+    private EntityStakeStateListener entityStakeStateListener;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private EntityStakeCalculatorImpl entityStakeCalculator;
 
     @BeforeEach
     void setup() {
         entityProperties = new EntityProperties();
         entityStakeCalculator = new EntityStakeCalculatorImpl(
-                entityProperties, entityStakeRepository, TransactionOperations.withoutTransaction());
+                entityProperties,
+                entityStakeRepository,
+                entityStakeStateListener,
+                jdbcTemplate,
+                TransactionOperations.withoutTransaction());
         when(entityStakeRepository.updated()).thenReturn(false, true);
         when(entityStakeRepository.getEndStakePeriod())
                 .thenReturn(Optional.of(100L))
@@ -103,6 +116,36 @@ class EntityStakeCalculatorImplTest {
         inorder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void calculateIncremental() {
+        entityProperties.getPersist().setPendingRewardIncremental(true);
+        when(entityStakeRepository.getEndPeriodTimestamp()).thenReturn(Optional.of(10L));
+        when(entityStakeStateListener.getSnapshot(10L)).thenReturn(Optional.of(new EntityStakeState().copy(10L)));
+        var inorder = inOrder(entityStakeRepository, jdbcTemplate);
+        entityStakeCalculator.calculate();
+        inorder.verify(entityStakeRepository).lockFromConcurrentUpdates();
+        inorder.verify(entityStakeRepository).getEndPeriodTimestamp();
+        inorder.verify(entityStakeRepository).createEntityStateStartTable();
+        inorder.verify(jdbcTemplate).execute(ArgumentMatchers.<ConnectionCallback<Void>>any());
+        inorder.verify(entityStakeRepository).updateEntityStake();
+        verify(entityStakeRepository, never()).createEntityStateStart();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false, false", "true, true"})
+    void calculateIncrementalFallback(boolean snapshotAvailable, boolean verify) {
+        entityProperties.getPersist().setPendingRewardIncremental(true);
+        entityProperties.getPersist().setPendingRewardVerify(verify);
+        var snapshot =
+                snapshotAvailable ? Optional.of(new EntityStakeState().copy(10L)) : Optional.<EntityStakeState>empty();
+        when(entityStakeRepository.getEndPeriodTimestamp()).thenReturn(Optional.of(10L));
+        when(entityStakeStateListener.getSnapshot(10L)).thenReturn(snapshot);
+        entityStakeCalculator.calculate();
+        verify(entityStakeRepository).createEntityStateStart();
+        verify(entityStakeRepository, never()).createEntityStateStartTable();
+        verify(entityStakeRepository).updateEntityStake();
+    }
+
     @Test
     void calculateWhenPendingRewardDisabled() {
         entityProperties.getPersist().setPendingReward(false);
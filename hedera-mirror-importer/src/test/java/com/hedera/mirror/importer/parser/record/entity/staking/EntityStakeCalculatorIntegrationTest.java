@@ -36,6 +36,7 @@ import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.EntityRecordItemListener;
 import com.hedera.mirror.importer.repository.EntityStakeRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -44,6 +45,8 @@ import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.awaitility.Durations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -53,12 +56,25 @@ import org.springframework.transaction.support.TransactionTemplate;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 class EntityStakeCalculatorIntegrationTest extends IntegrationTest {
 
+    private final EntityProperties entityProperties;
     private final EntityRecordItemListener entityRecordItemListener;
     private final EntityStakeRepository entityStakeRepository;
+    private final EntityStakeStateListener entityStakeStateListener;
     private final RecordItemBuilder recordItemBuilder;
     private final RecordStreamFileListener recordStreamFileListener;
     private final TransactionTemplate transactionTemplate;
 
+    @BeforeEach
+    void setup() {
+        entityStakeStateListener.reset();
+    }
+
+    @AfterEach
+    void cleanup() {
+        entityProperties.getPersist().setPendingRewardIncremental(false);
+        entityStakeStateListener.reset();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {false, true})
     void calculate(boolean skipOnePeriod) {
@@ -291,6 +307,115 @@ class EntityStakeCalculatorIntegrationTest extends IntegrationTest {
         assertThat(findHistory(EntityStake.class)).containsExactlyInAnyOrderElementsOf(expectedHistory);
     }
 
+    @Test
+    void calculateIncrementalMatchesSql() {
+        // given
+        entityProperties.getPersist().setPendingRewardIncremental(true);
+        long epochDay = Utility.getEpochDay(domainBuilder.timestamp());
+        var newPeriodInstant = TestUtils.asStartOfEpochDay(epochDay + 1);
+        long nodeStakeTimestamp = DomainUtils.convertToNanosMax(newPeriodInstant.plusNanos(2000L));
+        long balanceTimestamp = DomainUtils.convertToNanosMax(newPeriodInstant.plusNanos(1000L));
+        long entityStakeLowerTimestamp = DomainUtils.convertToNanosMax(TestUtils.asStartOfEpochDay(epochDay - 1)) + 20L;
+
+        var account800 = domainBuilder
+                .entity()
+                .customize(e ->
+                        e.id(STAKING_REWARD_ACCOUNT).num(STAKING_REWARD_ACCOUNT).stakedNodeId(-1L))
+                .persist();
+        fromEntity(account800)
+                .customize(es -> es.endStakePeriod(epochDay - 1)
+                        .pendingReward(0L)
+                        .stakeTotalStart(0L)
+                        .timestampRange(Range.atLeast(entityStakeLowerTimestamp)))
+                .persist();
+        var account1 = domainBuilder
+                .entity()
+                .customize(e -> e.declineReward(true).stakedNodeId(1L).stakePeriodStart(epochDay - 2))
+                .persist();
+        var account2 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedNodeId(2L).stakePeriodStart(epochDay))
+                .persist();
+        var account3 = domainBuilder
+                .entity()
+                .customize(e -> e.stakedAccountId(account2.getId()))
+                .persist();
+        var deleted = domainBuilder
+                .entity()
+                .customize(e -> e.deleted(true).stakedNodeId(1L))
+                .persist();
+        long accountId5 = domainBuilder.id();
+
+        domainBuilder
+                .accountBalanceFile()
+                .customize(abf -> abf.consensusTimestamp(balanceTimestamp))
+                .persist();
+        for (var account : List.of(account800, account1, account2, account3, deleted)) {
+            domainBuilder
+                    .accountBalance()
+                    .customize(ab -> ab.balance(account.getBalance())
+                            .id(new Id(balanceTimestamp, account.toEntityId())))
+                    .persist();
+        }
+
+        long creditAmount = 50 * TINYBARS_IN_ONE_HBAR;
+        persistCryptoTransfer(-2 * creditAmount, accountId5, balanceTimestamp - 1);
+        persistCryptoTransfer(creditAmount, account1.getId(), balanceTimestamp - 1);
+        persistCryptoTransfer(creditAmount, account2.getId(), balanceTimestamp - 1);
+        persistCryptoTransfer(-2 * creditAmount, accountId5, balanceTimestamp + 1);
+        persistCryptoTransfer(creditAmount, account2.getId(), balanceTimestamp + 1);
+        persistCryptoTransfer(creditAmount, account3.getId(), balanceTimestamp + 1);
+
+        // when
+        var endOfStakingPeriod = TestUtils.toTimestamp(DomainUtils.convertToNanosMax(newPeriodInstant.minusNanos(1)));
+        var recordItem = recordItemBuilder
+                .nodeStakeUpdate()
+                .transactionBody(t -> t.clearNodeStake()
+                        .addNodeStake(NodeStake.newBuilder().setNodeId(1L).setRewardRate(100L))
+                        .addNodeStake(NodeStake.newBuilder().setNodeId(2L).setRewardRate(200L))
+                        .setEndOfStakingPeriod(endOfStakingPeriod))
+                .record(r -> r.setConsensusTimestamp(TestUtils.toTimestamp(nodeStakeTimestamp)))
+                .build();
+        persistRecordItem(recordItem);
+
+        // then
+        await().atMost(Durations.FIVE_SECONDS)
+                .pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() ->
+                        assertThat(entityStakeRepository.getEndStakePeriod()).contains(epochDay));
+        var snapshot = entityStakeStateListener.getSnapshot(nodeStakeTimestamp);
+        assertThat(snapshot).isPresent();
+        assertThat(entityStakeRepository.findById(account2.getId()))
+                .get()
+                .returns(account3.getBalance() + creditAmount, EntityStake::getStakedToMe);
+
+        // Calculate the entity state of the same staking period with sql and compare it with the snapshot
+        jdbcOperations.update(
+                "update entity_stake set end_stake_period = ? where id = ?", epochDay - 1, STAKING_REWARD_ACCOUNT);
+        var ids = transactionTemplate.execute(s -> {
+            entityStakeRepository.createEntityStateStart();
+            return jdbcOperations.query(
+                    "select * from entity_state_start",
+                    (rs, rowNum) -> {
+                        long id = rs.getLong("id");
+                        assertThat(snapshot.get()
+                                        .matches(
+                                                id,
+                                                rs.getLong("balance"),
+                                                rs.getBoolean("decline_reward"),
+                                                rs.getLong("staked_account_id"),
+                                                rs.getLong("staked_node_id"),
+                                                rs.getLong("stake_period_start")))
+                                .as("entity %d", id)
+                                .isTrue();
+                        return id;
+                    });
+        });
+        assertThat(ids)
+                .containsExactlyInAnyOrder(account800.getId(), account1.getId(), account2.getId(), account3.getId())
+                .hasSize((int) snapshot.get().size());
+    }
+
     private void persistCryptoTransfer(long amount, long entityId, long timestamp) {
         domainBuilder
                 .cryptoTransfer()
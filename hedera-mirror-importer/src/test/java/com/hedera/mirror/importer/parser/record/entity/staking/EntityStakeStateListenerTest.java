@@ -0,0 +1,325 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.addressbook.NodeStake;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.FeeTransfer;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.StakingRewardTransfer;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.util.Utility;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class EntityStakeStateListenerTest {
+
+    private static final long ACCOUNT_ID = 1000L;
+    private static final long BALANCE = 100L;
+    private static final int STAKE_PERIOD_START = 19000;
+    private static final int STAKED_NODE_ID = 1;
+
+    private EntityProperties entityProperties;
+
+    @Mock(strictness = LENIENT)
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock(strictness = LENIENT)
+    private ResultSet resultSet;
+
+    private EntityStakeStateListener listener;
+    private final RecordFile recordFile = new RecordFile();
+
+    @BeforeEach
+    void setup() throws SQLException {
+        entityProperties = new EntityProperties();
+        entityProperties.getPersist().setPendingRewardIncremental(true);
+        listener = new EntityStakeStateListener(entityProperties, jdbcTemplate);
+
+        doAnswer(invocation -> {
+                    invocation.getArgument(1, RowCallbackHandler.class).processRow(resultSet);
+                    return null;
+                })
+                .when(jdbcTemplate)
+                .query(anyString(), any(RowCallbackHandler.class));
+        when(resultSet.getLong("id")).thenReturn(ACCOUNT_ID);
+        when(resultSet.getLong("balance")).thenReturn(BALANCE);
+        when(resultSet.getLong("staked_account_id")).thenReturn(0L);
+        when(resultSet.getInt("staked_node_id")).thenReturn(STAKED_NODE_ID);
+        when(resultSet.getInt("stake_period_start")).thenReturn(STAKE_PERIOD_START);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void disabled() {
+        entityProperties.getPersist().setPendingRewardIncremental(false);
+        listener.onStart();
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        assertThat(listener.getSnapshot(2L)).isEmpty();
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void snapshotAfterCommit() {
+        // when
+        listener.onStart();
+        listener.onCryptoTransfer(cryptoTransfer(10L, 1L));
+        listener.onNodeStake(nodeStake(2L));
+        listener.onCryptoTransfer(cryptoTransfer(20L, 3L));
+        listener.onEnd(recordFile);
+
+        // then
+        assertThat(listener.getSnapshot(2L)).isEmpty();
+
+        // when
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE + 10L, STAKED_NODE_ID, STAKE_PERIOD_START);
+        assertThat(listener.getSnapshot(3L)).isEmpty();
+
+        // when the changes after the node stake update are in the next snapshot
+        listener.onStart();
+        listener.onNodeStake(nodeStake(4L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(4L, BALANCE + 30L, STAKED_NODE_ID, STAKE_PERIOD_START);
+        assertThat(listener.getSnapshot(2L)).isEmpty();
+    }
+
+    @Test
+    void snapshotIncludesChangesAtNodeStakeTimestamp() {
+        // when
+        listener.onStart();
+        listener.onNodeStake(nodeStake(2L));
+        listener.onFeeTransfer(FeeTransfer.builder()
+                .amounts(List.of(10L, 20L))
+                .consensusTimestamp(2L)
+                .entityIds(List.of(3L, ACCOUNT_ID))
+                .build());
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE + 20L, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void withoutTransaction() {
+        // given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // when
+        listener.onStart();
+        listener.onCryptoTransfer(cryptoTransfer(10L, 1L));
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+
+        // then
+        assertSnapshot(2L, BALANCE + 10L, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void rollback() {
+        // given
+        listener.onStart();
+        listener.onCryptoTransfer(cryptoTransfer(10L, 1L));
+        listener.onEnd(recordFile);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        listener.onStart();
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void onError() {
+        // given
+        listener.onStart();
+        listener.onCryptoTransfer(cryptoTransfer(10L, 1L));
+        listener.onError();
+
+        // when
+        listener.onStart();
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void onEntity() {
+        // when
+        listener.onStart();
+        listener.onEntity(entity(1L).stakedNodeId(2L).build());
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEntity(entity(3L).stakedNodeId(3L).build());
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE, 2, STAKE_PERIOD_START);
+
+        // when
+        listener.onStart();
+        listener.onNodeStake(nodeStake(4L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(4L, BALANCE, 3, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void onEntityWithoutTimestamp() {
+        // when
+        listener.onStart();
+        listener.onEntity(Entity.builder()
+                .ethereumNonce(1L)
+                .id(ACCOUNT_ID)
+                .stakedNodeId(2L)
+                .type(EntityType.ACCOUNT)
+                .build());
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertSnapshot(2L, BALANCE, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    @Test
+    void onStakingRewardTransfer() {
+        // given
+        long timestamp = 1_700_000_000_000_000_000L;
+
+        // when
+        listener.onStart();
+        listener.onStakingRewardTransfer(StakingRewardTransfer.builder()
+                .accountId(ACCOUNT_ID)
+                .consensusTimestamp(timestamp)
+                .build());
+        listener.onNodeStake(nodeStake(timestamp + 1));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        int stakePeriodStart = (int) Utility.getEpochDay(timestamp) - 1;
+        assertSnapshot(timestamp + 1, BALANCE, STAKED_NODE_ID, stakePeriodStart);
+    }
+
+    @Test
+    void reset() throws SQLException {
+        // given
+        listener.onStart();
+        listener.onCryptoTransfer(cryptoTransfer(10L, 1L));
+        listener.onNodeStake(nodeStake(2L));
+        listener.onEnd(recordFile);
+        commit();
+        when(resultSet.getLong("balance")).thenReturn(BALANCE + 50L);
+
+        // when
+        listener.reset();
+        listener.onStart();
+        listener.onNodeStake(nodeStake(3L));
+        listener.onEnd(recordFile);
+        commit();
+
+        // then
+        assertThat(listener.getSnapshot(2L)).isEmpty();
+        assertSnapshot(3L, BALANCE + 50L, STAKED_NODE_ID, STAKE_PERIOD_START);
+    }
+
+    private void assertSnapshot(long timestamp, long balance, int stakedNodeId, int stakePeriodStart) {
+        assertThat(listener.getSnapshot(timestamp)).get().satisfies(snapshot -> {
+            assertThat(snapshot.getTimestamp()).isEqualTo(timestamp);
+            assertThat(snapshot.size()).isOne();
+            assertThat(snapshot.matches(ACCOUNT_ID, balance, false, 0L, stakedNodeId, stakePeriodStart))
+                    .isTrue();
+        });
+    }
+
+    private void commit() {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private CryptoTransfer cryptoTransfer(long amount, long timestamp) {
+        return CryptoTransfer.builder()
+                .amount(amount)
+                .consensusTimestamp(timestamp)
+                .entityId(ACCOUNT_ID)
+                .build();
+    }
+
+    private Entity.EntityBuilder<?, ?> entity(long timestamp) {
+        return Entity.builder().id(ACCOUNT_ID).timestampRange(Range.atLeast(timestamp));
+    }
+
+    private NodeStake nodeStake(long timestamp) {
+        return NodeStake.builder().consensusTimestamp(timestamp).build();
+    }
+}
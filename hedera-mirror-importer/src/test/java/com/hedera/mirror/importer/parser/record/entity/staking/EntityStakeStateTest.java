@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class EntityStakeStateTest {
+
+    private final EntityStakeState state = new EntityStakeState();
+
+    @Test
+    void addBalance() throws IOException {
+        state.load(5000L, 0L, false, false, 0L, -1, -1);
+        state.load(2L, 0L, false, false, 0L, -1, -1);
+        state.addBalance(5000L, 100L);
+        state.addBalance(5000L, -30L);
+        state.addBalance(2L, 10L);
+
+        assertThat(state.size()).isEqualTo(2L);
+        assertThat(state.matches(5000L, 70L, false, 0L, -1L, -1L)).isTrue();
+        assertThat(write(state)).isEqualTo("70,false,5000,0,-1,-1\n10,false,2,0,-1,-1\n");
+    }
+
+    @Test
+    void addBalanceBeforeEntity() throws IOException {
+        state.addBalance(10L, 100L);
+        assertThat(state.size()).isZero();
+        assertThat(state.matches(10L, 100L, false, 0L, -1L, -1L)).isFalse();
+        assertThat(write(state)).isEmpty();
+
+        state.update(entity(10L, EntityType.ACCOUNT).stakedNodeId(1L).build());
+        assertThat(state.size()).isOne();
+        assertThat(state.matches(10L, 100L, false, 0L, 1L, -1L)).isTrue();
+    }
+
+    @Test
+    void update() {
+        state.update(entity(10L, EntityType.ACCOUNT).declineReward(true).stakedNodeId(3L).build());
+        state.update(entity(10L, null).stakePeriodStart(19000L).build());
+        state.update(entity(11L, EntityType.CONTRACT).stakedAccountId(10L).build());
+
+        assertThat(state.matches(10L, 0L, true, 0L, 3L, 19000L)).isTrue();
+        assertThat(state.matches(11L, 0L, false, 10L, -1L, -1L)).isTrue();
+    }
+
+    @Test
+    void updateIgnored() {
+        state.update(entity(10L, EntityType.TOKEN).build());
+        state.update(entity(11L, null).stakedNodeId(1L).build());
+        assertThat(state.size()).isZero();
+    }
+
+    @Test
+    void updateDeleted() throws IOException {
+        state.load(10L, 100L, false, false, 0L, 1, 19000);
+        state.update(entity(10L, EntityType.ACCOUNT).deleted(true).build());
+
+        assertThat(state.size()).isZero();
+        assertThat(state.matches(10L, 100L, false, 0L, 1L, 19000L)).isFalse();
+        assertThat(write(state)).isEmpty();
+    }
+
+    @Test
+    void updateStakePeriodStart() {
+        state.load(10L, 100L, false, false, 0L, 1, 19000);
+        state.updateStakePeriodStart(10L, 18999L);
+        assertThat(state.matches(10L, 100L, false, 0L, 1L, 19000L)).isTrue();
+
+        state.updateStakePeriodStart(10L, 19001L);
+        assertThat(state.matches(10L, 100L, false, 0L, 1L, 19001L)).isTrue();
+
+        state.updateStakePeriodStart(11L, 19001L);
+        assertThat(state.size()).isOne();
+    }
+
+    @Test
+    void copy() {
+        state.load(10L, 100L, false, false, 0L, -1, -1);
+        var snapshot = state.copy(5L);
+        state.addBalance(10L, 100L);
+        state.load(20L, 100L, false, false, 0L, -1, -1);
+
+        assertThat(snapshot.getTimestamp()).isEqualTo(5L);
+        assertThat(snapshot.size()).isOne();
+        assertThat(snapshot.matches(10L, 100L, false, 0L, -1L, -1L)).isTrue();
+        assertThat(state.matches(10L, 200L, false, 0L, -1L, -1L)).isTrue();
+    }
+
+    @Test
+    void copyGrow() {
+        state.load(10L, 100L, false, false, 0L, -1, -1);
+        var snapshot = state.copy(5L);
+        snapshot.addBalance(10L, 100L);
+        snapshot.load(20L, 100L, false, false, 0L, -1, -1);
+
+        assertThat(snapshot.size()).isEqualTo(2L);
+        assertThat(snapshot.matches(10L, 200L, false, 0L, -1L, -1L)).isTrue();
+        assertThat(snapshot.matches(20L, 100L, false, 0L, -1L, -1L)).isTrue();
+        assertThat(state.matches(10L, 100L, false, 0L, -1L, -1L)).isTrue();
+        assertThat(state.matches(20L, 100L, false, 0L, -1L, -1L)).isFalse();
+    }
+
+    @Test
+    void sparseIds() {
+        long shardRealmId = EntityId.of(1L, 2L, 3L).getId();
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            state.load(shardRealmId + i * 1_000_000L, i, false, false, 0L, -1, -1);
+        }
+
+        assertThat(state.size()).isEqualTo(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(state.matches(shardRealmId + i * 1_000_000L, i, false, 0L, -1L, -1L))
+                    .isTrue();
+        }
+        assertThat(state.matches(shardRealmId + 1, 0L, false, 0L, -1L, -1L)).isFalse();
+    }
+
+    @Test
+    void invalidId() {
+        assertThrows(IllegalArgumentException.class, () -> state.addBalance(-1L, 1L));
+        assertThat(state.matches(-1L, 0L, false, 0L, -1L, -1L)).isFalse();
+    }
+
+    private Entity.EntityBuilder<?, ?> entity(long id, EntityType type) {
+        return Entity.builder().id(id).type(type);
+    }
+
+    private String write(EntityStakeState entityStakeState) throws IOException {
+        var writer = new StringWriter();
+        entityStakeState.write(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubPublisherTest {
+
+    private static final Map<String, String> HEADERS = Map.of("consensusTimestamp", "1");
+    private static final String TOPIC_NAME = "topic-name";
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PubSubTemplate pubSubTemplate;
+
+    private PubSubProperties pubSubProperties;
+    private PubSubPublisher pubSubPublisher;
+
+    @BeforeEach
+    void setup() {
+        pubSubProperties = new PubSubProperties();
+        pubSubProperties.setMaxInFlight(2);
+        pubSubProperties.setPublishTimeout(Duration.ofMillis(100L));
+        pubSubProperties.setTopicName(TOPIC_NAME);
+        pubSubPublisher = new PubSubPublisher(pubSubProperties, pubSubTemplate);
+    }
+
+    @Test
+    void awaitPublished() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any())).thenReturn(CompletableFuture.completedFuture("1"));
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+        pubSubPublisher.publish(message(EntityId.of(1001L)), HEADERS);
+        pubSubPublisher.awaitPublished();
+
+        verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.of(1000L)), HEADERS);
+        verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.of(1001L)), HEADERS);
+        verify(pubSubTemplate.getPubSubPublisherTemplate().getPublisherFactory().createPublisher(TOPIC_NAME))
+                .publishAllOutstanding();
+
+        // More messages than the in-flight limit can be published once the previous are acknowledged
+        pubSubPublisher.publish(message(EntityId.of(1002L)), HEADERS);
+        pubSubPublisher.awaitPublished();
+    }
+
+    @Test
+    void awaitPublishedNone() {
+        pubSubPublisher.awaitPublished();
+        verify(pubSubTemplate, times(0)).publish(any(), any(), any());
+    }
+
+    @Test
+    void awaitPublishedFailure() {
+        pubSubProperties.setMaxSendAttempts(1);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("error")));
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+
+        assertThatThrownBy(pubSubPublisher::awaitPublished)
+                .isInstanceOf(ParserException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        verify(pubSubTemplate, times(2)).publish(any(), any(), any());
+        verify(pubSubTemplate.getPubSubPublisherTemplate().getPublisherFactory().createPublisher(TOPIC_NAME), never())
+                .resumePublish(any());
+
+        // The failed message was forgotten and released its permit
+        pubSubPublisher.awaitPublished();
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any())).thenReturn(CompletableFuture.completedFuture("1"));
+        pubSubPublisher.publish(message(EntityId.of(1001L)), HEADERS);
+        pubSubPublisher.publish(message(EntityId.of(1002L)), HEADERS);
+        pubSubPublisher.awaitPublished();
+    }
+
+    @Test
+    void awaitPublishedTimeout() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any())).thenReturn(new CompletableFuture<>());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+
+        assertThatThrownBy(pubSubPublisher::awaitPublished)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void publishMaxInFlight() {
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any())).thenReturn(new CompletableFuture<>());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+        pubSubPublisher.publish(message(EntityId.of(1001L)), HEADERS);
+        pubSubPublisher.reset();
+
+        // Messages in flight still count after reset
+        var message = message(EntityId.of(1002L));
+        assertThatThrownBy(() -> pubSubPublisher.publish(message, HEADERS))
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("2 messages in flight");
+        verify(pubSubTemplate, times(2)).publish(any(), any(), any());
+    }
+
+    @Test
+    void publishOrderingKeys() {
+        pubSubProperties.setOrderingKeys(true);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any())).thenReturn(CompletableFuture.completedFuture("1"));
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+        pubSubPublisher.publish(message(EntityId.EMPTY), HEADERS);
+        pubSubPublisher.awaitPublished();
+
+        var headers = Map.of("consensusTimestamp", "1", GcpPubSubHeaders.ORDERING_KEY, "0.0.1000");
+        verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.of(1000L)), headers);
+        verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.EMPTY), HEADERS);
+        assertThat(HEADERS).doesNotContainKey(GcpPubSubHeaders.ORDERING_KEY);
+    }
+
+    @Test
+    void publishOrderingKeysRetry() {
+        pubSubProperties.setOrderingKeys(true);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("error")))
+                .thenReturn(CompletableFuture.completedFuture("1"));
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADERS);
+        pubSubPublisher.awaitPublished();
+
+        var headers = Map.of("consensusTimestamp", "1", GcpPubSubHeaders.ORDERING_KEY, "0.0.1000");
+        var publisher = pubSubTemplate.getPubSubPublisherTemplate().getPublisherFactory().createPublisher(TOPIC_NAME);
+        var inOrder = inOrder(pubSubTemplate, publisher);
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.of(1000L)), headers);
+        inOrder.verify(publisher).resumePublish("0.0.1000");
+        inOrder.verify(pubSubTemplate).publish(TOPIC_NAME, message(EntityId.of(1000L)), headers);
+    }
+
+    private PubSubMessage message(EntityId entityId) {
+        return new PubSubMessage(1L, entityId, 14, null, null, null);
+    }
+}
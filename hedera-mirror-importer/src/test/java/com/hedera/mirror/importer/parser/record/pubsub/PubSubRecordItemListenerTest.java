@@ -163,7 +163,7 @@ class PubSubRecordItemListenerTest {
         var responseFuture = mock(CompletableFuture.class);
         doReturn(responseFuture).when(pubSubTemplate).publish(any(), any(), any());
         pubSubRecordItemListener = new PubSubRecordItemListener(
-                pubSubProperties, pubSubTemplate, addressBookService, transactionHandlerFactory);
+                new PubSubPublisher(pubSubProperties, pubSubTemplate), addressBookService, transactionHandlerFactory);
     }
 
     @SuppressWarnings("unchecked")
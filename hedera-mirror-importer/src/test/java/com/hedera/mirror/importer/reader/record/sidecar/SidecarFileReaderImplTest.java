@@ -26,8 +26,11 @@ import com.hedera.mirror.importer.TestRecordFiles;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,6 +75,30 @@ class SidecarFileReaderImplTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    void readStreaming() {
+        var expected =
+                TestRecordFiles.getAll().get(RECORD_FILENAME).getSidecars().get(0);
+        var sidecar = expected.toBuilder()
+                .actualHash(null)
+                .bytes(null)
+                .count(null)
+                .size(null)
+                .records(Collections.emptyList())
+                .build();
+        var streamFileData = StreamFileData.from(TestUtils.getResource(SIDECAR_FILE_PATH));
+        var records = new ArrayList<TransactionSidecarRecord>();
+
+        sidecarFileReader.read(sidecar, streamFileData, records::add);
+
+        assertThat(records).containsExactlyElementsOf(expected.getRecords());
+        assertThat(sidecar)
+                .returns(expected.getActualHash(), SidecarFile::getActualHash)
+                .returns(expected.getCount(), SidecarFile::getCount)
+                .returns(expected.getSize(), SidecarFile::getSize)
+                .returns(Collections.emptyList(), SidecarFile::getRecords);
+    }
+
     @Test
     void readCorruptedGzipFile() {
         var streamFileData = StreamFileData.from(SIDECAR_FILENAME, domainBuilder.bytes(256));
@@ -39,6 +39,7 @@ import com.hedera.mirror.common.domain.job.ReconciliationStatus;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.transaction.ErrataType;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy;
 import com.hedera.mirror.importer.repository.ReconciliationJobRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -46,12 +47,16 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.api.ObjectAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -74,6 +79,9 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         reconciliationProperties.setRemediationStrategy(FAIL);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
+        reconciliationProperties.getStreaming().setCheckpoint(false);
+        reconciliationProperties.getStreaming().setEnabled(false);
+        reconciliationProperties.getStreaming().setRangeSize(1_000_000L);
         reconciliationService.status.set(UNKNOWN);
     }
 
@@ -145,6 +153,124 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, balance2).returns(3L, ReconciliationJob::getCount);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void streamingSuccess(boolean checkpoint) {
+        // given
+        streaming(checkpoint);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 3, 1000);
+        transfer(3, 4, 100);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 900L, 4L, 100L, 5L, 0L));
+        transfer(2, 4, 500);
+        transfer(2, 5, 100);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1600L, 3L, 900L, 4L, 600L, 5L, 100L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(2L, ReconciliationJob::getCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void feeTransfers(boolean streaming) {
+        // given
+        if (streaming) {
+            streaming(false);
+        }
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        feeTransfer(2, 98, 10);
+        transfer(2, 3, 1000);
+        feeTransfer(3, 800, 5);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1010L, 3L, 995L, 98L, 10L, 800L, 5L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(1L, ReconciliationJob::getCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void streamingShardRealm(boolean checkpoint) {
+        // given
+        streaming(checkpoint);
+        long accountId1 = EntityId.of(1L, 2L, 3L).getId();
+        long accountId2 = EntityId.of(32767L, 65535L, 1000L).getId();
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, accountId1, 1000);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, accountId1, 1000L));
+        transfer(accountId1, accountId2, 100);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, accountId1, 900L, accountId2, 100L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(2L, ReconciliationJob::getCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void streamingFailure(boolean checkpoint) {
+        // given
+        streaming(checkpoint);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 3, 1000);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1010L, 3L, 1010L)); // Missing 10 tinybar transfer
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, null)
+                .returns(0L, ReconciliationJob::getCount)
+                .satisfies(r -> assertThat(r.getError()).contains("3=(1000, 1010)"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RemediationStrategy.class, names = {"ACCUMULATE", "RESET"})
+    void streamingRemediationStrategy(RemediationStrategy remediationStrategy) {
+        // given
+        streaming(false);
+        reconciliationProperties.setRemediationStrategy(remediationStrategy);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        var balance2 = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 1000L)); // Missing 1000 tinybar transfer
+        transfer(3, 4, 1);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 1000L, 3L, 999L, 4L, 1L));
+
+        // when
+        reconcile();
+
+        // then
+        // Accumulate continues with the expected balances so the last balance file also fails to reconcile
+        int errors = remediationStrategy == ACCUMULATE ? 2 : 1;
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, balance2)
+                .returns(3L, ReconciliationJob::getCount)
+                .satisfies(r -> assertThat(r.getError().split("\n"))
+                        .filteredOn(e -> !e.isEmpty())
+                        .hasSize(errors));
+    }
+
+    @Test
+    void streamingBalanceNotFiftyBillion() {
+        // given
+        streaming(true);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 3, 100);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS, 3L, 100L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_FIFTY_BILLION, null).returns(0L, ReconciliationJob::getCount);
+    }
+
     @Test
     void cryptoTransfersZeroBalances() {
         // given
@@ -433,6 +559,12 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         return jobAssert;
     }
 
+    private void streaming(boolean checkpoint) {
+        reconciliationProperties.getStreaming().setCheckpoint(checkpoint);
+        reconciliationProperties.getStreaming().setEnabled(true);
+        reconciliationProperties.getStreaming().setRangeSize(2L);
+    }
+
     private void reconcile() {
         transactionTemplate.executeWithoutResult(t -> reconciliationService.reconcile());
     }
@@ -480,6 +612,19 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
                 .persist();
     }
 
+    private void feeTransfer(long from, long to, long amount) {
+        var feeTransfer = domainBuilder
+                .feeTransfer()
+                .customize(f -> f.amounts(List.of(amount)).entityIds(List.of(to)))
+                .persist();
+        domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(-amount)
+                        .consensusTimestamp(feeTransfer.getConsensusTimestamp())
+                        .entityId(from))
+                .persist();
+    }
+
     private void tokenTransfer(long accountNum, long tokenNum, long amount) {
         long timestamp = domainBuilder.timestamp();
         EntityId accountId = EntityId.of(accountNum);
@@ -163,6 +163,8 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
         persistCryptoTransfer(-10L, balanceTimestamp + 54, account2.getId());
         // account3 is created after the account balance file
         persistCryptoTransfer(123L, account3History.getTimestampLower(), account3.getId());
+        // fee credits stored compactly are included in the balance change
+        persistFeeTransfer(7L, account3History.getTimestampLower() + 1, account3.getId());
 
         var expectedAccount1 = account1.toBuilder()
                 .balance(expectedBalance1)
@@ -173,7 +175,7 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
                 .stakedAccountId(0L)
                 .build();
         var expectedAccount3 = account3.toBuilder()
-                .balance(123L)
+                .balance(130L)
                 .stakedAccountId(0L)
                 .stakedNodeId(3L)
                 .build();
@@ -928,6 +930,15 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
                 .build();
     }
 
+    private void persistFeeTransfer(long amount, long consensusTimestamp, long entityId) {
+        domainBuilder
+                .feeTransfer()
+                .customize(f -> f.amounts(List.of(amount))
+                        .consensusTimestamp(consensusTimestamp)
+                        .entityIds(List.of(entityId)))
+                .persist();
+    }
+
     private void persistCryptoTransfer(long amount, long consensusTimestamp, long entityId) {
         domainBuilder
                 .cryptoTransfer()
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class FeeTransferRollupRepositoryTest extends AbstractRepositoryTest {
+
+    private final FeeTransferRollupRepository feeTransferRollupRepository;
+
+    @Test
+    void prune() {
+        domainBuilder.feeTransferRollup().persist();
+        var feeTransferRollup2 = domainBuilder.feeTransferRollup().persist();
+        var feeTransferRollup3 = domainBuilder.feeTransferRollup().persist();
+
+        feeTransferRollupRepository.prune(feeTransferRollup2.getConsensusEnd());
+
+        assertThat(feeTransferRollupRepository.findAll()).containsExactly(feeTransferRollup3);
+    }
+
+    @Test
+    void save() {
+        var feeTransferRollup = domainBuilder.feeTransferRollup().get();
+        feeTransferRollupRepository.save(feeTransferRollup);
+        assertThat(feeTransferRollupRepository.findById(feeTransferRollup.getId()))
+                .get()
+                .isEqualTo(feeTransferRollup);
+    }
+}
@@ -72,24 +72,19 @@ class RecordFileRepositoryTest extends AbstractRepositoryTest {
     }
 
     @Test
-    void findLatestMissingGasUsedBefore() {
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(100L)).isEmpty();
+    void findMissingGasUsedBetween() {
+        assertThat(recordFileRepository.findMissingGasUsedBetween(0L, Long.MAX_VALUE)).isEmpty();
 
         var rf1 = domainBuilder.recordFile().customize(r -> r.gasUsed(-1)).persist();
         var rf2 = domainBuilder.recordFile().persist();
         var rf3 = domainBuilder.recordFile().customize(r -> r.gasUsed(-1)).persist();
         var rf4 = domainBuilder.recordFile().persist();
 
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf4.getConsensusEnd() + 1L))
-                .get()
-                .isEqualTo(rf3);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf3.getConsensusEnd()))
-                .get()
-                .isEqualTo(rf1);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf2.getConsensusEnd()))
-                .get()
-                .isEqualTo(rf1);
-        assertThat(recordFileRepository.findLatestMissingGasUsedBefore(rf1.getConsensusEnd()))
+        assertThat(recordFileRepository.findMissingGasUsedBetween(0L, rf4.getConsensusEnd())).containsExactly(rf1, rf3);
+        assertThat(recordFileRepository.findMissingGasUsedBetween(rf1.getConsensusEnd(), rf3.getConsensusEnd()))
+                .containsExactly(rf3);
+        assertThat(recordFileRepository.findMissingGasUsedBetween(0L, rf2.getConsensusEnd())).containsExactly(rf1);
+        assertThat(recordFileRepository.findMissingGasUsedBetween(rf1.getConsensusEnd(), rf2.getConsensusEnd()))
                 .isEmpty();
     }
 
@@ -122,6 +117,25 @@ class RecordFileRepositoryTest extends AbstractRepositoryTest {
                 .isEmpty();
     }
 
+    @Test
+    void findNextWithTotalCount() {
+        var rf1 = domainBuilder.recordFile().customize(r -> r.count(2L)).persist();
+        var rf2 = domainBuilder.recordFile().customize(r -> r.count(3L)).persist();
+        var rf3 = domainBuilder.recordFile().customize(r -> r.count(4L)).persist();
+        var max = rf3.getConsensusEnd();
+
+        assertThat(recordFileRepository.findNextWithTotalCount(0, max, 1L)).get().isEqualTo(rf1);
+        assertThat(recordFileRepository.findNextWithTotalCount(0, max, 2L)).get().isEqualTo(rf1);
+        assertThat(recordFileRepository.findNextWithTotalCount(0, max, 3L)).get().isEqualTo(rf2);
+        assertThat(recordFileRepository.findNextWithTotalCount(0, max, 9L)).get().isEqualTo(rf3);
+        assertThat(recordFileRepository.findNextWithTotalCount(0, max, 10L)).isEmpty();
+        assertThat(recordFileRepository.findNextWithTotalCount(rf1.getConsensusEnd(), max, 4L))
+                .get()
+                .isEqualTo(rf3);
+        assertThat(recordFileRepository.findNextWithTotalCount(0, rf2.getConsensusEnd(), 6L))
+                .isEmpty();
+    }
+
     @Test
     void prune() {
         domainBuilder.recordFile().persist();
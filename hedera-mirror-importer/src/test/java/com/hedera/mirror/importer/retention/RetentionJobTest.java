@@ -18,9 +18,17 @@ package com.hedera.mirror.importer.retention;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.EnabledIfV2;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.db.TimePartition;
+import com.hedera.mirror.importer.db.TimePartitionService;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hedera.mirror.importer.repository.SidecarFileRepository;
+import com.hedera.mirror.importer.repository.TopicMessageLookupRepository;
 import com.hedera.mirror.importer.repository.TransactionRepository;
 import java.time.Duration;
 import java.util.Collections;
@@ -34,16 +42,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 class RetentionJobTest extends IntegrationTest {
 
+    private final CryptoTransferRepository cryptoTransferRepository;
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final SidecarFileRepository sidecarFileRepository;
+    private final TimePartitionService timePartitionService;
+    private final TopicMessageLookupRepository topicMessageLookupRepository;
     private final TransactionRepository transactionRepository;
 
     @BeforeEach
     void setup() {
+        retentionProperties.setBatchDelay(Duration.ZERO);
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setBatchSize(1_000_000L);
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
+        retentionProperties.setParallelism(4);
         retentionProperties.setPeriod(Duration.ofDays(-1L));
         retentionProperties.setEnabled(true);
     }
@@ -183,6 +199,169 @@ class RetentionJobTest extends IntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void pruneSeriallyWithDelay() {
+        // given
+        retentionProperties.setBatchDelay(Duration.ofMillis(1L));
+        retentionProperties.setBatchPeriod(Duration.ZERO);
+        retentionProperties.setParallelism(1);
+        recordFile();
+        recordFile();
+        var recordFile3 = recordFile();
+        retentionProperties.setPeriod(Duration.ofNanos(1L));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile3);
+        assertThat(transactionRepository.count()).isOne();
+    }
+
+    @Test
+    void pruneBatchSize() {
+        // given
+        retentionProperties.setBatchPeriod(Duration.ofDays(1L));
+        retentionProperties.setBatchSize(1L);
+        recordFile();
+        recordFile();
+        var recordFile3 = recordFile();
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(getCheckpoint("transaction")).isEqualTo(recordFile3.getConsensusEnd());
+    }
+
+    @Test
+    void checkpoint() {
+        // given
+        recordFile();
+        var recordFile2 = recordFile();
+        domainBuilder
+                .sidecarFile()
+                .customize(s -> s.consensusEnd(recordFile2.getConsensusEnd()))
+                .persist();
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(sidecarFileRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(getCheckpoint("record_file")).isEqualTo(recordFile2.getConsensusEnd());
+        assertThat(getCheckpoint("sidecar_file")).isEqualTo(recordFile2.getConsensusEnd());
+        assertThat(getCheckpoint("transaction")).isEqualTo(recordFile2.getConsensusEnd());
+    }
+
+    @Test
+    void resumeFromCheckpoint() {
+        // given
+        recordFile();
+        recordFile();
+        var recordFile3 = recordFile();
+        jdbcOperations.update(
+                "insert into retention_checkpoint (consensus_timestamp, table_name) values (?, 'transaction')",
+                recordFile3.getConsensusEnd());
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isEqualTo(3);
+    }
+
+    @EnabledIfV1
+    @Test
+    void pruneFailure() {
+        // given
+        var recordFile = recordFile();
+        domainBuilder
+                .sidecarFile()
+                .customize(s -> s.consensusEnd(recordFile.getConsensusEnd()))
+                .persist();
+        domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.consensusTimestamp(recordFile.getConsensusEnd()))
+                .persist();
+        jdbcOperations.execute(
+                """
+                create or replace function fail_delete() returns trigger as $$
+                begin
+                  raise exception 'Delete failed';
+                end;
+                $$ language plpgsql;
+                create trigger transaction_fail_delete before delete on transaction
+                  for each row execute function fail_delete();
+                """);
+
+        // when
+        try {
+            retentionJob.prune();
+        } finally {
+            jdbcOperations.execute("drop trigger transaction_fail_delete on transaction; drop function fail_delete()");
+        }
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).isEmpty();
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile);
+        assertThat(sidecarFileRepository.count()).isOne();
+        assertThat(transactionRepository.count()).isOne();
+        assertThat(getCheckpoint("crypto_transfer")).isEqualTo(recordFile.getConsensusEnd());
+        assertThat(getCheckpoint("record_file")).isNull();
+        assertThat(getCheckpoint("transaction")).isNull();
+    }
+
+    @EnabledIfV2
+    @Test
+    void pruneEverythingDropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        jdbcOperations.execute(
+                "create table topic_message_expired partition of topic_message for values from ('0') to ('1000000')");
+        domainBuilder.topicMessage().customize(t -> t.consensusTimestamp(1L)).persist();
+        domainBuilder
+                .topicMessageLookup()
+                .customize(l -> l.partition("topic_message_expired").timestampRange(Range.closedOpen(1L, 2L)))
+                .persist();
+        var current = domainBuilder
+                .topicMessageLookup()
+                .customize(l -> l.timestampRange(Range.closedOpen(domainBuilder.timestamp(), Long.MAX_VALUE)))
+                .persist();
+        recordFile();
+        recordFile();
+        recordFile();
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(timePartitionService.getTimePartitions("topic_message"))
+                .isNotEmpty()
+                .extracting(TimePartition::getName)
+                .doesNotContain("topic_message_expired");
+        assertThat(jdbcOperations.queryForObject(
+                        "select count(*) from pg_class where relname = 'topic_message_expired'", Integer.class))
+                .isZero();
+        assertThat(topicMessageLookupRepository.findAll()).containsExactly(current);
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    private Long getCheckpoint(String table) {
+        return jdbcOperations
+                .queryForList(
+                        "select consensus_timestamp from retention_checkpoint where table_name = ?", Long.class, table)
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
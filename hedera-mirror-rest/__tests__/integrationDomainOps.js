@@ -54,6 +54,7 @@ const setup = async (testDataJson) => {
   await loadEntities(testDataJson.entities);
   await loadEntityStakes(testDataJson.entityStakes);
   await loadEthereumTransactions(testDataJson.ethereumtransactions);
+  await loadFeeTransfers(testDataJson.feeTransfers);
   await loadFileData(testDataJson.filedata);
   await loadNetworkStakes(testDataJson.networkstakes);
   await loadNfts(testDataJson.nfts);
@@ -260,6 +261,16 @@ const loadEthereumTransactions = async (ethereumTransactions) => {
   }
 };
 
+const loadFeeTransfers = async (feeTransfers) => {
+  if (feeTransfers == null) {
+    return;
+  }
+
+  for (const feeTransfer of feeTransfers) {
+    await addFeeTransfer(feeTransfer);
+  }
+};
+
 const loadFileData = async (fileData) => {
   if (fileData == null) {
     return;
@@ -1202,6 +1213,15 @@ const defaultStakingRewardTransfer = {
   payer_account_id: 950,
 };
 
+const addFeeTransfer = async (feeTransfer) => {
+  const insertFields = ['amounts', 'consensus_timestamp', 'entity_ids', 'payer_account_id'];
+  await insertDomainObject('fee_transfer', insertFields, {
+    ...feeTransfer,
+    entity_ids: feeTransfer.entity_ids.map((entityId) => EntityId.parse(entityId).getEncodedId()),
+    payer_account_id: EntityId.parse(feeTransfer.payer_account_id).getEncodedId(),
+  });
+};
+
 const addStakingRewardTransfer = async (transfer) => {
   const account_id = transfer.account_id
     ? EntityId.parse(transfer.account_id).getEncodedId()
@@ -30,6 +30,7 @@ const {
   createNftTransferList,
   createTransferLists,
   extractSqlFromTransactionsByIdOrHashRequest,
+  getAccountCryptoTransfersQuery,
   getStakingRewardTimestamps,
   isValidTransactionHash,
 } = subject;
@@ -760,7 +761,7 @@ describe('extractSqlFromTransactionsByIdOrHashRequest', () => {
       t.index,
       (
           select jsonb_agg(jsonb_build_object('amount', amount, 'entity_id', ctr.entity_id, 'is_approval', is_approval) order by ctr.entity_id, amount)
-          from crypto_transfer ctr
+          from crypto_transfer_all ctr
           where consensus_timestamp = t.consensus_timestamp and payer_account_id = $1 and consensus_timestamp >= $2 and consensus_timestamp <= $3
       ) as crypto_transfer_list,
       (
@@ -1078,3 +1079,38 @@ describe('getStakingRewardTimestamps', () => {
     expect(getStakingRewardTimestamps(transactions)).toEqual(expected);
   });
 });
+
+describe('getAccountCryptoTransfersQuery', () => {
+  const testSpecs = [
+    {
+      name: 'equal',
+      accountQuery: 'ctl.entity_id = ?acct0',
+      expected: 'where ftr.entity_ids @> array[?acct0]::bigint[]',
+    },
+    {
+      name: 'in',
+      accountQuery: 'ctl.entity_id IN (?acct0, ?acct1)',
+      expected: 'where ftr.entity_ids && array[?acct0, ?acct1]::bigint[]',
+    },
+    {
+      name: 'range',
+      accountQuery: 'ctl.entity_id > ?acct0 and ctl.entity_id < ?acct1',
+      expected: 'where true and true',
+    },
+    {
+      name: 'in and range',
+      accountQuery: 'ctl.entity_id IN (?acct0) and ctl.entity_id <= ?acct1',
+      expected: 'where ftr.entity_ids && array[?acct0]::bigint[] and true',
+    },
+  ];
+
+  testSpecs.forEach((spec) => {
+    test(spec.name, () => {
+      const query = getAccountCryptoTransfersQuery(spec.accountQuery);
+      expect(query).toContain(spec.expected);
+      expect(query).toContain('from crypto_transfer\n');
+      expect(query).toContain('unnest(ftr.entity_ids, ftr.amounts)');
+      expect(query).not.toContain('crypto_transfer_all');
+    });
+  });
+});
@@ -27,6 +27,8 @@ class CryptoTransfer {
 
   static tableAlias = 'ctr';
   static tableName = 'crypto_transfer';
+  // Includes the fee credits the importer stores compactly in fee_transfer, so readers must query it instead of the table
+  static viewName = 'crypto_transfer_all';
 
   static AMOUNT = 'amount';
   static CONSENSUS_TIMESTAMP = 'consensus_timestamp';
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+class FeeTransfer {
+  /**
+   * Parses fee_transfer table columns into object
+   */
+  constructor(feeTransfer) {
+    this.amounts = feeTransfer.amounts;
+    this.consensusTimestamp = feeTransfer.consensus_timestamp;
+    this.entityIds = feeTransfer.entity_ids;
+    this.payerAccountId = feeTransfer.payer_account_id;
+  }
+
+  static tableAlias = 'ftr';
+  static tableName = 'fee_transfer';
+
+  static AMOUNTS = 'amounts';
+  static CONSENSUS_TIMESTAMP = 'consensus_timestamp';
+  static ENTITY_IDS = 'entity_ids';
+  static PAYER_ACCOUNT_ID = 'payer_account_id';
+
+  /**
+   * Gets full column name with table alias prepended.
+   *
+   * @param {string} columnName
+   * @private
+   */
+  static getFullName(columnName) {
+    return `${this.tableAlias}.${columnName}`;
+  }
+}
+
+export default FeeTransfer;
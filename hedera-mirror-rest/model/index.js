@@ -30,6 +30,7 @@ import CustomFee from './customFee';
 import Entity from './entity';
 import EthereumTransaction from './ethereumTransaction';
 import ExchangeRate from './exchangeRate';
+import FeeTransfer from './feeTransfer';
 import FileData from './fileData';
 import NetworkNode from './networkNode';
 import NetworkStake from './networkStake';
@@ -74,6 +75,7 @@ export {
   Entity,
   EthereumTransaction,
   ExchangeRate,
+  FeeTransfer,
   FileData,
   NetworkNode,
   NetworkStake,
@@ -26,6 +26,7 @@ import * as utils from './utils';
 import {
   AssessedCustomFee,
   CryptoTransfer,
+  FeeTransfer,
   NftTransfer,
   StakingRewardTransfer,
   TokenTransfer,
@@ -136,7 +137,7 @@ const getSelectClauseWithTransfers = (innerQuery, order = 'desc') => {
 
   const cryptoTransferListCte = `c_list as (
       select ${cryptoTransferJsonAgg} as ctr_list, ${CryptoTransfer.getFullName(CryptoTransfer.CONSENSUS_TIMESTAMP)}
-      from ${additionalFromTable} ${CryptoTransfer.tableName} ${CryptoTransfer.tableAlias}
+      from ${additionalFromTable} ${CryptoTransfer.viewName} ${CryptoTransfer.tableAlias}
       join tlist on ${CryptoTransfer.getFullName(CryptoTransfer.CONSENSUS_TIMESTAMP)} = tlist.consensus_timestamp
       and ${CryptoTransfer.getFullName(CryptoTransfer.PAYER_ACCOUNT_ID)} = tlist.payer_account_id
       ${cryptoTransferListCteWhereClause} group by ${CryptoTransfer.getFullName(CryptoTransfer.CONSENSUS_TIMESTAMP)}
@@ -458,6 +459,42 @@ const getTransferDistinctTimestampsQuery = function (
     ${namedLimitQuery}`;
 };
 
+/**
+ * Gets the crypto transfers to search when filtering by account. The fee credits stored compactly in fee_transfer are
+ * matched by the gin index on its entity_ids before they're unnested, instead of unnesting every fee_transfer row as
+ * the crypto_transfer_all view does. Account range conditions can't use the index and match every fee transfer.
+ *
+ * @param {string} namedAccountQuery - Account query with named parameters on ctl.entity_id
+ * @return {string} - The subquery with the same columns as crypto_transfer_all
+ */
+const getAccountCryptoTransfersQuery = (namedAccountQuery) => {
+  const entityIds = FeeTransfer.getFullName(FeeTransfer.ENTITY_IDS);
+  const feeTransferAccountQuery = namedAccountQuery
+    .split(' and ')
+    .map((condition) => {
+      const equal = condition.match(/^ctl\.entity_id\s*=\s*(\?\w+)$/);
+      if (equal) {
+        return `${entityIds} @> array[${equal[1]}]::bigint[]`;
+      }
+
+      const inList = condition.match(/^ctl\.entity_id IN \((.+)\)$/);
+      return inList ? `${entityIds} && array[${inList[1]}]::bigint[]` : 'true';
+    })
+    .join(' and ');
+
+  return `(
+    select ${CryptoTransfer.AMOUNT}, ${CryptoTransfer.CONSENSUS_TIMESTAMP}, ${CryptoTransfer.ENTITY_ID},
+      ${CryptoTransfer.PAYER_ACCOUNT_ID}
+    from ${CryptoTransfer.tableName}
+    union all
+    select t.amount, ${FeeTransfer.getFullName(FeeTransfer.CONSENSUS_TIMESTAMP)}, t.entity_id,
+      ${FeeTransfer.getFullName(FeeTransfer.PAYER_ACCOUNT_ID)}
+    from ${FeeTransfer.tableName} ${FeeTransfer.tableAlias},
+      unnest(${entityIds}, ${FeeTransfer.getFullName(FeeTransfer.AMOUNTS)}) as t(entity_id, amount)
+    where ${feeTransferAccountQuery}
+  )`;
+};
+
 // the condition to exclude synthetic transactions attached to a user submitted transaction
 const transactionByPayerExcludeSyntheticCondition = `${Transaction.getFullName(Transaction.NONCE)} = 0 or
   ${Transaction.getFullName(Transaction.PARENT_CONSENSUS_TIMESTAMP)} is not null`;
@@ -516,7 +553,7 @@ const getTransactionsInnerQuery = function (
 
   if (creditDebitQuery || namedAccountQuery) {
     const ctlQuery = getTransferDistinctTimestampsQuery(
-      CryptoTransfer.tableName,
+      namedAccountQuery ? getAccountCryptoTransfersQuery(namedAccountQuery) : CryptoTransfer.viewName,
       'ctl',
       namedTsQuery,
       CryptoTransfer.CONSENSUS_TIMESTAMP,
@@ -699,7 +736,7 @@ const getTransactionQuery = (mainCondition, subQueryCondition) => {
     ${transactionFullFields},
     (
       select ${cryptoTransferJsonAgg}
-      from ${CryptoTransfer.tableName} ${CryptoTransfer.tableAlias}
+      from ${CryptoTransfer.viewName} ${CryptoTransfer.tableAlias}
       where ${CryptoTransfer.CONSENSUS_TIMESTAMP} = t.consensus_timestamp and ${subQueryCondition}
     ) as crypto_transfer_list,
     (
@@ -864,6 +901,7 @@ if (utils.isTestEnv()) {
     createStakingRewardTransferList,
     createTokenTransferList,
     extractSqlFromTransactionsByIdOrHashRequest,
+    getAccountCryptoTransfersQuery,
     getStakingRewardTimestamps,
     isValidTransactionHash,
     reqToSql,
@@ -39,7 +39,7 @@ import (
 const (
 	balanceChangeBetween = "with" + genesisTimestampCte + `select
                               coalesce((
-                                select sum(amount) from crypto_transfer
+                                select sum(amount) from crypto_transfer_all
                                 where
                                   consensus_timestamp > @start and
                                   consensus_timestamp <= @end and
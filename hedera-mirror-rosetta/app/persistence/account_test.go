@@ -273,6 +273,28 @@ func (suite *accountRepositorySuite) TestRetrieveBalanceAtBlock() {
 	assert.ElementsMatch(suite.T(), expectedAmounts, actualAmounts)
 }
 
+func (suite *accountRepositorySuite) TestRetrieveBalanceAtBlockWithFeeTransfer() {
+	// given
+	// fee credits are stored in fee_transfer and should be applied on top of the snapshot as well
+	accountId := suite.accountId
+	tdomain.NewFeeTransferBuilder(dbClient).
+		Transfer(treasury, 20).
+		Transfer(account1, 30).
+		Timestamp(firstSnapshotTimestamp + 3).
+		Persist()
+	hbarAmount := &types.HbarAmount{Value: initialAccountBalance + sum(cryptoTransferAmounts) + 30}
+	expectedAmounts := types.AmountSlice{hbarAmount}
+	repo := NewAccountRepository(dbClient)
+
+	// when
+	actualAmounts, accountIdString, err := repo.RetrieveBalanceAtBlock(defaultContext, accountId, consensusTimestamp)
+
+	// then
+	assert.Nil(suite.T(), err)
+	assert.Equal(suite.T(), suite.accountIdString, accountIdString)
+	assert.ElementsMatch(suite.T(), expectedAmounts, actualAmounts)
+}
+
 func (suite *accountRepositorySuite) TestRetrieveBalanceAtBlockAfterSecondSnapshot() {
 	// given
 	// remove any transfers in db. with the balance info in the second snapshot, this test verifies the account balance
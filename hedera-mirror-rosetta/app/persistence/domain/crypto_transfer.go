@@ -27,6 +27,8 @@ const (
 	cryptoTransferTableName = "crypto_transfer"
 )
 
+// CryptoTransfer is a row of the crypto_transfer table. The fee credits are stored in fee_transfer instead, so queries
+// read the individual transfers through the crypto_transfer_all view
 type CryptoTransfer struct {
 	Amount             int64
 	ConsensusTimestamp int64
@@ -0,0 +1,38 @@
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2023 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+package domain
+
+import "github.com/lib/pq"
+
+const tableNameFeeTransfer = "fee_transfer"
+
+// FeeTransfer is the hbar fee credits of a transaction stored compactly in one row. Read the individual transfers
+// through the crypto_transfer_all view
+type FeeTransfer struct {
+	Amounts            pq.Int64Array `gorm:"type:bigint[]"`
+	ConsensusTimestamp int64
+	EntityIds          pq.Int64Array `gorm:"type:bigint[]"`
+	PayerAccountId     EntityId
+}
+
+func (FeeTransfer) TableName() string {
+	return tableNameFeeTransfer
+}
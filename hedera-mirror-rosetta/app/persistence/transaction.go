@@ -60,7 +60,7 @@ const (
                                               select json_agg(json_build_object(
                                                 'account_id', entity_id,
                                                 'amount', amount) order by entity_id)
-                                              from crypto_transfer
+                                              from crypto_transfer_all
                                               where consensus_timestamp = t.consensus_timestamp and
                                                 (errata is null or errata <> 'DELETE')
                                             ), '[]') as crypto_transfers,
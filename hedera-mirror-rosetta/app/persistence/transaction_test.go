@@ -530,19 +530,20 @@ func (suite *transactionRepositorySuite) setupDb() []*types.Transaction {
 		[]byte{0x1, 0x2, 0x3}, domain.TransactionTypeCryptoTransfer, validStartNs, cryptoTransfers, itemizedTransfer,
 		[]byte("simple transfer"))
 
-	// duplicate transaction
+	// duplicate transaction with the fee credits stored in fee_transfer
 	consensusTimestamp += 1
 	cryptoTransfers = []domain.CryptoTransfer{
 		{Amount: -15, ConsensusTimestamp: consensusTimestamp, EntityId: firstEntityId,
 			PayerAccountId: firstEntityId},
-		{Amount: 5, ConsensusTimestamp: consensusTimestamp, EntityId: nodeEntityId,
-			PayerAccountId: firstEntityId},
-		{Amount: 10, ConsensusTimestamp: consensusTimestamp, EntityId: feeCollectorEntityId,
-			PayerAccountId: firstEntityId},
 	}
 	addTransaction(dbClient, consensusTimestamp, nil, &nodeEntityId, firstEntityId, 11,
 		[]byte{0x1, 0x2, 0x3}, domain.TransactionTypeCryptoTransfer, validStartNs, cryptoTransfers, nil,
 		[]byte("simple transfer"))
+	tdomain.NewFeeTransferBuilder(dbClient).
+		Transfer(nodeEntityId.EncodedId, 5).
+		Transfer(feeCollectorEntityId.EncodedId, 10).
+		Timestamp(consensusTimestamp).
+		Persist()
 	operationType := types.OperationTypeCryptoTransfer
 	operations1 := types.OperationSlice{
 		{AccountId: firstAccountId, Amount: &types.HbarAmount{Value: -135}, Type: operationType, Status: resultSuccess},
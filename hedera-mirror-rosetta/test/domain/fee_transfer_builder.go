@@ -0,0 +1,53 @@
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2023 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+package domain
+
+import (
+	"github.com/hashgraph/hedera-mirror-node/hedera-mirror-rosetta/app/interfaces"
+	"github.com/hashgraph/hedera-mirror-node/hedera-mirror-rosetta/app/persistence/domain"
+)
+
+type FeeTransferBuilder struct {
+	dbClient    interfaces.DbClient
+	feeTransfer domain.FeeTransfer
+}
+
+func (b *FeeTransferBuilder) Transfer(entityId int64, amount int64) *FeeTransferBuilder {
+	b.feeTransfer.EntityIds = append(b.feeTransfer.EntityIds, entityId)
+	b.feeTransfer.Amounts = append(b.feeTransfer.Amounts, amount)
+	return b
+}
+
+func (b *FeeTransferBuilder) Timestamp(timestamp int64) *FeeTransferBuilder {
+	b.feeTransfer.ConsensusTimestamp = timestamp
+	return b
+}
+
+func (b *FeeTransferBuilder) Persist() {
+	b.dbClient.GetDb().Create(&b.feeTransfer)
+}
+
+func NewFeeTransferBuilder(dbClient interfaces.DbClient) *FeeTransferBuilder {
+	return &FeeTransferBuilder{
+		dbClient:    dbClient,
+		feeTransfer: domain.FeeTransfer{PayerAccountId: defaultPayer},
+	}
+}